@@ -6,7 +6,8 @@ import lombok.Getter;
 
 @Entity
 @Getter
-@Table(name = "collection_newsletters")
+@Table(name = "collection_newsletters",
+        indexes = @Index(name = "idx_collection_newsletters_collection", columnList = "collection_id, id"))
 public class CollectionNewsletter {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
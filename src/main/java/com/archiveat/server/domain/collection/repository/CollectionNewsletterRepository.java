@@ -2,11 +2,34 @@ package com.archiveat.server.domain.collection.repository;
 
 import com.archiveat.server.domain.collection.entity.CollectionNewsletter;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface CollectionNewsletterRepository extends JpaRepository<CollectionNewsletter, Long> {
     // 특정 컬렉션에 포함된 모든 뉴스레터 연결 정보를 조회합니다.
     List<CollectionNewsletter> findAllByCollectionId(Long collectionId);
+
+    /**
+     * 여러 컬렉션의 썸네일을 컬렉션마다 앞에서 limit개씩 한 번에 조회합니다. [collectionId, thumbnailUrl]
+     * 컬렉션 수만큼 반복 조회하지 않도록 ROW_NUMBER로 컬렉션별 순위를 매겨 자릅니다.
+     */
+    @Query(value = "SELECT ranked.collection_id, ranked.thumbnail_url FROM (" +
+            "    SELECT cn.collection_id, n.thumbnail_url, " +
+            "           ROW_NUMBER() OVER (PARTITION BY cn.collection_id ORDER BY cn.id) AS rn " +
+            "    FROM collection_newsletters cn " +
+            "    JOIN newsletters n ON n.id = cn.newsletter_id " +
+            "    WHERE cn.collection_id IN (:collectionIds)" +
+            ") ranked " +
+            "WHERE ranked.rn <= :limit " +
+            "ORDER BY ranked.collection_id, ranked.rn",
+            nativeQuery = true)
+    List<Object[]> findTopThumbnailUrlsByCollectionIdIn(
+            @Param("collectionIds") Collection<Long> collectionIds,
+            @Param("limit") int limit
+    );
 }
@@ -5,11 +5,13 @@ import com.archiveat.server.domain.explore.dto.response.*;
 import com.archiveat.server.domain.explore.service.ExploreService;
 import com.archiveat.server.global.common.response.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RequiredArgsConstructor
 @RestController
@@ -20,43 +22,58 @@ public class ExploreController {
 
     /**
      * 사용자의 뉴스레터 보관함 상태와 카테고리별 통계를 조회합니다.
+     * If-None-Match가 현재 화면 버전과 같으면 응답을 만들지 않고 304를 반환합니다.
      */
     @GetMapping
     public ApiResponse<ExploreResponse> getExploreData(
-            @AuthenticationPrincipal Long userId
+            @AuthenticationPrincipal Long userId,
+            WebRequest webRequest,
+            HttpServletResponse httpResponse
     ) {
+        httpResponse.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().cachePrivate().getHeaderValue());
+        String eTag = exploreService.getExploreETag(userId);
+        if (eTag != null && webRequest.checkNotModified(eTag)) {
+            return null; // 304
+        }
+
         ExploreResponse response = exploreService.getExploreData(userId);
 
         return ApiResponse.ok(response);
     }
 
     /**
-     * 특정 토픽에 속한 뉴스레터 목록을 페이징하여 조회합니다.
+     * 특정 토픽에 속한 뉴스레터 목록을 최신순으로 조회합니다. (키셋 페이지네이션)
      * @param topicId 조회할 토픽의 식별자
-     * @param pageable 페이징 파라미터 (page, size)
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 생략)
+     * @param size 페이지 크기 (최대 50)
      */
     @GetMapping("/topic/{topicId}/user-newsletters")
     public ApiResponse<TopicNewslettersResponse> getTopicNewsletters(
             @AuthenticationPrincipal Long userId,
             @PathVariable Long topicId,
-            @PageableDefault(size = 20) Pageable pageable
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
     ) {
-        TopicNewslettersResponse response = exploreService.getTopicNewsletters(userId, topicId, pageable);
+        TopicNewslettersResponse response = exploreService.getTopicNewsletters(userId, topicId, cursor, size);
 
         return ApiResponse.ok(response);
     }
 
     /**
      * [방금 담은 지식(INBOX) 조회]
-     * 사용자의 미확정 뉴스레터 목록을 날짜별로 그룹화하여 조회합니다.
+     * 사용자의 미확정 뉴스레터 목록을 최신순으로 페이지 단위로 읽어 날짜별로 그룹화하여 조회합니다.
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 생략)
+     * @param size 페이지 크기 (최대 50)
      */
-    @Operation(summary = "인박스(뉴스레터) 목록 조회", description = "사용자가 저장했고 아직 확인하지 않은 뉴스레터들을 날짜별로 묶어서 반환합니다.")
+    @Operation(summary = "인박스(뉴스레터) 목록 조회", description = "사용자가 저장했고 아직 확인하지 않은 뉴스레터들을 날짜별로 묶어서 반환합니다. 다음 페이지는 nextCursor로 조회합니다.")
     @GetMapping("/inbox")
     public ApiResponse<InboxResponse> getInbox(
-            @AuthenticationPrincipal Long userId
+            @AuthenticationPrincipal Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
     ) {
         // 기존 User 객체 대신 userId를 전달하도록 변경하여 컨벤션을 통일합니다.
-        InboxResponse response = exploreService.getInbox(userId);
+        InboxResponse response = exploreService.getInbox(userId, cursor, size);
         return ApiResponse.ok(response);
     }
 
@@ -84,8 +101,16 @@ public class ExploreController {
     @GetMapping("/inbox/{userNewsletterId}")
     public ApiResponse<InboxEditResponse> getInboxEditData(
             @AuthenticationPrincipal Long userId,
-            @PathVariable Long userNewsletterId
+            @PathVariable Long userNewsletterId,
+            WebRequest webRequest,
+            HttpServletResponse httpResponse
     ) {
+        httpResponse.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().cachePrivate().getHeaderValue());
+        String eTag = exploreService.getInboxEditETag(userId, userNewsletterId);
+        if (eTag != null && webRequest.checkNotModified(eTag)) {
+            return null; // 304
+        }
+
         InboxEditResponse response = exploreService.getInboxEditData(userId, userNewsletterId);
 
         return ApiResponse.ok(response);
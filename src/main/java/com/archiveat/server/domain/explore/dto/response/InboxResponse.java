@@ -5,9 +5,14 @@ import lombok.Builder;
 
 import java.util.List;
 
+/**
+ * 인박스 목록 (키셋 페이지네이션)
+ * 페이지 경계에서 같은 날짜 그룹이 다음 페이지로 이어질 수 있으므로, 클라이언트는 date가 같으면 이어 붙입니다.
+ */
 @Builder
 public record InboxResponse(
-        List<InboxDateGroupDto> inbox
+        List<InboxDateGroupDto> inbox,
+        String nextCursor // 다음 페이지 커서 (마지막 페이지면 null)
 ) {
     @Builder
     public record InboxDateGroupDto(
@@ -21,6 +26,7 @@ public record InboxResponse(
             LlmStatus llmStatus,
             String contentUrl,
             String title,
+            String thumbnailUrl,
             String domainName,
             String createdAt,
             CategoryDto category,
@@ -10,6 +10,7 @@ public record TopicNewslettersResponse(
         Long topicId,
         String topicName,
         boolean hasNext,
+        String nextCursor, // 다음 페이지 커서 (마지막 페이지면 null)
         List<NewsletterItemResponse> newsletters
 ) {
     /**
@@ -1,5 +1,6 @@
 package com.archiveat.server.domain.explore.entity;
 
+import com.archiveat.server.domain.explore.taxonomy.TaxonomyEntityListener;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -9,6 +10,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@EntityListeners(TaxonomyEntityListener.class) // 변경 시 메모리 스냅샷 갱신
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Table(name = "categories")
@@ -1,11 +1,13 @@
 package com.archiveat.server.domain.explore.entity;
 
+import com.archiveat.server.domain.explore.taxonomy.TaxonomyEntityListener;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
+@EntityListeners(TaxonomyEntityListener.class) // 변경 시 메모리 스냅샷 갱신
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Table(name = "topics")
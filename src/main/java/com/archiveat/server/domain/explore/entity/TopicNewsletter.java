@@ -6,7 +6,8 @@ import lombok.Getter;
 
 @Entity
 @Getter
-@Table(name = "topic_newsletters")
+@Table(name = "topic_newsletters",
+        indexes = @Index(name = "idx_topic_newsletters_newsletter", columnList = "newsletter_id, topic_id"))
 public class TopicNewsletter {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
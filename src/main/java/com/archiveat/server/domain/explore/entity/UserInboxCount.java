@@ -0,0 +1,25 @@
+package com.archiveat.server.domain.explore.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자별 인박스(미확인) 뉴스레터 수 (탐색 화면용 카운터)
+ *
+ * 저장/삭제/확인 시 ExploreCounterRepository가 같은 트랜잭션에서 갱신합니다.
+ * 행이 없으면 0개입니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "user_inbox_counts")
+public class UserInboxCount {
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(nullable = false)
+    private int unconfirmedCount;
+}
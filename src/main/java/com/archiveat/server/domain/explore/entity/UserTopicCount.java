@@ -0,0 +1,32 @@
+package com.archiveat.server.domain.explore.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자별 토픽 뉴스레터 수 (탐색 화면용 카운터)
+ *
+ * 저장/삭제/요약 완료 시 ExploreCounterRepository가 같은 트랜잭션에서 갱신합니다.
+ * 행이 없으면 0개입니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "user_topic_counts",
+        uniqueConstraints = @UniqueConstraint(name = "uk_user_topic_counts_user_topic", columnNames = {"user_id", "topic_id"}))
+public class UserTopicCount {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "topic_id", nullable = false)
+    private Long topicId;
+
+    @Column(nullable = false)
+    private long newsletterCount;
+}
@@ -0,0 +1,131 @@
+package com.archiveat.server.domain.explore.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 탐색 화면 카운터 갱신 (user_topic_counts, user_inbox_counts)
+ *
+ * 탐색 화면이 사용자의 전체 저장 이력을 GROUP BY 하지 않도록, 변경 시점에 카운터를 upsert로 증감합니다.
+ * 호출한 JPA 트랜잭션의 커넥션을 그대로 사용하므로 원본 데이터 변경과 함께 커밋/롤백됩니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ExploreCounterRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 사용자가 Newsletter들을 저장(+1)/삭제(-1)했을 때 연결된 토픽의 카운터 증감
+     */
+    public void addTopicCounts(Long userId, Collection<Long> newsletterIds, int delta) {
+        if (newsletterIds.isEmpty()) {
+            return;
+        }
+        List<Object> args = new ArrayList<>();
+        args.add(userId);
+        args.add(delta);
+        args.addAll(newsletterIds);
+        jdbcTemplate.update(
+                "INSERT INTO user_topic_counts (user_id, topic_id, newsletter_count) " +
+                        "SELECT ?, tn.topic_id, ? * COUNT(*) FROM topic_newsletters tn " +
+                        "WHERE tn.newsletter_id IN (" + placeholders(newsletterIds.size()) + ") " +
+                        "GROUP BY tn.topic_id " +
+                        "ON CONFLICT (user_id, topic_id) DO UPDATE SET " +
+                        "newsletter_count = GREATEST(user_topic_counts.newsletter_count + EXCLUDED.newsletter_count, 0)",
+                args.toArray());
+    }
+
+    /**
+     * Newsletter에 연결된 토픽의 카운터를 저장한 모든 사용자에 대해 다시 계산
+     * 요약 완료 시점에 토픽 연결(topic_newsletters)이 새로 생겼을 수 있으므로 증감 대신 원본에서 다시 셉니다.
+     * 다시 세는 범위는 (저장한 사용자, 이 Newsletter의 토픽) 조합으로 한정됩니다.
+     */
+    public int refreshTopicCounts(Long newsletterId) {
+        return jdbcTemplate.update(
+                "INSERT INTO user_topic_counts (user_id, topic_id, newsletter_count) " +
+                        "SELECT pair.user_id, pair.topic_id, (" +
+                        "    SELECT COUNT(*) FROM user_newsletters un " +
+                        "    JOIN topic_newsletters tn ON tn.newsletter_id = un.newsletter_id " +
+                        "    WHERE un.user_id = pair.user_id AND tn.topic_id = pair.topic_id) " +
+                        "FROM (SELECT DISTINCT un.user_id, tn.topic_id FROM user_newsletters un " +
+                        "      JOIN topic_newsletters tn ON tn.newsletter_id = un.newsletter_id " +
+                        "      WHERE un.newsletter_id = ?) pair " +
+                        "ON CONFLICT (user_id, topic_id) DO UPDATE SET newsletter_count = EXCLUDED.newsletter_count",
+                newsletterId);
+    }
+
+    /**
+     * 인박스(미확인) 개수 증감: 저장 +n, 확인 또는 미확인 상태에서 삭제 -n
+     */
+    public void addInboxCount(Long userId, int delta) {
+        if (delta == 0) {
+            return;
+        }
+        jdbcTemplate.update(
+                "INSERT INTO user_inbox_counts (user_id, unconfirmed_count) VALUES (?, GREATEST(?, 0)) " +
+                        "ON CONFLICT (user_id) DO UPDATE SET " +
+                        "unconfirmed_count = GREATEST(user_inbox_counts.unconfirmed_count + ?, 0)",
+                userId, delta, delta);
+    }
+
+    /**
+     * 두 카운터를 원본(user_newsletters, topic_newsletters)에서 다시 계산 (카운터 도입 이전 데이터 채우기)
+     *
+     * 테이블 잠금(SHARE ROW EXCLUSIVE)으로 카운터를 바꾸는 트랜잭션이 끝나기를 기다린 뒤 집계하고, 집계 중에는 새 증감을 막습니다.
+     * 잠금을 기다리던 저장/삭제는 집계에 포함되지 않은 상태에서 이어서 증감하므로 값이 어긋나지 않습니다.
+     * 여러 노드가 동시에 기동하면 advisory lock을 먼저 잡은 노드만 실행하고, 나머지는 테이블 잠금 뒤에 줄 서지 않고 건너뜁니다.
+     *
+     * @return 값이 바뀐 카운터 행 수, 다른 노드가 실행 중이면 empty
+     */
+    @Transactional
+    public Optional<Integer> backfill() {
+        Boolean locked = jdbcTemplate.queryForObject(
+                "SELECT pg_try_advisory_xact_lock(hashtext('explore_counter_backfill'))", Boolean.class);
+        if (!Boolean.TRUE.equals(locked)) {
+            return Optional.empty();
+        }
+        jdbcTemplate.execute("LOCK TABLE user_topic_counts, user_inbox_counts IN SHARE ROW EXCLUSIVE MODE");
+
+        int topicRows = jdbcTemplate.update(
+                "INSERT INTO user_topic_counts (user_id, topic_id, newsletter_count) " +
+                        "SELECT un.user_id, tn.topic_id, COUNT(*) FROM user_newsletters un " +
+                        "JOIN topic_newsletters tn ON tn.newsletter_id = un.newsletter_id " +
+                        "GROUP BY un.user_id, tn.topic_id " +
+                        "ON CONFLICT (user_id, topic_id) DO UPDATE SET newsletter_count = EXCLUDED.newsletter_count " +
+                        "WHERE user_topic_counts.newsletter_count <> EXCLUDED.newsletter_count");
+        topicRows += jdbcTemplate.update(
+                "UPDATE user_topic_counts c SET newsletter_count = 0 " +
+                        "WHERE c.newsletter_count <> 0 AND NOT EXISTS (" +
+                        "    SELECT 1 FROM user_newsletters un " +
+                        "    JOIN topic_newsletters tn ON tn.newsletter_id = un.newsletter_id " +
+                        "    WHERE un.user_id = c.user_id AND tn.topic_id = c.topic_id)");
+
+        int inboxRows = jdbcTemplate.update(
+                "INSERT INTO user_inbox_counts (user_id, unconfirmed_count) " +
+                        "SELECT un.user_id, COUNT(*) FROM user_newsletters un " +
+                        "WHERE un.is_confirmed = false " +
+                        "GROUP BY un.user_id " +
+                        "ON CONFLICT (user_id) DO UPDATE SET unconfirmed_count = EXCLUDED.unconfirmed_count " +
+                        "WHERE user_inbox_counts.unconfirmed_count <> EXCLUDED.unconfirmed_count");
+        inboxRows += jdbcTemplate.update(
+                "UPDATE user_inbox_counts c SET unconfirmed_count = 0 " +
+                        "WHERE c.unconfirmed_count <> 0 AND NOT EXISTS (" +
+                        "    SELECT 1 FROM user_newsletters un " +
+                        "    WHERE un.user_id = c.user_id AND un.is_confirmed = false)");
+
+        return Optional.of(topicRows + inboxRows);
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+}
@@ -0,0 +1,9 @@
+package com.archiveat.server.domain.explore.repository;
+
+import com.archiveat.server.domain.explore.entity.UserInboxCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface UserInboxCountRepository extends JpaRepository<UserInboxCount, Long> {
+}
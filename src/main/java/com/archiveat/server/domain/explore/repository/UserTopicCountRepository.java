@@ -0,0 +1,12 @@
+package com.archiveat.server.domain.explore.repository;
+
+import com.archiveat.server.domain.explore.entity.UserTopicCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface UserTopicCountRepository extends JpaRepository<UserTopicCount, Long> {
+    List<UserTopicCount> findAllByUserId(Long userId);
+}
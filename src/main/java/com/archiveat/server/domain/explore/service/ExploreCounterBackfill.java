@@ -0,0 +1,48 @@
+package com.archiveat.server.domain.explore.service;
+
+import com.archiveat.server.domain.explore.repository.ExploreCounterRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * 기동 시 탐색 화면 카운터(user_topic_counts, user_inbox_counts)를 원본 데이터로 채움
+ *
+ * 카운터는 저장/삭제/확인 시점에만 증감하므로, 카운터 도입 전에 저장된 뉴스레터는 이 작업으로 한 번 채워야 합니다.
+ * 기본값은 꺼져 있으며, 카운터를 도입하는 배포에서 한 번만 explore.counters.backfill-on-startup=true로 기동하면 됩니다.
+ * 이미 맞는 행은 건드리지 않고 동시에 기동한 노드 중 한 노드만 실행하므로, 켜 둔 채 여러 노드가 기동해도 됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ExploreCounterBackfill {
+
+    private final ExploreCounterRepository exploreCounterRepository;
+
+    @Value("${explore.counters.backfill-on-startup:false}")
+    private boolean enabled;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            long startTime = System.currentTimeMillis();
+            Optional<Integer> updated = exploreCounterRepository.backfill();
+            if (updated.isEmpty()) {
+                log.info("Explore counter backfill is running on another node, skipping");
+                return;
+            }
+            log.info("Explore counter backfill updated {} rows in {}ms",
+                    updated.get(), System.currentTimeMillis() - startTime);
+        } catch (Exception e) {
+            log.error("Failed to backfill explore counters", e);
+        }
+    }
+}
@@ -2,24 +2,33 @@ package com.archiveat.server.domain.explore.service;
 
 import com.archiveat.server.domain.explore.dto.request.ClassificationRequest;
 import com.archiveat.server.domain.explore.dto.response.*;
-import com.archiveat.server.domain.explore.entity.Category;
-import com.archiveat.server.domain.explore.entity.Topic;
-import com.archiveat.server.domain.explore.repository.CategoryRepository;
-import com.archiveat.server.domain.explore.repository.TopicRepository;
+import com.archiveat.server.domain.explore.entity.UserInboxCount;
+import com.archiveat.server.domain.explore.entity.UserTopicCount;
+import com.archiveat.server.domain.explore.repository.ExploreCounterRepository;
+import com.archiveat.server.domain.explore.repository.UserInboxCountRepository;
+import com.archiveat.server.domain.explore.repository.UserTopicCountRepository;
+import com.archiveat.server.domain.explore.taxonomy.Taxonomy;
+import com.archiveat.server.domain.explore.taxonomy.TaxonomyService;
 import com.archiveat.server.domain.newsletter.entity.Newsletter;
 import com.archiveat.server.domain.newsletter.entity.UserNewsletter;
 import com.archiveat.server.domain.newsletter.repository.UserNewsletterRepository;
+import com.archiveat.server.global.cache.UserView;
+import com.archiveat.server.global.cache.UserViewCache;
+import com.archiveat.server.global.cache.UserViewInvalidatedEvent;
 import com.archiveat.server.global.common.constant.LlmStatus;
 import com.archiveat.server.global.common.response.ErrorCode;
 import com.archiveat.server.global.exception.CustomException;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Slice;
+import com.archiveat.server.global.util.CreatedAtCursor;
+import com.archiveat.server.global.util.ETags;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.transaction.annotation.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -30,61 +39,97 @@ import static com.archiveat.server.global.common.constant.DateTimeConstant.*;
 @RequiredArgsConstructor
 public class ExploreService {
 
-    private final CategoryRepository categoryRepository;
+    private static final int MAX_PAGE_SIZE = 50;
+
     private final UserNewsletterRepository userNewsletterRepository;
-    private final TopicRepository topicRepository;
+    private final TaxonomyService taxonomyService;
+    private final UserTopicCountRepository userTopicCountRepository;
+    private final UserInboxCountRepository userInboxCountRepository;
+    private final ExploreCounterRepository exploreCounterRepository;
+    private final UserViewCache userViewCache;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     @Transactional(readOnly = true)
     public ExploreResponse getExploreData(Long userId) {
-        // 1. 인박스 개수 조회 (is_confirmed = false)
-        int inboxCount = userNewsletterRepository.countByUserIdAndIsConfirmedFalse(userId);
+        // 카테고리/토픽이 바뀌면 새로 계산되도록 스냅샷 version을 키에 포함
+        return userViewCache.get(UserView.EXPLORE, userId, taxonomyService.get().getVersion(),
+                ExploreResponse.class, () -> loadExploreData(userId));
+    }
+
+    /**
+     * 탐색 화면 ETag: 화면 캐시 버전 + 카테고리/토픽 스냅샷 version (응답을 만들지 않음)
+     * 탐색 화면에 영향을 주는 변경은 모두 EXPLORE 버전을 바꾸므로 버전이 같으면 응답도 같습니다.
+     *
+     * @return 버전을 읽을 수 없으면(캐시 꺼짐/Redis 장애) null
+     */
+    public String getExploreETag(Long userId) {
+        String version = userViewCache.version(UserView.EXPLORE, userId);
+        if (version == null) {
+            return null;
+        }
+        return ETags.of("explore", userId, version, taxonomyService.get().getVersion());
+    }
 
-        // 2. 유저의 토픽별 뉴스레터 개수 조회 및 Map으로 변환 (Key: topicId, Value: count)
-        Map<Long, Long> topicCountMap = userNewsletterRepository.countNewslettersByTopicForUser(userId)
+    private ExploreResponse loadExploreData(Long userId) {
+        // 1. 인박스 개수 조회 (저장/확인 시 갱신되는 카운터, 행이 없으면 0)
+        int inboxCount = userInboxCountRepository.findById(userId)
+                .map(UserInboxCount::getUnconfirmedCount)
+                .orElse(0);
+
+        // 2. 유저의 토픽별 뉴스레터 개수 (저장/삭제/요약 완료 시 갱신되는 카운터, Key: topicId, Value: count)
+        Map<Long, Long> topicCountMap = userTopicCountRepository.findAllByUserId(userId)
                 .stream()
                 .collect(Collectors.toMap(
-                        obj -> ((Number) obj[0]).longValue(), // topicId
-                        obj -> ((Number) obj[1]).longValue()  // newsletterCount
+                        UserTopicCount::getTopicId,
+                        UserTopicCount::getNewsletterCount
                 ));
 
-        // 3. 전체 카테고리 및 토픽 구조 조회
-        List<Category> allCategories = categoryRepository.findAll();
+        // 3. 전체 카테고리 및 토픽 구조 (메모리 스냅샷)
+        List<Taxonomy.CategoryNode> allCategories = taxonomyService.get().getCategories();
 
         // 4. DTO 조립
         List<ExploreResponse.CategoryExploreResponse> categories = allCategories.stream()
                 .map(category -> new ExploreResponse.CategoryExploreResponse(
-                        category.getId(),
-                        category.getName(),
-                        category.getTopics().stream()
+                        category.id(),
+                        category.name(),
+                        category.topics().stream()
                                 .map(topic -> new ExploreResponse.TopicExploreResponse(
-                                        topic.getId(),
-                                        topic.getName(),
-                                        topicCountMap.getOrDefault(topic.getId(), 0L)
+                                        topic.id(),
+                                        topic.name(),
+                                        topicCountMap.getOrDefault(topic.id(), 0L)
                                 ))
                                 .collect(Collectors.toList())
                 ))
                 .collect(Collectors.toList());
 
-        // 5. LLM 상태 결정 기본값 DONE
-        LlmStatus currentStatus = LlmStatus.DONE; // todo: 유저별 LLM 상태 로직 추가
+        // 5. LLM 상태: 인박스에 처리 중(PENDING/RUNNING)인 아이템이 있으면 RUNNING, 없으면 DONE
+        boolean processing = userNewsletterRepository.existsByUserIdAndIsConfirmedFalseAndNewsletter_LlmStatusIn(
+                userId, List.of(LlmStatus.PENDING, LlmStatus.RUNNING));
+        LlmStatus currentStatus = processing ? LlmStatus.RUNNING : LlmStatus.DONE;
 
         return new ExploreResponse(inboxCount, currentStatus, categories);
     }
 
     /**
-     * 특정 토픽의 뉴스레터 목록을 페이징하여 조회
+     * 특정 토픽의 뉴스레터 목록을 최신순으로 조회 (키셋 페이지네이션, OFFSET 없음)
      */
     @Transactional(readOnly = true)
-    public TopicNewslettersResponse getTopicNewsletters(Long userId, Long topicId, Pageable pageable) {
+    public TopicNewslettersResponse getTopicNewsletters(Long userId, Long topicId, String cursor, int size) {
         // 1. 토픽 이름 정보 확인
-        Topic topic = topicRepository.findById(topicId)
+        Taxonomy.TopicNode topic = taxonomyService.get().topic(topicId)
                 .orElseThrow(() -> new IllegalStateException("Topic not found. id=" + topicId));
 
-        // 2. 해당 토픽의 뉴스레터 슬라이스(Slice) 조회
-        Slice<UserNewsletter> newsletterSlice = userNewsletterRepository.findByUserIdAndTopicId(userId, topicId, pageable);
+        // 2. 커서 이후의 뉴스레터를 한 건 더 읽어 다음 페이지 여부 확인
+        int pageSize = Math.clamp(size, 1, MAX_PAGE_SIZE);
+        CreatedAtCursor position = CreatedAtCursor.decode(cursor);
+        List<UserNewsletter> rows = userNewsletterRepository.findByUserIdAndTopicId(
+                userId, topicId, position.createdAt(), position.id(), Limit.of(pageSize + 1));
+
+        boolean hasNext = rows.size() > pageSize;
+        List<UserNewsletter> page = hasNext ? rows.subList(0, pageSize) : rows;
 
         // 3. 응답 DTO 변환
-        List<TopicNewslettersResponse.NewsletterItemResponse> newsletters = newsletterSlice.getContent().stream()
+        List<TopicNewslettersResponse.NewsletterItemResponse> newsletters = page.stream()
                 .map(un -> new TopicNewslettersResponse.NewsletterItemResponse(
                         un.getId(),
                         un.getNewsletter().getTitle(),
@@ -96,45 +141,59 @@ public class ExploreService {
 
         return new TopicNewslettersResponse(
                 topicId,
-                topic.getName(),
-                newsletterSlice.hasNext(),
+                topic.name(),
+                hasNext,
+                hasNext ? nextCursor(page) : null,
                 newsletters
         );
     }
 
+    /**
+     * 인박스 목록 조회 (키셋 페이지네이션, 최신순)
+     * 결과가 이미 createdAt 내림차순이므로 날짜 그룹은 읽는 순서대로 한 번에 만듭니다. (전체 적재/정렬 없음)
+     *
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     */
     @Transactional(readOnly = true)
-    public InboxResponse getInbox(Long userId) {
-        // 1. 인박스 아이템 조회
-        List<UserNewsletter> userNewsletters = userNewsletterRepository.findAllInboxByUserId(userId);
-
-        // 2. 캐싱 로직: 카테고리 및 토픽 정보를 미리 조회하여 Map으로 저장
-        Map<String, InboxResponse.CategoryDto> categoryMap = categoryRepository.findAll().stream()
-                .collect(Collectors.toMap(Category::getName,
-                        c -> new InboxResponse.CategoryDto(c.getId(), c.getName()), (existing, replacement) -> existing));
-
-        Map<String, InboxResponse.TopicDto> topicMap = topicRepository.findAll().stream()
-                .collect(Collectors.toMap(Topic::getName,
-                        t -> new InboxResponse.TopicDto(t.getId(), t.getName()), (existing, replacement) -> existing));
-
-        // 3. 날짜별 그룹화 및 DTO 변환
-        Map<String, List<UserNewsletter>> groupedByDate = userNewsletters.stream()
-                .collect(Collectors.groupingBy(
-                        un -> un.getCreatedAt().atZone(APP_ZONE).toLocalDate().toString(),
-                        Collectors.toList()
-                ));
-
-        List<InboxResponse.InboxDateGroupDto> inboxGroups = groupedByDate.keySet().stream()
-                .sorted((d1, d2) -> d2.compareTo(d1))
-                .map(date -> InboxResponse.InboxDateGroupDto.builder()
+    public InboxResponse getInbox(Long userId, String cursor, int size) {
+        // 1. 커서 이후의 인박스 아이템 조회 (한 건 더 읽어 다음 페이지 여부 확인)
+        int pageSize = Math.clamp(size, 1, MAX_PAGE_SIZE);
+        CreatedAtCursor position = CreatedAtCursor.decode(cursor);
+        List<UserNewsletter> rows = userNewsletterRepository.findInboxByUserId(
+                userId, position.createdAt(), position.id(), Limit.of(pageSize + 1));
+
+        boolean hasNext = rows.size() > pageSize;
+        List<UserNewsletter> page = hasNext ? rows.subList(0, pageSize) : rows;
+
+        // 2. 카테고리 및 토픽 정보는 메모리 스냅샷의 이름 인덱스에서 조회 (DB 조회 없음)
+        Taxonomy taxonomy = taxonomyService.get();
+
+        // 3. 날짜가 바뀔 때마다 새 그룹 시작
+        List<InboxResponse.InboxDateGroupDto> inboxGroups = new ArrayList<>();
+        String currentDate = null;
+        List<InboxResponse.InboxItemDto> currentItems = null;
+        for (UserNewsletter un : page) {
+            String date = un.getCreatedAt().atZone(APP_ZONE).toLocalDate().toString();
+            if (!date.equals(currentDate)) {
+                currentDate = date;
+                currentItems = new ArrayList<>();
+                inboxGroups.add(InboxResponse.InboxDateGroupDto.builder()
                         .date(date)
-                        .items(groupedByDate.get(date).stream()
-                                // 캐싱된 Map을 인자로 넘겨 DB 추가 조회를 막습니다.
-                                .map(un -> convertToItemDto(un, categoryMap, topicMap))
-                                .collect(Collectors.toList()))
-                        .build())
-                .collect(Collectors.toList());
+                        .items(currentItems)
+                        .build());
+            }
+            currentItems.add(convertToItemDto(un, taxonomy));
+        }
 
-        return InboxResponse.builder().inbox(inboxGroups).build();
+        return InboxResponse.builder()
+                .inbox(inboxGroups)
+                .nextCursor(hasNext ? nextCursor(page) : null)
+                .build();
+    }
+
+    private String nextCursor(List<UserNewsletter> page) {
+        UserNewsletter last = page.get(page.size() - 1);
+        return new CreatedAtCursor(last.getCreatedAt(), last.getId()).encode();
     }
 
     /**
@@ -142,17 +201,20 @@ public class ExploreService {
      */
     private InboxResponse.InboxItemDto convertToItemDto(
             UserNewsletter un,
-            Map<String, InboxResponse.CategoryDto> categoryMap,
-            Map<String, InboxResponse.TopicDto> topicMap
+            Taxonomy taxonomy
     ) {
         Newsletter n = un.getNewsletter();
 
         InboxResponse.CategoryDto categoryDto = (n.getLlmStatus() == LlmStatus.DONE)
-                ? categoryMap.getOrDefault(n.getCategory(), new InboxResponse.CategoryDto(null, null))
+                ? taxonomy.categoryByName(n.getCategory())
+                        .map(c -> new InboxResponse.CategoryDto(c.id(), c.name()))
+                        .orElse(new InboxResponse.CategoryDto(null, null))
                 : new InboxResponse.CategoryDto(null, null);
 
         InboxResponse.TopicDto topicDto = (n.getLlmStatus() == LlmStatus.DONE)
-                ? topicMap.getOrDefault(n.getTopic(), new InboxResponse.TopicDto(null, null))
+                ? taxonomy.topicByName(n.getTopic())
+                        .map(t -> new InboxResponse.TopicDto(t.id(), t.name()))
+                        .orElse(new InboxResponse.TopicDto(null, null))
                 : new InboxResponse.TopicDto(null, null);
 
         return InboxResponse.InboxItemDto.builder()
@@ -160,6 +222,7 @@ public class ExploreService {
                 .llmStatus(n.getLlmStatus())
                 .contentUrl(n.getContentUrl())
                 .title(n.getTitle())
+                .thumbnailUrl(n.getThumbnailUrl())
                 .domainName(n.getDomain() != null ? n.getDomain().getName() : null)
                 .createdAt(un.getCreatedAt().atZone(APP_ZONE).format(DateTimeFormatter.ISO_OFFSET_DATE_TIME))
                 .category(categoryDto)
@@ -177,31 +240,38 @@ public class ExploreService {
             throw new CustomException(ErrorCode.USER_NEWSLETTER_NOT_AUTHORIZED);
         }
 
-        // 2. 요청된 ID를 기반으로 카테고리와 토픽 정보를 DB에서 조회합니다.
-        Category category = categoryRepository.findById(request.categoryId())
+        // 2. 요청된 ID를 기반으로 카테고리와 토픽 정보를 스냅샷에서 조회합니다.
+        Taxonomy taxonomy = taxonomyService.get();
+        Taxonomy.CategoryNode category = taxonomy.category(request.categoryId())
                 .orElseThrow(() -> new CustomException(ErrorCode.CATEGORY_NOT_FOUND));
 
-        Topic topic = topicRepository.findById(request.topicId())
+        Taxonomy.TopicNode topic = taxonomy.topic(request.topicId())
                 .orElseThrow(() -> new CustomException(ErrorCode.TOPIC_NOT_FOUND));
 
-        // Topic 엔티티가 가진 Category의 ID와 요청받은 Category ID가 일치하는지 확인
-        if (!topic.getCategory().getId().equals(category.getId())) {
+        // Topic이 속한 Category의 ID와 요청받은 Category ID가 일치하는지 확인
+        if (!topic.categoryId().equals(category.id())) {
             throw new CustomException(ErrorCode.INVALID_TOPIC_CATEGORY_MATCH);
         }
 
         // 3. 엔티티 상태를 업데이트합니다. (도메인 메서드 활용)
+        if (!userNewsletter.isConfirmed()) {
+            exploreCounterRepository.addInboxCount(userId, -1);
+        }
         userNewsletter.updateClassification(request.memo());
 
         // 4. 원본 Newsletter의 분류 정보도 사용자가 수정한 값으로 동기화합니다.
         Newsletter newsletter = userNewsletter.getNewsletter();
-        newsletter.updateCategoryAndTopic(category.getName(), topic.getName());
+        newsletter.updateCategoryAndTopic(category.name(), topic.name());
+
+        // 인박스에서 확인 처리되므로 탐색 화면(인박스 개수, 처리 상태) 캐시 무효화
+        applicationEventPublisher.publishEvent(UserViewInvalidatedEvent.of(userId, UserView.EXPLORE));
 
         // 5. 응답 DTO 조립
         return ClassificationResponse.builder()
                 .userNewsletterId(userNewsletter.getId())
                 .newsletterId(newsletter.getId())
-                .category(new ClassificationResponse.CategoryDto(category.getId(), category.getName()))
-                .topic(new ClassificationResponse.TopicDto(topic.getId(), topic.getName()))
+                .category(new ClassificationResponse.CategoryDto(category.id(), category.name()))
+                .topic(new ClassificationResponse.TopicDto(topic.id(), topic.name()))
                 .memo(userNewsletter.getMemo())
                 .classificationConfirmedAt(userNewsletter.getConfirmedAt()
                         .atZone(APP_ZONE)
@@ -212,6 +282,20 @@ public class ExploreService {
                 .build();
     }
 
+    /**
+     * 인박스 수정 화면 ETag: UserNewsletter(메모)와 Newsletter(카테고리/토픽)의 modifiedAt + 스냅샷 version
+     *
+     * @return 없거나 본인 소유가 아니면 null (본 조회에서 알맞은 예외를 던지도록)
+     */
+    @Transactional(readOnly = true)
+    public String getInboxEditETag(Long userId, Long userNewsletterId) {
+        return userNewsletterRepository.findModifiedAtByIdAndUserId(userNewsletterId, userId)
+                .map(row -> ETags.of("inbox-edit", userNewsletterId,
+                        row.userNewsletterModifiedAt(), row.newsletterModifiedAt(),
+                        taxonomyService.get().getVersion()))
+                .orElse(null);
+    }
+
     @Transactional(readOnly = true)
     public InboxEditResponse getInboxEditData(Long userId, Long userNewsletterId) {
         // 1. 인박스 아이템 조회 및 소유권 검증
@@ -224,13 +308,14 @@ public class ExploreService {
 
         Newsletter newsletter = userNewsletter.getNewsletter();
 
-        // 2. 현재 설정된 카테고리/토픽의 ID 조회 (String -> Long)
-        Long currentCategoryId = categoryRepository.findByName(newsletter.getCategory())
-                .map(Category::getId)
+        // 2. 현재 설정된 카테고리/토픽의 ID 조회 (String -> Long, 스냅샷의 이름 인덱스)
+        Taxonomy taxonomy = taxonomyService.get();
+        Long currentCategoryId = taxonomy.categoryByName(newsletter.getCategory())
+                .map(Taxonomy.CategoryNode::id)
                 .orElse(null);
 
-        Long currentTopicId = topicRepository.findByName(newsletter.getTopic())
-                .map(Topic::getId)
+        Long currentTopicId = taxonomy.topicByName(newsletter.getTopic())
+                .map(Taxonomy.TopicNode::id)
                 .orElse(null);
 
         // 3. 현재 정보 DTO 조립
@@ -242,12 +327,12 @@ public class ExploreService {
                 .build();
 
         // 4. 전체 선택지 목록 조회
-        List<InboxEditResponse.CategoryDto> categories = categoryRepository.findAll().stream()
-                .map(c -> new InboxEditResponse.CategoryDto(c.getId(), c.getName()))
+        List<InboxEditResponse.CategoryDto> categories = taxonomy.getCategories().stream()
+                .map(c -> new InboxEditResponse.CategoryDto(c.id(), c.name()))
                 .collect(Collectors.toList());
 
-        List<InboxEditResponse.TopicDto> topics = topicRepository.findAll().stream()
-                .map(t -> new InboxEditResponse.TopicDto(t.getId(), t.getCategory().getId(), t.getName()))
+        List<InboxEditResponse.TopicDto> topics = taxonomy.getTopics().stream()
+                .map(t -> new InboxEditResponse.TopicDto(t.id(), t.categoryId(), t.name()))
                 .collect(Collectors.toList());
 
         // 5. 최종 응답 조립
@@ -260,11 +345,13 @@ public class ExploreService {
 
     @Transactional
     public void confirmAllInbox(Long userId) {
-        userNewsletterRepository.bulkConfirmByUserId(
+        int confirmed = userNewsletterRepository.bulkConfirmByUserId(
                 userId,
                 LocalDateTime.now(APP_ZONE),
                 LlmStatus.DONE
         );
+        exploreCounterRepository.addInboxCount(userId, -confirmed);
+        applicationEventPublisher.publishEvent(UserViewInvalidatedEvent.of(userId, UserView.EXPLORE));
     }
 
 }
@@ -0,0 +1,107 @@
+package com.archiveat.server.domain.explore.taxonomy;
+
+import com.archiveat.server.domain.explore.entity.Category;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.zip.CRC32;
+
+/**
+ * 카테고리/토픽 트리의 불변 스냅샷
+ *
+ * 한 번 만들어지면 바뀌지 않으므로 요청 스레드에서 잠금 없이 읽습니다.
+ * version은 내용(id, 이름)으로 계산하므로 같은 데이터를 읽은 노드끼리는 같은 값을 가집니다.
+ */
+public final class Taxonomy {
+
+    @Getter
+    private final String version;
+
+    @Getter
+    private final List<CategoryNode> categories;
+
+    @Getter
+    private final List<TopicNode> topics;
+
+    private final Map<Long, CategoryNode> categoriesById;
+    private final Map<String, CategoryNode> categoriesByName;
+    private final Map<Long, TopicNode> topicsById;
+    private final Map<String, TopicNode> topicsByName;
+
+    private Taxonomy(List<CategoryNode> categories) {
+        this.categories = categories;
+        this.topics = categories.stream()
+                .flatMap(category -> category.topics().stream())
+                .toList();
+        this.categoriesById = index(this.categories, CategoryNode::id);
+        this.categoriesByName = index(this.categories, CategoryNode::name);
+        this.topicsById = index(this.topics, TopicNode::id);
+        this.topicsByName = index(this.topics, TopicNode::name);
+        this.version = computeVersion(categories);
+    }
+
+    /**
+     * 엔티티(topics가 로딩된 Category 목록)로 스냅샷 생성 (id 순으로 정렬)
+     */
+    public static Taxonomy of(List<Category> categories) {
+        return new Taxonomy(categories.stream()
+                .sorted(Comparator.comparing(Category::getId))
+                .map(category -> new CategoryNode(
+                        category.getId(),
+                        category.getName(),
+                        category.getTopics().stream()
+                                .map(topic -> new TopicNode(topic.getId(), category.getId(), topic.getName()))
+                                .sorted(Comparator.comparing(TopicNode::id))
+                                .toList()))
+                .toList());
+    }
+
+    public Optional<CategoryNode> category(Long id) {
+        return Optional.ofNullable(id == null ? null : categoriesById.get(id));
+    }
+
+    public Optional<CategoryNode> categoryByName(String name) {
+        return Optional.ofNullable(name == null ? null : categoriesByName.get(name));
+    }
+
+    public Optional<TopicNode> topic(Long id) {
+        return Optional.ofNullable(id == null ? null : topicsById.get(id));
+    }
+
+    public Optional<TopicNode> topicByName(String name) {
+        return Optional.ofNullable(name == null ? null : topicsByName.get(name));
+    }
+
+    // 같은 이름이 여러 개면 먼저 나온 것(id가 작은 것)을 사용
+    private static <T, K> Map<K, T> index(List<T> values, Function<T, K> key) {
+        return values.stream()
+                .filter(value -> key.apply(value) != null)
+                .collect(Collectors.collectingAndThen(
+                        Collectors.toMap(key, Function.identity(), (existing, replacement) -> existing, LinkedHashMap::new),
+                        Map::copyOf));
+    }
+
+    private static String computeVersion(List<CategoryNode> categories) {
+        CRC32 crc = new CRC32();
+        for (CategoryNode category : categories) {
+            crc.update(("C" + category.id() + ":" + category.name() + "\n").getBytes(StandardCharsets.UTF_8));
+            for (TopicNode topic : category.topics()) {
+                crc.update(("T" + topic.id() + ":" + topic.name() + "\n").getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        return Long.toHexString(crc.getValue());
+    }
+
+    public record CategoryNode(Long id, String name, List<TopicNode> topics) {
+    }
+
+    public record TopicNode(Long id, Long categoryId, String name) {
+    }
+}
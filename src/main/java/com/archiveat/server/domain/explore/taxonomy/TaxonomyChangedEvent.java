@@ -0,0 +1,7 @@
+package com.archiveat.server.domain.explore.taxonomy;
+
+/**
+ * 카테고리/토픽 엔티티 변경 (커밋 후 TaxonomyService가 스냅샷을 다시 읽음)
+ */
+public record TaxonomyChangedEvent() {
+}
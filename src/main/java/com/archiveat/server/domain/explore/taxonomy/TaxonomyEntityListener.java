@@ -0,0 +1,25 @@
+package com.archiveat.server.domain.explore.taxonomy;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * Category/Topic 엔티티가 저장/수정/삭제되면 TaxonomyChangedEvent 발행
+ */
+@Component
+@RequiredArgsConstructor
+public class TaxonomyEntityListener {
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        applicationEventPublisher.publishEvent(new TaxonomyChangedEvent());
+    }
+}
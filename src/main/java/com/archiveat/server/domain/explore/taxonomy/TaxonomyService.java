@@ -0,0 +1,104 @@
+package com.archiveat.server.domain.explore.taxonomy;
+
+import com.archiveat.server.domain.explore.repository.CategoryRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * 카테고리/토픽 스냅샷 관리
+ *
+ * 요청 처리 중에는 메모리의 Taxonomy만 읽고 DB를 조회하지 않습니다.
+ * 1. 엔티티가 바뀌면 커밋 후 이 노드가 다시 읽고, Redis 채널로 다른 노드에도 알림
+ * 2. 다른 노드는 알림을 받으면 다시 읽음
+ * 3. DB를 직접 수정한 경우(초기 데이터 등)를 위해 주기적으로도 다시 읽음 (내용이 같으면 version도 같음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TaxonomyService implements MessageListener {
+
+    private static final String CHANNEL = "taxonomy:changed";
+
+    private final CategoryRepository categoryRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    // 자기 노드가 보낸 알림은 무시
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private volatile Taxonomy snapshot;
+
+    @PostConstruct
+    void subscribeChannel() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    /**
+     * 현재 스냅샷 (처음 한 번만 DB에서 읽음)
+     */
+    public Taxonomy get() {
+        Taxonomy current = snapshot;
+        return current != null ? current : refresh();
+    }
+
+    public synchronized Taxonomy refresh() {
+        Taxonomy loaded = Taxonomy.of(categoryRepository.findAll());
+        Taxonomy previous = snapshot;
+        if (previous == null || !previous.getVersion().equals(loaded.getVersion())) {
+            log.info("Loaded taxonomy {} ({} categories, {} topics)",
+                    loaded.getVersion(), loaded.getCategories().size(), loaded.getTopics().size());
+        }
+        snapshot = loaded;
+        return loaded;
+    }
+
+    @Scheduled(fixedDelayString = "${taxonomy.refresh-interval-ms:300000}")
+    public void refreshPeriodically() {
+        tryRefresh();
+    }
+
+    /**
+     * 이 노드에서 카테고리/토픽이 바뀜: 다시 읽고 다른 노드에 알림
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleTaxonomyChanged(TaxonomyChangedEvent event) {
+        tryRefresh();
+        try {
+            stringRedisTemplate.convertAndSend(CHANNEL, nodeId);
+        } catch (Exception e) {
+            log.warn("Failed to publish taxonomy change, other nodes will refresh on schedule: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 노드에서 카테고리/토픽이 바뀜
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        if (nodeId.equals(new String(message.getBody(), StandardCharsets.UTF_8))) {
+            return;
+        }
+        tryRefresh();
+    }
+
+    private void tryRefresh() {
+        try {
+            refresh();
+        } catch (Exception e) {
+            log.warn("Failed to refresh taxonomy, keeping current snapshot: {}", e.getMessage());
+        }
+    }
+}
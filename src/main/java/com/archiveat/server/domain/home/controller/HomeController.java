@@ -1,12 +1,15 @@
 package com.archiveat.server.domain.home.controller;
 
+import com.archiveat.server.domain.home.dto.response.HomeCardPageResponse;
 import com.archiveat.server.domain.home.dto.response.HomeResponse;
 import com.archiveat.server.domain.home.service.HomeService;
+import com.archiveat.server.global.common.constant.HomeTabType;
 import com.archiveat.server.global.common.response.ApiResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -28,4 +31,22 @@ public class HomeController {
 
         return ApiResponse.ok(homeResponse);
     }
+
+    /**
+     * 탭별 뉴스레터 카드를 최신순으로 조회합니다. (키셋 페이지네이션)
+     * @param tab 조회할 탭 (ALL, INSPIRATION, DEEP_DIVE, GROWTH, VIEW_EXPANSION)
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 생략)
+     * @param size 페이지 크기 (최대 50)
+     */
+    @GetMapping("/cards")
+    public ApiResponse<HomeCardPageResponse> getCards(
+            @AuthenticationPrincipal Long userId,
+            @RequestParam(defaultValue = "ALL") HomeTabType tab,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        HomeCardPageResponse response = homeService.getCards(userId, tab, cursor, size);
+
+        return ApiResponse.ok(response);
+    }
 }
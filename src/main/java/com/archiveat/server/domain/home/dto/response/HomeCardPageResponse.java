@@ -0,0 +1,13 @@
+package com.archiveat.server.domain.home.dto.response;
+
+import java.util.List;
+
+/**
+ * 탭별 뉴스레터 카드 페이지 (키셋 페이지네이션)
+ * 다음 페이지는 nextCursor를 cursor로 넘겨 조회하며, 마지막 페이지면 nextCursor는 null입니다.
+ */
+public record HomeCardPageResponse(
+        String tab,
+        List<HomeResponse.ContentCardResponse> contentCards,
+        String nextCursor
+) {}
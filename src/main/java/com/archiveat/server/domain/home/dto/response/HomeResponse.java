@@ -9,7 +9,8 @@ public record HomeResponse(
         String firstGreetingMessage,
         String secondGreetingMessage,
         List<TabResponse> tabs,
-        List<ContentCardResponse> contentCards,
+        List<ContentCardResponse> contentCards, // 전체 탭 첫 페이지
+        String contentCardsNextCursor, // 다음 페이지는 GET /home/cards?cursor= (없으면 null)
         List<ContentCollectionCardResponse> contentCollectionCards
 ) {
     /**
@@ -1,75 +1,143 @@
 package com.archiveat.server.domain.home.service;
 
+import com.archiveat.server.domain.collection.entity.Collection;
 import com.archiveat.server.domain.collection.repository.CollectionNewsletterRepository;
 import com.archiveat.server.domain.collection.repository.CollectionRepository;
+import com.archiveat.server.domain.home.dto.response.HomeCardPageResponse;
 import com.archiveat.server.domain.home.dto.response.HomeResponse;
+import com.archiveat.server.domain.newsletter.repository.UserNewsletterCardRow;
 import com.archiveat.server.domain.newsletter.repository.UserNewsletterRepository;
-import com.archiveat.server.domain.user.entity.User;
-import com.archiveat.server.domain.user.repository.UserRepository;
-import com.archiveat.server.global.common.constant.DepthType;
+import com.archiveat.server.global.cache.UserView;
+import com.archiveat.server.global.cache.UserViewCache;
 import com.archiveat.server.global.common.constant.HomeTabType;
-import com.archiveat.server.global.common.constant.PerspectiveType;
+import com.archiveat.server.global.util.CreatedAtCursor;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class HomeService {
 
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 50;
+    private static final int COLLECTION_THUMBNAIL_COUNT = 4;
+
     private final UserNewsletterRepository userNewsletterRepository;
     private final CollectionRepository collectionRepository;
-    private final CollectionNewsletterRepository collectionNewsletterRepository; // 추가된 의존성
+    private final CollectionNewsletterRepository collectionNewsletterRepository;
+    private final UserViewCache userViewCache;
 
+    /**
+     * 홈 화면 조회
+     * 카드/컬렉션은 사용자별 캐시에서 가져오고, 시간대에 따라 바뀌는 인사말만 매번 계산합니다.
+     */
     @Transactional(readOnly = true)
     public HomeResponse getHomeData(Long userId) {
-        String firstGreeting = getDynamicGreeting();
+        HomeResponse cached = userViewCache.get(UserView.HOME, userId, HomeResponse.class, () -> loadHomeData(userId));
+
+        return new HomeResponse(
+                getDynamicGreeting(),
+                cached.secondGreetingMessage(),
+                cached.tabs(),
+                cached.contentCards(),
+                cached.contentCardsNextCursor(),
+                cached.contentCollectionCards());
+    }
+
+    private HomeResponse loadHomeData(Long userId) {
         String secondGreeting = "오늘도 한 걸음 성장해볼까요?";
         List<HomeResponse.TabResponse> tabs = getTabResponses();
 
-        // 1. 뉴스레터 카드 데이터 조회
-        // 전달받은 userId를 리포지토리에 직접 사용하여 DB 쿼리 효율을 높입니다.
-        List<HomeResponse.ContentCardResponse> contentCards = userNewsletterRepository.findAllByUserId(userId).stream()
-                .map(un -> new HomeResponse.ContentCardResponse(
-                        un.getNewsletter().getId(),
-                        determineTabLabel(un.getPerspectiveType(), un.getDepthType()),
-                        "AI 요약",
-                        un.getNewsletter().getTitle(),
-                        un.getNewsletter().getSmallCardSummary(),
-                        un.getNewsletter().getMediumCardSummary(),
-                        un.getNewsletter().getThumbnailUrl()))
-                .collect(Collectors.toList());
+        // 1. 뉴스레터 카드: 전체 탭 첫 페이지만 (이후는 getCards로 탭별 조회)
+        HomeCardPageResponse firstPage = getCards(userId, HomeTabType.ALL, null, DEFAULT_PAGE_SIZE);
 
+        // 2. 컬렉션 카드: 컬렉션 목록 1회 + 컬렉션별 썸네일(앞 4개) 1회
+        List<Collection> collections = collectionRepository.findAllByUserId(userId);
+        Map<Long, List<String>> thumbnailUrls = getThumbnailUrls(collections);
 
-        List<HomeResponse.ContentCollectionCardResponse> contentCollectionCards = collectionRepository
-                .findAllByUserId(userId).stream()
-                .map(col -> {
-                    // 인사이트: 컬렉션은 여러 뉴스레터를 포함하므로, 매핑 엔티티를 통해 썸네일 URL들을 수집합니다.
-                    List<String> thumbnailUrls = collectionNewsletterRepository.findAllByCollectionId(col.getId())
-                            .stream()
-                            .map(cn -> cn.getNewsletter().getThumbnailUrl())
-                            .limit(4)
-                            .collect(Collectors.toList());
-
-                    return new HomeResponse.ContentCollectionCardResponse(
-                            col.getId(),
-                            determineTabLabel(col.getPerspectiveType(), col.getDepthType()),
-                            "컬렉션",
-                            col.getTitle(),
-                            col.getSmallCardSummary(),
-                            col.getMediumCardSummary(),
-                            thumbnailUrls);
-                })
+        List<HomeResponse.ContentCollectionCardResponse> contentCollectionCards = collections.stream()
+                .map(col -> new HomeResponse.ContentCollectionCardResponse(
+                        col.getId(),
+                        HomeTabType.of(col.getPerspectiveType(), col.getDepthType()).getLabel(),
+                        "컬렉션",
+                        col.getTitle(),
+                        col.getSmallCardSummary(),
+                        col.getMediumCardSummary(),
+                        thumbnailUrls.getOrDefault(col.getId(), List.of())))
                 .collect(Collectors.toList());
 
-        return new HomeResponse(firstGreeting, secondGreeting, tabs, contentCards, contentCollectionCards);
+        return new HomeResponse(null, secondGreeting, tabs,
+                firstPage.contentCards(), firstPage.nextCursor(), contentCollectionCards);
+    }
+
+    /**
+     * 탭별 뉴스레터 카드 조회 (키셋 페이지네이션, 최신순)
+     * 탭은 저장된 tab_type 컬럼으로 거르고, 카드에 필요한 컬럼만 프로젝션으로 읽습니다.
+     * 인박스/토픽 목록과 같은 (createdAt, id) 커서를 사용합니다.
+     *
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     */
+    @Transactional(readOnly = true)
+    public HomeCardPageResponse getCards(Long userId, HomeTabType tab, String cursor, int size) {
+        int pageSize = Math.clamp(size, 1, MAX_PAGE_SIZE);
+        CreatedAtCursor position = CreatedAtCursor.decode(cursor);
+        Limit limit = Limit.of(pageSize + 1); // 한 건 더 읽어 다음 페이지 여부 확인
+
+        List<UserNewsletterCardRow> rows = tab == HomeTabType.ALL
+                ? userNewsletterRepository.findCards(userId, position.createdAt(), position.id(), limit)
+                : userNewsletterRepository.findCardsByTabType(userId, tab, position.createdAt(), position.id(), limit);
+
+        boolean hasNext = rows.size() > pageSize;
+        List<UserNewsletterCardRow> page = hasNext ? rows.subList(0, pageSize) : rows;
+        List<HomeResponse.ContentCardResponse> cards = page.stream()
+                .map(row -> new HomeResponse.ContentCardResponse(
+                        row.newsletterId(),
+                        row.tabType() != null ? row.tabType().getLabel() : null,
+                        "AI 요약",
+                        row.title(),
+                        row.smallCardSummary(),
+                        row.mediumCardSummary(),
+                        row.thumbnailUrl()))
+                .toList();
+
+        String nextCursor = hasNext ? nextCursor(page) : null;
+        return new HomeCardPageResponse(tab.name(), cards, nextCursor);
+    }
+
+    private String nextCursor(List<UserNewsletterCardRow> page) {
+        UserNewsletterCardRow last = page.get(page.size() - 1);
+        return new CreatedAtCursor(last.createdAt(), last.userNewsletterId()).encode();
     }
 
+    /**
+     * 컬렉션별 썸네일 URL (collectionId → 앞에서 최대 4개)
+     */
+    private Map<Long, List<String>> getThumbnailUrls(List<Collection> collections) {
+        if (collections.isEmpty()) {
+            return Map.of();
+        }
+        List<Long> collectionIds = collections.stream()
+                .map(Collection::getId)
+                .toList();
+
+        Map<Long, List<String>> thumbnailUrls = new HashMap<>();
+        for (Object[] row : collectionNewsletterRepository.findTopThumbnailUrlsByCollectionIdIn(
+                collectionIds, COLLECTION_THUMBNAIL_COUNT)) {
+            thumbnailUrls.computeIfAbsent(((Number) row[0]).longValue(), id -> new ArrayList<>())
+                    .add((String) row[1]);
+        }
+        return thumbnailUrls;
+    }
 
     private List<HomeResponse.TabResponse> getTabResponses() {
         return Arrays.stream(HomeTabType.values())
@@ -80,17 +148,6 @@ public class HomeService {
                 .collect(Collectors.toList());
     }
 
-    /**
-     * PerspectiveType과 DepthType의 조합에 따라 적절한 탭 라벨을 반환합니다.
-     */
-    private String determineTabLabel(PerspectiveType pType, DepthType dType) {
-        if (pType == PerspectiveType.NOW) {
-            return dType == DepthType.LIGHT ? HomeTabType.INSPIRATION.getLabel() : HomeTabType.DEEP_DIVE.getLabel();
-        } else {
-            return dType == DepthType.LIGHT ? HomeTabType.GROWTH.getLabel() : HomeTabType.VIEW_EXPANSION.getLabel();
-        }
-    }
-
     /**
      * 현재 시간을 기준으로 아침/밤 인사말을 결정합니다.
      */
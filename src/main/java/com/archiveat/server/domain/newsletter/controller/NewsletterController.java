@@ -1,22 +1,38 @@
 package com.archiveat.server.domain.newsletter.controller;
 
+import com.archiveat.server.domain.newsletter.dto.request.GenerateNewsletterBatchRequest;
 import com.archiveat.server.domain.newsletter.dto.request.GenerateNewsletterRequest;
 import com.archiveat.server.domain.newsletter.dto.response.DeleteNewsletterResponse;
+import com.archiveat.server.domain.newsletter.dto.response.GenerateNewsletterBatchResponse;
 import com.archiveat.server.domain.newsletter.dto.response.GenerateNewsletterResponse;
+import com.archiveat.server.domain.newsletter.dto.response.NewsletterStatusResponse;
 import com.archiveat.server.domain.newsletter.dto.response.SimpleViewNewsletterResponse;
 import com.archiveat.server.domain.newsletter.dto.response.ViewNewsletterResponse;
+import com.archiveat.server.domain.newsletter.service.NewsletterJobService;
 import com.archiveat.server.domain.newsletter.service.NewsletterService;
+import com.archiveat.server.domain.newsletter.service.NewsletterStatusStreamService;
 import com.archiveat.server.global.common.response.ApiResponse;
+import com.archiveat.server.global.common.response.SuccessCode;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import reactor.core.publisher.Flux;
 
 @RequiredArgsConstructor
 @RestController
 @RequestMapping("/newsletters")
 public class NewsletterController {
     private final NewsletterService newsletterService;
+    private final NewsletterStatusStreamService newsletterStatusStreamService;
+    private final NewsletterJobService newsletterJobService;
 
     @DeleteMapping("/{userNewsletterId}")
     public ApiResponse<DeleteNewsletterResponse> deleteNewsletter(
@@ -30,16 +46,20 @@ public class NewsletterController {
         return ApiResponse.ok(deleteNewsletterResponse); // 204
     }
 
+    /**
+     * 조회 기록(읽음 처리)이 남아야 하므로 매번 재검증하고(no-cache), If-None-Match가 맞으면 304
+     */
     @GetMapping("/{userNewsletterId}")
     public ApiResponse<ViewNewsletterResponse> viewNewsletter(
             @PathVariable Long userNewsletterId,
-            @AuthenticationPrincipal Long userId
+            @AuthenticationPrincipal Long userId,
+            WebRequest webRequest,
+            HttpServletResponse response
     ) {
-        ViewNewsletterResponse viewNewsletterResponse = newsletterService.viewUserNewsletter(
-                userId,
-                userNewsletterId
-        );
-        return ApiResponse.ok(viewNewsletterResponse);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().cachePrivate().getHeaderValue());
+        return newsletterService.viewUserNewsletter(userId, userNewsletterId, webRequest::checkNotModified)
+                .map(ApiResponse::ok)
+                .orElse(null); // 304 (본문 없음)
     }
 
     @GetMapping("/{userNewsletterId}/simple")
@@ -55,7 +75,7 @@ public class NewsletterController {
     }
 
     @PostMapping("")
-    public ApiResponse<GenerateNewsletterResponse> generateNewsletter(
+    public ResponseEntity<ApiResponse<GenerateNewsletterResponse>> generateNewsletter(
             @AuthenticationPrincipal Long userId,
             @Valid @RequestBody GenerateNewsletterRequest generateNewsletterRequest
     ){
@@ -64,7 +84,39 @@ public class NewsletterController {
                 generateNewsletterRequest.getContentUrl(),
                 generateNewsletterRequest.getMemo()
         );
-        return ApiResponse.ok(generateNewsletterResponse);
+        if (generateNewsletterResponse.delayed()) {
+            return acceptedDelayed(generateNewsletterResponse);
+        }
+        return ResponseEntity.ok(ApiResponse.ok(generateNewsletterResponse));
+    }
+
+    /**
+     * 일괄 저장 (다른 서비스에서 옮겨 올 때 등, 최대 500개)
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<ApiResponse<GenerateNewsletterBatchResponse>> generateNewsletters(
+            @AuthenticationPrincipal Long userId,
+            @Valid @RequestBody GenerateNewsletterBatchRequest generateNewsletterBatchRequest
+    ) {
+        GenerateNewsletterBatchResponse generateNewsletterBatchResponse = newsletterService.generateNewsletters(
+                userId,
+                generateNewsletterBatchRequest.getNewsletters()
+        );
+        if (generateNewsletterBatchResponse.delayed()) {
+            return acceptedDelayed(generateNewsletterBatchResponse);
+        }
+        return ResponseEntity.ok(ApiResponse.ok(generateNewsletterBatchResponse));
+    }
+
+    /**
+     * 처리 상태 실시간 스트림 (SSE)
+     * 연결 직후 처리 중인 아이템의 현재 상태를 보내고, 이후 RUNNING/DONE/FAILED 변화를 전달합니다.
+     */
+    @GetMapping(value = "/status/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<NewsletterStatusResponse>> streamStatus(
+            @AuthenticationPrincipal Long userId
+    ) {
+        return newsletterStatusStreamService.subscribe(userId);
     }
 
     @PatchMapping("/{userNewsletterId}")
@@ -75,4 +127,15 @@ public class NewsletterController {
         newsletterService.updateIsRead(userId, userNewsletterId);
         return ApiResponse.ok();
     }
+
+    /**
+     * 대기열이 밀려 늦게 처리됨: 202 Accepted와 상태를 다시 확인해 볼 시간(Retry-After, 초)
+     */
+    private <T> ResponseEntity<ApiResponse<T>> acceptedDelayed(T data) {
+        return ResponseEntity
+                .status(SuccessCode.ACCEPTED_DELAYED.getStatus())
+                .header(HttpHeaders.RETRY_AFTER,
+                        String.valueOf(newsletterJobService.getDelayedRetryAfter().toSeconds()))
+                .body(ApiResponse.ok(SuccessCode.ACCEPTED_DELAYED, data));
+    }
 }
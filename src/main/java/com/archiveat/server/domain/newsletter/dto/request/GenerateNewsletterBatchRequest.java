@@ -0,0 +1,20 @@
+package com.archiveat.server.domain.newsletter.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class GenerateNewsletterBatchRequest {
+    @NotEmpty
+    @Size(max = 500)
+    List<@Valid GenerateNewsletterRequest> newsletters;
+}
@@ -0,0 +1,9 @@
+package com.archiveat.server.domain.newsletter.dto.response;
+
+import java.util.List;
+
+public record GenerateNewsletterBatchResponse(
+        List<GenerateNewsletterResponse> newsletters,
+        boolean delayed // 작업 대기열이 밀려 처리가 평소보다 늦어짐
+) {
+}
@@ -2,6 +2,7 @@ package com.archiveat.server.domain.newsletter.dto.response;
 
 public record GenerateNewsletterResponse(
         Long newsletterId,
-        String llmStatus
+        String llmStatus,
+        boolean delayed // 작업 대기열이 밀려 처리가 평소보다 늦어짐
 ) {
 }
@@ -0,0 +1,10 @@
+package com.archiveat.server.domain.newsletter.dto.response;
+
+import com.archiveat.server.global.common.constant.LlmStatus;
+
+public record NewsletterStatusResponse(
+        Long userNewsletterId,
+        Long newsletterId,
+        LlmStatus llmStatus
+) {
+}
@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.util.ArrayList;
 import java.util.List;
 
 @Getter
@@ -20,6 +21,23 @@ public class PythonSummaryResponse {
 
     private Analysis analysis;
 
+    /**
+     * 스트리밍 응답 병합: 지금까지 받은 결과(base)에 새 조각(partial)을 합침
+     * 값이 있는 필드는 덮어쓰고, newsletter_summary 블록은 이어 붙입니다.
+     */
+    public static PythonSummaryResponse merge(PythonSummaryResponse base, PythonSummaryResponse partial) {
+        if (base == null) {
+            return partial;
+        }
+        if (partial == null) {
+            return base;
+        }
+        return new PythonSummaryResponse(
+                partial.videoInfo != null ? partial.videoInfo : base.videoInfo,
+                partial.articleInfo != null ? partial.articleInfo : base.articleInfo,
+                Analysis.merge(base.analysis, partial.analysis));
+    }
+
     @Getter
     @NoArgsConstructor
     @AllArgsConstructor
@@ -70,6 +88,27 @@ public class PythonSummaryResponse {
 
         @JsonProperty("newsletter_summary")
         private List<NewsletterSummaryBlock> newsletterSummary;
+
+        private static Analysis merge(Analysis base, Analysis partial) {
+            if (base == null) {
+                return partial;
+            }
+            if (partial == null) {
+                return base;
+            }
+
+            List<NewsletterSummaryBlock> blocks = base.newsletterSummary;
+            if (partial.newsletterSummary != null) {
+                blocks = new ArrayList<>(base.newsletterSummary != null ? base.newsletterSummary : List.of());
+                blocks.addAll(partial.newsletterSummary);
+            }
+            return new Analysis(
+                    partial.categoryName != null ? partial.categoryName : base.categoryName,
+                    partial.topicName != null ? partial.topicName : base.topicName,
+                    partial.smallCardSummary != null ? partial.smallCardSummary : base.smallCardSummary,
+                    partial.mediumCardSummary != null ? partial.mediumCardSummary : base.mediumCardSummary,
+                    blocks);
+        }
     }
 
     @Getter
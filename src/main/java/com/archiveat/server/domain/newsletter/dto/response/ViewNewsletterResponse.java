@@ -1,6 +1,6 @@
 package com.archiveat.server.domain.newsletter.dto.response;
 
-import java.util.List;
+import com.fasterxml.jackson.annotation.JsonRawValue;
 
 public record ViewNewsletterResponse(
         Long userNewsletterId,
@@ -11,6 +11,6 @@ public record ViewNewsletterResponse(
         String label,
         String memo,
         String contentUrl,
-        List<NewsletterSummaryBlock> newsletterSummary
+        @JsonRawValue String newsletterSummary // NewsletterSummaryBlock 배열 JSON (직렬화된 그대로 응답에 포함)
 ) {
 }
@@ -3,6 +3,7 @@ package com.archiveat.server.domain.newsletter.entity;
 import com.archiveat.server.domain.newsletter.dto.response.PythonSummaryResponse;
 import com.archiveat.server.global.common.BaseEntity;
 import com.archiveat.server.global.common.constant.LlmStatus;
+import com.archiveat.server.global.util.UrlCanonicalizer;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.persistence.*;
@@ -11,9 +12,13 @@ import lombok.*;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "newsletters")
+@Table(name = "newsletters",
+        uniqueConstraints = @UniqueConstraint(name = "uk_newsletters_content_url_hash", columnNames = "content_url_hash"))
 public class Newsletter extends BaseEntity {
 
+    // 요약 직렬화용 (스레드 안전, 저장할 때마다 새로 만들지 않음)
+    private static final ObjectMapper SUMMARY_MAPPER = new ObjectMapper();
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -27,8 +32,11 @@ public class Newsletter extends BaseEntity {
     @Column(length = 2000)
     private String thumbnailUrl;
 
-    @Column(length = 2000, nullable = false, unique = true)
-    private String contentUrl;
+    @Column(length = 2000, nullable = false)
+    private String contentUrl; // 정규화된 URL (UrlCanonicalizer)
+
+    @Column(length = 64, nullable = false)
+    private String contentUrlHash; // contentUrl의 SHA-256 (조회/중복 방지용)
 
     // 카테고리 및 토픽
     private String category;
@@ -56,6 +64,7 @@ public class Newsletter extends BaseEntity {
         this.title = null;
         this.thumbnailUrl = null;
         this.contentUrl = contentUrl;
+        this.contentUrlHash = UrlCanonicalizer.hash(contentUrl);
         this.category = null;
         this.topic = null;
         this.smallCardSummary = null;
@@ -95,8 +104,7 @@ public class Newsletter extends BaseEntity {
 
         // newsletter_summary를 JSON 문자열로 저장
         try {
-            ObjectMapper mapper = new ObjectMapper();
-            this.newsletterSummary = mapper.writeValueAsString(analysis.getNewsletterSummary());
+            this.newsletterSummary = SUMMARY_MAPPER.writeValueAsString(analysis.getNewsletterSummary());
         } catch (JsonProcessingException e) {
             this.newsletterSummary = "[]"; // 에러 시 빈 배열
         }
@@ -128,6 +136,46 @@ public class Newsletter extends BaseEntity {
         this.llmStatus = LlmStatus.DONE;
     }
 
+    /**
+     * 스트리밍 중간 결과 반영 (상태는 RUNNING 유지)
+     * 지금까지 받은 값만 채우고, 완료 시 updateFromPythonResponse가 전체를 다시 반영합니다.
+     */
+    public void applyPartialResponse(PythonSummaryResponse partial) {
+        PythonSummaryResponse.VideoInfo videoInfo = partial.getVideoInfo();
+        PythonSummaryResponse.ArticleInfo articleInfo = partial.getArticleInfo();
+        if (videoInfo != null) {
+            this.title = videoInfo.getTitle();
+            this.thumbnailUrl = videoInfo.getThumbnailUrl();
+            if (videoInfo.getDuration() != null) {
+                this.consumptionTimeMin = (int) Math.ceil(videoInfo.getDuration() / 60.0);
+            }
+        } else if (articleInfo != null) {
+            this.title = articleInfo.getTitle();
+            this.thumbnailUrl = articleInfo.getThumbnailUrl();
+            if (articleInfo.getWordCount() != null) {
+                this.consumptionTimeMin = (int) Math.ceil(articleInfo.getWordCount() / 400.0);
+            }
+        }
+
+        PythonSummaryResponse.Analysis analysis = partial.getAnalysis();
+        if (analysis == null) {
+            return;
+        }
+        if (analysis.getSmallCardSummary() != null) {
+            this.smallCardSummary = analysis.getSmallCardSummary();
+        }
+        if (analysis.getMediumCardSummary() != null) {
+            this.mediumCardSummary = analysis.getMediumCardSummary();
+        }
+        if (analysis.getNewsletterSummary() != null) {
+            try {
+                this.newsletterSummary = SUMMARY_MAPPER.writeValueAsString(analysis.getNewsletterSummary());
+            } catch (JsonProcessingException e) {
+                // 중간 결과는 건너뛰고 완료 시 다시 저장
+            }
+        }
+    }
+
     public void updateCategoryAndTopic(String category, String topic) {
         this.category = category;
         this.topic = topic;
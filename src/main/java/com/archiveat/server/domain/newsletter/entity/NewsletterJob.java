@@ -0,0 +1,207 @@
+package com.archiveat.server.domain.newsletter.entity;
+
+import com.archiveat.server.domain.user.entity.User;
+import com.archiveat.server.global.client.PythonEndpoint;
+import com.archiveat.server.global.common.BaseEntity;
+import com.archiveat.server.global.common.constant.JobStatus;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static com.archiveat.server.global.common.constant.DateTimeConstant.APP_ZONE;
+
+/**
+ * Newsletter 요약 작업 큐 (영속)
+ *
+ * 여러 서버 노드가 SELECT ... FOR UPDATE SKIP LOCKED 로 작업을 나눠 가져가며,
+ * 리스(lease)가 만료된 작업은 다른 노드가 다시 가져갑니다. (at-least-once)
+ *
+ * 작업은 요청한 사용자별로 번갈아 가져가고(round-robin), 사용자의 첫 몇 건은 우선 처리 레인(priority 0)에 넣어
+ * 한 사용자의 대량 저장이 다른 사용자의 저장을 막지 않게 합니다.
+ * 워커는 Python 엔드포인트별로 남은 동시 요청 자리만큼 작업을 가져가므로, 작업마다 처리할 엔드포인트를 저장해 둡니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "newsletter_jobs",
+        uniqueConstraints = @UniqueConstraint(name = "uk_newsletter_jobs_newsletter", columnNames = "newsletter_id"),
+        indexes = {
+                @Index(name = "idx_newsletter_jobs_status_endpoint_available", columnList = "status, endpoint, available_at"),
+                @Index(name = "idx_newsletter_jobs_status_retry", columnList = "status, next_retry_at"),
+                @Index(name = "idx_newsletter_jobs_user", columnList = "user_id")
+        })
+public class NewsletterJob extends BaseEntity {
+
+    public static final int PRIORITY_INTERACTIVE = 0;
+    public static final int PRIORITY_BULK = 1;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "newsletter_id", nullable = false)
+    private Newsletter newsletter;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id")
+    private User user; // 작업을 요청한 사용자 (사용자별 공정 스케줄링 기준)
+
+    @Column(nullable = false)
+    private int priority; // 0: 우선 처리 레인, 1: 대량 저장
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private PythonEndpoint endpoint; // 요약을 요청할 Python 엔드포인트 (URL로 결정)
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private JobStatus status; // QUEUED, RUNNING, DONE, FAILED
+
+    private int attempts; // 작업을 가져간 횟수
+
+    private int reclaims; // 리스가 만료되어 회수된 횟수 (노드 장애, 재배포)
+
+    private int retries; // 일시적 오류로 자동 재시도한 횟수
+
+    private LocalDateTime nextRetryAt; // FAILED 작업의 다음 자동 재시도 시각 (null이면 재시도하지 않음)
+
+    @Column(nullable = false)
+    private LocalDateTime availableAt; // 이 시각 이후에 가져갈 수 있음
+
+    @Column(length = 100)
+    private String leaseOwner; // 작업을 가져간 노드 ID
+
+    private LocalDateTime leaseExpiresAt;
+    private LocalDateTime heartbeatAt;
+
+    @Column(length = 500)
+    private String lastError;
+
+    public NewsletterJob(Newsletter newsletter, User user, int priority) {
+        this.newsletter = newsletter;
+        this.user = user;
+        this.priority = priority;
+        this.endpoint = PythonEndpoint.forUrl(newsletter.getContentUrl());
+        this.status = JobStatus.QUEUED;
+        this.attempts = 0;
+        this.reclaims = 0;
+        this.retries = 0;
+        this.availableAt = LocalDateTime.now(APP_ZONE);
+    }
+
+    public static NewsletterJob queue(Newsletter newsletter, User user, int priority) {
+        return new NewsletterJob(newsletter, user, priority);
+    }
+
+    public boolean isActive() {
+        return status == JobStatus.QUEUED || status == JobStatus.RUNNING;
+    }
+
+    public boolean isLeasedBy(String owner) {
+        return status == JobStatus.RUNNING && owner.equals(leaseOwner);
+    }
+
+    /**
+     * 다른 사용자가 우선 처리 레인으로 같은 작업을 요청하면 그 사용자 몫으로 앞당김
+     */
+    public void prioritize(User user) {
+        if (priority > PRIORITY_INTERACTIVE) {
+            this.priority = PRIORITY_INTERACTIVE;
+            this.user = user;
+        }
+    }
+
+    /**
+     * 노드가 작업을 가져감 (리스 시작)
+     */
+    public void claim(String owner, LocalDateTime now, Duration lease) {
+        this.status = JobStatus.RUNNING;
+        this.leaseOwner = owner;
+        this.leaseExpiresAt = now.plus(lease);
+        this.heartbeatAt = now;
+        this.attempts++;
+    }
+
+    /**
+     * 다시 대기열로 되돌림
+     */
+    public void requeue(LocalDateTime availableAt) {
+        this.status = JobStatus.QUEUED;
+        this.availableAt = availableAt;
+        this.leaseOwner = null;
+        this.leaseExpiresAt = null;
+        this.nextRetryAt = null;
+    }
+
+    /**
+     * 사용자가 다시 저장해 끝난 작업(DONE/FAILED)을 새로 시작
+     */
+    public void resubmit(LocalDateTime availableAt) {
+        requeue(availableAt);
+        this.reclaims = 0;
+        this.retries = 0;
+    }
+
+    /**
+     * 리스가 만료된 작업을 회수해 다시 대기열로
+     */
+    public void reclaim(LocalDateTime availableAt) {
+        requeue(availableAt);
+        this.reclaims++;
+    }
+
+    /**
+     * 실행하지 못하고 미룸 (서킷 OPEN 등) - 시도 횟수에 포함하지 않음
+     */
+    public void defer(LocalDateTime availableAt) {
+        requeue(availableAt);
+        this.attempts = Math.max(attempts - 1, 0);
+    }
+
+    public void complete() {
+        this.status = JobStatus.DONE;
+        this.leaseOwner = null;
+        this.leaseExpiresAt = null;
+        this.nextRetryAt = null;
+        this.lastError = null;
+    }
+
+    /**
+     * 실패 (재시도하지 않음)
+     */
+    public void fail(String error) {
+        this.status = JobStatus.FAILED;
+        this.leaseOwner = null;
+        this.leaseExpiresAt = null;
+        this.nextRetryAt = null;
+        this.lastError = truncate(error);
+    }
+
+    /**
+     * 일시적 오류로 실패: nextRetryAt에 자동 재시도 예약
+     */
+    public void failForRetry(String error, LocalDateTime nextRetryAt) {
+        fail(error);
+        this.nextRetryAt = nextRetryAt;
+    }
+
+    /**
+     * 예약된 자동 재시도 시작
+     */
+    public void retry(LocalDateTime availableAt) {
+        requeue(availableAt);
+        this.retries++;
+    }
+
+    private static String truncate(String message) {
+        if (message == null || message.length() <= 500) {
+            return message;
+        }
+        return message.substring(0, 500);
+    }
+}
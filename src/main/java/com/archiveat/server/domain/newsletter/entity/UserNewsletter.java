@@ -3,6 +3,7 @@ package com.archiveat.server.domain.newsletter.entity;
 import com.archiveat.server.domain.user.entity.User;
 import com.archiveat.server.global.common.BaseEntity;
 import com.archiveat.server.global.common.constant.DepthType;
+import com.archiveat.server.global.common.constant.HomeTabType;
 import com.archiveat.server.global.common.constant.PerspectiveType;
 import jakarta.persistence.*;
 import lombok.*;
@@ -11,7 +12,16 @@ import java.time.LocalDateTime;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "user_newsletters")
+@Table(name = "user_newsletters",
+        indexes = {
+                // 키셋 페이지네이션: (createdAt, id) 최신순
+                // 홈 카드 탭별
+                @Index(name = "idx_user_newsletters_user_tab", columnList = "user_id, tab_type, created_at, id"),
+                // 인박스
+                @Index(name = "idx_user_newsletters_user_confirmed_created", columnList = "user_id, is_confirmed, created_at, id"),
+                // 홈 카드 전체 탭, 토픽 목록
+                @Index(name = "idx_user_newsletters_user_created", columnList = "user_id, created_at, id")
+        })
 public class UserNewsletter extends BaseEntity {
 
     @Id
@@ -35,6 +45,10 @@ public class UserNewsletter extends BaseEntity {
     @Enumerated(EnumType.STRING)
     private DepthType depthType;
 
+    // 홈 탭 (label이 계산된 뒤에 채워짐, 그 전에는 전체 탭에만 노출)
+    @Enumerated(EnumType.STRING)
+    private HomeTabType tabType;
+
     private boolean isRead;
     private boolean isConfirmed;
     private LocalDateTime lastViewedAt;
@@ -83,5 +97,10 @@ public class UserNewsletter extends BaseEntity {
     public void updateLabelComponents(PerspectiveType perspectiveType, DepthType depthType) {
         this.perspectiveType = perspectiveType;
         this.depthType = depthType;
+        this.tabType = tabTypeOf(perspectiveType, depthType);
+    }
+
+    public static HomeTabType tabTypeOf(PerspectiveType perspectiveType, DepthType depthType) {
+        return depthType == null ? null : HomeTabType.of(perspectiveType, depthType);
     }
 }
\ No newline at end of file
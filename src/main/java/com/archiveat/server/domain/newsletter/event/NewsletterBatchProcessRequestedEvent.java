@@ -0,0 +1,6 @@
+package com.archiveat.server.domain.newsletter.event;
+
+import java.util.List;
+
+public record NewsletterBatchProcessRequestedEvent(List<Long> newsletterIds) {
+}
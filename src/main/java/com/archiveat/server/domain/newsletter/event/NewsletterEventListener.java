@@ -1,21 +1,61 @@
 package com.archiveat.server.domain.newsletter.event;
 
-import com.archiveat.server.domain.newsletter.service.NewsletterService;
+import com.archiveat.server.domain.newsletter.repository.UserNewsletterRepository;
+import com.archiveat.server.domain.newsletter.service.NewsletterPreviewService;
+import com.archiveat.server.domain.newsletter.worker.NewsletterJobWorker;
+import com.archiveat.server.global.cache.UserView;
+import com.archiveat.server.global.cache.UserViewCache;
+import com.archiveat.server.global.common.constant.LlmStatus;
 import lombok.RequiredArgsConstructor;
-import org.springframework.scheduling.annotation.Async;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.util.EnumSet;
+import java.util.List;
+
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class NewsletterEventListener {
 
-    private final NewsletterService newsletterService;
+    private final NewsletterJobWorker newsletterJobWorker;
+    private final NewsletterPreviewService newsletterPreviewService;
+    private final UserNewsletterRepository userNewsletterRepository;
+    private final UserViewCache userViewCache;
 
-    @Async("taskExecutor") // 여기서 별도 스레드로 분기
+    // 작업 자체는 newsletter_jobs에 커밋되어 있고, 여기서는 워커를 깨우기만 함
+    // 요약과 함께 인박스 미리보기(제목, 썸네일)도 비동기로 먼저 채움
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT) // 커밋이 완료된 후 실행 보장
     public void handleNewsletterProcess(NewsletterProcessRequestedEvent event) {
-        newsletterService.processNewsletterAsync(event.newsletterId(), event.contentUrl());
+        newsletterJobWorker.wakeUp();
+        newsletterPreviewService.prefetch(event.newsletterId(), event.contentUrl());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleNewsletterBatchProcess(NewsletterBatchProcessRequestedEvent event) {
+        newsletterJobWorker.wakeUp();
+        newsletterPreviewService.prefetchAll(event.newsletterIds());
+    }
+
+    // 처리 상태가 바뀌면 이 Newsletter를 저장한 사용자들의 화면 캐시 무효화
+    // - 진행 중/실패: 카드 내용(제목, 요약)과 인박스 처리 상태
+    // - DONE: label이 계산되므로 리포트 밸런스까지
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleStatusChanged(NewsletterStatusChangedEvent event) {
+        try {
+            List<Long> userIds = userNewsletterRepository.findUserIdsByNewsletterId(event.newsletterId()).stream()
+                    .map(row -> (Long) row[1])
+                    .distinct()
+                    .toList();
+            EnumSet<UserView> views = event.llmStatus() == LlmStatus.DONE
+                    ? EnumSet.allOf(UserView.class)
+                    : EnumSet.of(UserView.HOME, UserView.EXPLORE);
+            userViewCache.invalidate(userIds, views);
+        } catch (Exception e) {
+            // 파이프라인 스레드에서 바로 실행될 수 있으므로 예외를 전파하지 않음
+            log.error("Failed to invalidate views for newsletter {}", event.newsletterId(), e);
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,6 @@
+package com.archiveat.server.domain.newsletter.event;
+
+import com.archiveat.server.global.common.constant.LlmStatus;
+
+public record NewsletterStatusChangedEvent(Long newsletterId, LlmStatus llmStatus) {
+}
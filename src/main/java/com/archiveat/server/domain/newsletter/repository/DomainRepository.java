@@ -3,8 +3,12 @@ package com.archiveat.server.domain.newsletter.repository;
 import com.archiveat.server.domain.newsletter.entity.Domain;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface DomainRepository extends JpaRepository<Domain, Long> {
     Optional<Domain> findByName(String name);
+
+    List<Domain> findByNameIn(Collection<String> names);
 }
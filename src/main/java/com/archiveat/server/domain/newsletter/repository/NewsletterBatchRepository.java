@@ -0,0 +1,216 @@
+package com.archiveat.server.domain.newsletter.repository;
+
+import com.archiveat.server.domain.newsletter.entity.NewsletterJob;
+import com.archiveat.server.domain.newsletter.entity.UserNewsletter;
+import com.archiveat.server.global.client.PythonEndpoint;
+import com.archiveat.server.global.common.constant.DepthType;
+import com.archiveat.server.global.common.constant.PerspectiveType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 일괄 저장(POST /newsletters/batch)용 JDBC batch insert
+ *
+ * IDENTITY 키를 쓰는 엔티티는 JPA에서 insert가 한 건씩 나가므로, 대량 저장은 JdbcTemplate으로 묶어서 보냅니다.
+ * 호출한 JPA 트랜잭션의 커넥션을 그대로 사용합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class NewsletterBatchRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 도메인 일괄 생성 (동시에 다른 요청이 만든 이름은 건너뜀)
+     */
+    public void insertDomains(Collection<String> names) {
+        List<String> rows = List.copyOf(names);
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO domains (name) VALUES (?) ON CONFLICT (name) DO NOTHING",
+                rows, rows.size(),
+                (ps, name) -> ps.setString(1, name));
+    }
+
+    /**
+     * PENDING Newsletter 일괄 생성 (같은 URL 해시가 이미 있으면 건너뜀)
+     */
+    public void insertPendingNewsletters(Collection<PendingNewsletter> newsletters, LocalDateTime now) {
+        List<PendingNewsletter> rows = List.copyOf(newsletters);
+        Timestamp timestamp = Timestamp.valueOf(now);
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO newsletters (domain_id, content_url, content_url_hash, llm_status, created_at, modified_at) " +
+                        "VALUES (?, ?, ?, 'PENDING', ?, ?) " +
+                        "ON CONFLICT (content_url_hash) DO NOTHING",
+                rows, rows.size(),
+                (ps, row) -> {
+                    ps.setLong(1, row.domainId());
+                    ps.setString(2, row.contentUrl());
+                    ps.setString(3, row.contentUrlHash());
+                    ps.setTimestamp(4, timestamp);
+                    ps.setTimestamp(5, timestamp);
+                });
+    }
+
+    /**
+     * UserNewsletter 일괄 생성
+     *
+     * reWriteBatchedInserts로 여러 행이 한 INSERT로 합쳐지면 생성 키의 순서가 보장되지 않으므로,
+     * 키와 함께 (user_id, newsletter_id)를 돌려받아 행에 맞춥니다.
+     *
+     * @return 생성된 id (rows 순서와 같음)
+     */
+    public List<Long> insertUserNewsletters(List<NewUserNewsletter> rows, LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        String sql = "INSERT INTO user_newsletters " +
+                "(user_id, newsletter_id, memo, perspective_type, depth_type, tab_type, is_read, is_confirmed, created_at, modified_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, false, false, ?, ?)";
+
+        return jdbcTemplate.execute((ConnectionCallback<List<Long>>) connection -> {
+            try (PreparedStatement ps = connection.prepareStatement(sql, new String[]{"id", "user_id", "newsletter_id"})) {
+                for (NewUserNewsletter row : rows) {
+                    ps.setLong(1, row.userId());
+                    ps.setLong(2, row.newsletterId());
+                    ps.setString(3, row.memo());
+                    setEnum(ps, 4, row.perspectiveType());
+                    setEnum(ps, 5, row.depthType());
+                    setEnum(ps, 6, UserNewsletter.tabTypeOf(row.perspectiveType(), row.depthType()));
+                    ps.setTimestamp(7, timestamp);
+                    ps.setTimestamp(8, timestamp);
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+
+                Map<UserNewsletterKey, Long> generatedIds = new HashMap<>(rows.size() * 2);
+                try (ResultSet keys = ps.getGeneratedKeys()) {
+                    while (keys.next()) {
+                        generatedIds.put(
+                                new UserNewsletterKey(keys.getLong("user_id"), keys.getLong("newsletter_id")),
+                                keys.getLong("id"));
+                    }
+                }
+
+                List<Long> ids = new ArrayList<>(rows.size());
+                for (NewUserNewsletter row : rows) {
+                    Long id = generatedIds.get(new UserNewsletterKey(row.userId(), row.newsletterId()));
+                    if (id == null) {
+                        throw new IllegalStateException("Generated key missing for user newsletter (user "
+                                + row.userId() + ", newsletter " + row.newsletterId() + ")");
+                    }
+                    ids.add(id);
+                }
+                return ids;
+            }
+        });
+    }
+
+    /**
+     * 작업 일괄 등록 (NewsletterJobService.enqueue와 같은 규칙)
+     * - 작업 행이 없으면 생성
+     * - 끝난 작업(DONE/FAILED)이면 다시 대기열로
+     * - 진행 중(QUEUED/RUNNING)이면 그대로 합류
+     *
+     * @param endpoints newsletterId → 요약을 요청할 엔드포인트
+     */
+    public void enqueueJobs(Map<Long, PythonEndpoint> endpoints, Long userId, int priority, LocalDateTime now) {
+        List<NewJob> rows = endpoints.entrySet().stream()
+                .map(entry -> new NewJob(entry.getKey(), userId, entry.getValue()))
+                .toList();
+        upsertJobs(rows, priority, now);
+    }
+
+    /**
+     * 작업 없이 남은 Newsletter(PENDING/RUNNING)의 작업을 최대 limit개 등록
+     * 작업 큐 도입 전에 저장된 행이나, 작업은 끝났는데 Newsletter 상태 반영 전에 노드가 죽은 경우입니다.
+     * 작업은 처음 저장한 사용자 몫으로 일반 레인에 넣습니다. (엔드포인트는 URL로 정해야 하므로 조회 후 등록)
+     *
+     * @return 등록(또는 재등록)된 작업 수
+     */
+    public int enqueueOrphanedJobs(int limit, LocalDateTime now) {
+        List<NewJob> rows = jdbcTemplate.query(
+                "SELECT n.id, n.content_url, " +
+                        "(SELECT un.user_id FROM user_newsletters un WHERE un.newsletter_id = n.id ORDER BY un.id LIMIT 1) AS user_id " +
+                        "FROM newsletters n " +
+                        "WHERE n.llm_status IN ('PENDING', 'RUNNING') " +
+                        "AND NOT EXISTS (SELECT 1 FROM newsletter_jobs j " +
+                        "                WHERE j.newsletter_id = n.id AND j.status IN ('QUEUED', 'RUNNING')) " +
+                        "ORDER BY n.id " +
+                        "LIMIT ?",
+                (rs, rowNum) -> new NewJob(
+                        rs.getLong("id"),
+                        rs.getObject("user_id", Long.class),
+                        PythonEndpoint.forUrl(rs.getString("content_url"))),
+                limit);
+        upsertJobs(rows, NewsletterJob.PRIORITY_BULK, now);
+        return rows.size();
+    }
+
+    private void upsertJobs(List<NewJob> rows, int priority, LocalDateTime now) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        Timestamp timestamp = Timestamp.valueOf(now);
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO newsletter_jobs " +
+                        "(newsletter_id, user_id, priority, endpoint, status, attempts, reclaims, retries, available_at, created_at, modified_at) " +
+                        "VALUES (?, ?, ?, ?, 'QUEUED', 0, 0, 0, ?, ?, ?) " +
+                        "ON CONFLICT (newsletter_id) DO UPDATE SET " +
+                        "status = 'QUEUED', reclaims = 0, retries = 0, next_retry_at = NULL, " +
+                        "endpoint = EXCLUDED.endpoint, available_at = EXCLUDED.available_at, " +
+                        "lease_owner = NULL, lease_expires_at = NULL, modified_at = EXCLUDED.modified_at " +
+                        "WHERE newsletter_jobs.status IN ('DONE', 'FAILED')",
+                rows, rows.size(),
+                (ps, row) -> {
+                    ps.setLong(1, row.newsletterId());
+                    if (row.userId() == null) {
+                        ps.setNull(2, Types.BIGINT);
+                    } else {
+                        ps.setLong(2, row.userId());
+                    }
+                    ps.setInt(3, priority);
+                    setEnum(ps, 4, row.endpoint());
+                    ps.setTimestamp(5, timestamp);
+                    ps.setTimestamp(6, timestamp);
+                    ps.setTimestamp(7, timestamp);
+                });
+    }
+
+    private static void setEnum(PreparedStatement ps, int index, Enum<?> value) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, Types.VARCHAR);
+        } else {
+            ps.setString(index, value.name());
+        }
+    }
+
+    private record UserNewsletterKey(Long userId, Long newsletterId) {
+    }
+
+    private record NewJob(Long newsletterId, Long userId, PythonEndpoint endpoint) {
+    }
+
+    public record PendingNewsletter(Long domainId, String contentUrl, String contentUrlHash) {
+    }
+
+    public record NewUserNewsletter(
+            Long userId,
+            Long newsletterId,
+            String memo,
+            PerspectiveType perspectiveType,
+            DepthType depthType
+    ) {
+    }
+}
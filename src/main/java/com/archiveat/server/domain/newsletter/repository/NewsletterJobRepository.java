@@ -0,0 +1,80 @@
+package com.archiveat.server.domain.newsletter.repository;
+
+import com.archiveat.server.domain.newsletter.entity.NewsletterJob;
+import com.archiveat.server.global.common.constant.JobStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface NewsletterJobRepository extends JpaRepository<NewsletterJob, Long> {
+    Optional<NewsletterJob> findByNewsletterId(Long newsletterId);
+
+    long countByStatusIn(Collection<JobStatus> statuses);
+
+    long countByUserIdAndStatusIn(Long userId, Collection<JobStatus> statuses);
+
+    /**
+     * endpoint로 요청할 작업 중 가져갈 수 있는 작업(대기 중이면서 실행 가능 시각이 지난 작업)을 잠금과 함께 조회
+     * 리스가 만료된 RUNNING 작업은 NewsletterJobReaper가 회수 횟수를 센 뒤 대기열로 돌려놓습니다.
+     * 다른 노드가 이미 잠근 행은 SKIP LOCKED로 건너뛰므로 여러 노드가 동시에 호출해도 겹치지 않습니다.
+     *
+     * 정렬: 우선 처리 레인(priority) → 사용자별 순번(user_rank) → id
+     * 사용자마다 가장 오래된 작업부터 1, 2, 3... 순번을 매기므로, 모든 사용자의 1번 작업이 2번 작업보다 먼저 나갑니다.
+     * (윈도우 함수와 FOR UPDATE는 같은 쿼리 단계에 쓸 수 없어 순번은 서브쿼리에서 계산)
+     */
+    @Query(value = "SELECT j.* FROM newsletter_jobs j " +
+            "JOIN (SELECT id, ROW_NUMBER() OVER (PARTITION BY user_id ORDER BY available_at, id) AS user_rank " +
+            "      FROM newsletter_jobs " +
+            "      WHERE status = 'QUEUED' AND endpoint = :endpoint AND available_at <= :now) ranked " +
+            "  ON ranked.id = j.id " +
+            "ORDER BY j.priority, ranked.user_rank, j.id " +
+            "LIMIT :limit " +
+            "FOR UPDATE OF j SKIP LOCKED", nativeQuery = true)
+    List<NewsletterJob> findClaimableForUpdate(
+            @Param("endpoint") String endpoint, // PythonEndpoint 이름
+            @Param("now") LocalDateTime now,
+            @Param("limit") int limit
+    );
+
+    /**
+     * 리스가 만료된 RUNNING 작업을 최대 limit개 잠금과 함께 조회 (노드 장애, 재배포로 버려진 작업)
+     */
+    @Query(value = "SELECT * FROM newsletter_jobs " +
+            "WHERE status = 'RUNNING' AND lease_expires_at < :now " +
+            "ORDER BY lease_expires_at " +
+            "LIMIT :limit " +
+            "FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<NewsletterJob> findExpiredLeasesForUpdate(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * 자동 재시도 시각이 지난 FAILED 작업을 최대 limit개 잠금과 함께 조회
+     */
+    @Query(value = "SELECT * FROM newsletter_jobs " +
+            "WHERE status = 'FAILED' AND next_retry_at <= :now " +
+            "ORDER BY next_retry_at " +
+            "LIMIT :limit " +
+            "FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<NewsletterJob> findRetryableForUpdate(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * 이 노드가 처리 중인 작업들의 리스 연장 (하트비트)
+     */
+    @Modifying
+    @Query("UPDATE NewsletterJob j SET j.heartbeatAt = :now, j.leaseExpiresAt = :leaseExpiresAt " +
+            "WHERE j.id IN :ids AND j.leaseOwner = :owner AND j.status = :status")
+    int extendLeases(
+            @Param("ids") Collection<Long> ids,
+            @Param("owner") String owner,
+            @Param("now") LocalDateTime now,
+            @Param("leaseExpiresAt") LocalDateTime leaseExpiresAt,
+            @Param("status") JobStatus status
+    );
+}
@@ -1,12 +1,54 @@
 package com.archiveat.server.domain.newsletter.repository;
 
 import com.archiveat.server.domain.newsletter.entity.Newsletter;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface NewsletterRepository extends JpaRepository<Newsletter, Long> {
-    Optional<Newsletter> findByContentUrl(String contentUrl);
+    Optional<Newsletter> findByContentUrlHash(String contentUrlHash);
+
+    /**
+     * 공유 잠금(FOR SHARE)과 함께 조회
+     * 저장 요청끼리는 서로 막지 않고, 처리 결과 반영(UPDATE)과는 순서가 보장됩니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    Optional<Newsletter> findForShareByContentUrlHash(String contentUrlHash);
+
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    List<Newsletter> findForShareByContentUrlHashIn(Collection<String> contentUrlHashes);
+
+    /**
+     * 버전(modifiedAt)만 조회 (상세 화면 캐시 키/ETag용, 요약 본문 등 큰 컬럼은 읽지 않음)
+     */
+    @Query("SELECT n.modifiedAt FROM Newsletter n WHERE n.id = :id")
+    Optional<LocalDateTime> findModifiedAtById(@Param("id") Long id);
+
+    /**
+     * OpenGraph 제목/썸네일 반영 (요약 결과가 먼저 저장된 값은 덮어쓰지 않음)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Newsletter n SET " +
+            "n.title = COALESCE(n.title, :title), " +
+            "n.thumbnailUrl = COALESCE(n.thumbnailUrl, :thumbnailUrl), " +
+            "n.modifiedAt = :modifiedAt " +
+            "WHERE n.id = :id AND (n.title IS NULL OR n.thumbnailUrl IS NULL)")
+    int fillPreviewIfAbsent(
+            @Param("id") Long id,
+            @Param("title") String title,
+            @Param("thumbnailUrl") String thumbnailUrl,
+            @Param("modifiedAt") LocalDateTime modifiedAt
+    );
 }
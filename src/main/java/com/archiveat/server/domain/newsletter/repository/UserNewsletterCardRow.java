@@ -0,0 +1,20 @@
+package com.archiveat.server.domain.newsletter.repository;
+
+import com.archiveat.server.global.common.constant.HomeTabType;
+
+import java.time.LocalDateTime;
+
+/**
+ * 홈 카드 조회용 프로젝션 (엔티티 대신 카드에 필요한 컬럼만)
+ */
+public record UserNewsletterCardRow(
+        Long userNewsletterId,
+        LocalDateTime createdAt, // 페이지 커서 (createdAt, userNewsletterId)
+        Long newsletterId,
+        HomeTabType tabType,
+        String title,
+        String smallCardSummary,
+        String mediumCardSummary,
+        String thumbnailUrl
+) {
+}
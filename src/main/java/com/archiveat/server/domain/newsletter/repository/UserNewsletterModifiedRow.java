@@ -0,0 +1,12 @@
+package com.archiveat.server.domain.newsletter.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 조건부 요청(ETag) 확인용 프로젝션: 응답을 만들지 않고 변경 여부만 판단
+ */
+public record UserNewsletterModifiedRow(
+        LocalDateTime userNewsletterModifiedAt,
+        LocalDateTime newsletterModifiedAt
+) {
+}
@@ -1,16 +1,20 @@
 package com.archiveat.server.domain.newsletter.repository;
 
 import com.archiveat.server.domain.newsletter.entity.UserNewsletter;
+import com.archiveat.server.global.common.constant.DepthType;
+import com.archiveat.server.global.common.constant.HomeTabType;
 import com.archiveat.server.global.common.constant.LlmStatus;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Slice;
+import com.archiveat.server.global.common.constant.PerspectiveType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -46,31 +50,148 @@ public interface UserNewsletterRepository extends JpaRepository<UserNewsletter,
     // 인박스(미확인) 뉴스레터 개수 조회
     int countByUserIdAndIsConfirmedFalse(Long userId);
 
+    // 인박스에 처리 중인 뉴스레터가 있는지 확인
+    boolean existsByUserIdAndIsConfirmedFalseAndNewsletter_LlmStatusIn(Long userId, Collection<LlmStatus> statuses);
+
+    // 상태 스트림: Newsletter를 저장한 사용자들 [userNewsletterId, userId]
+    @Query("SELECT un.id, un.user.id FROM UserNewsletter un WHERE un.newsletter.id = :newsletterId")
+    List<Object[]> findUserIdsByNewsletterId(@Param("newsletterId") Long newsletterId);
+
+    // 상태 스트림 연결 시 현재 상태: [userNewsletterId, newsletterId, llmStatus]
+    @Query("SELECT un.id, n.id, n.llmStatus FROM UserNewsletter un JOIN un.newsletter n " +
+            "WHERE un.user.id = :userId AND un.isConfirmed = false AND n.llmStatus IN :statuses")
+    List<Object[]> findInboxStatusesByUserId(
+            @Param("userId") Long userId,
+            @Param("statuses") Collection<LlmStatus> statuses
+    );
+
     /**
-     * 특정 유저의 특정 토픽에 속한 뉴스레터 목록을 최신순으로 페이징 조회
+     * 특정 유저의 특정 토픽에 속한 뉴스레터 목록을 최신순으로 키셋 페이지네이션 조회
+     * (createdAt, id)가 커서보다 오래된 것부터 읽으므로 깊은 페이지도 OFFSET 없이 인덱스로 바로 찾아갑니다.
      * N+1 문제를 방지하기 위해 Newsletter 엔티티를 FETCH JOIN
      */
     @Query("SELECT un FROM UserNewsletter un " +
             "JOIN FETCH un.newsletter " +
             "JOIN TopicNewsletter tn ON un.newsletter.id = tn.newsletter.id " +
             "WHERE un.user.id = :userId AND tn.topic.id = :topicId " +
-            "ORDER BY un.createdAt DESC")
-    Slice<UserNewsletter> findByUserIdAndTopicId(
+            "AND (un.createdAt < :cursorCreatedAt OR (un.createdAt = :cursorCreatedAt AND un.id < :cursorId)) " +
+            "ORDER BY un.createdAt DESC, un.id DESC")
+    List<UserNewsletter> findByUserIdAndTopicId(
             @Param("userId") Long userId,
             @Param("topicId") Long topicId,
-            Pageable pageable
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            Limit limit
     );
 
     /**
-     * 유저의 인박스 아이템(isConfirmed = false)을 최신순으로 조회
+     * 유저의 인박스 아이템(isConfirmed = false)을 최신순으로 키셋 페이지네이션 조회
      * Fetch Join을 사용하여 Newsletter와 그에 연결된 Domain 정보를 한 번에 로딩 (N+1 문제 방지)
      */
     @Query("SELECT un FROM UserNewsletter un " +
             "JOIN FETCH un.newsletter n " +
             "LEFT JOIN FETCH n.domain d " +
             "WHERE un.user.id = :userId AND un.isConfirmed = false " +
-            "ORDER BY un.createdAt DESC")
-    List<UserNewsletter> findAllInboxByUserId(@Param("userId") Long userId);
+            "AND (un.createdAt < :cursorCreatedAt OR (un.createdAt = :cursorCreatedAt AND un.id < :cursorId)) " +
+            "ORDER BY un.createdAt DESC, un.id DESC")
+    List<UserNewsletter> findInboxByUserId(
+            @Param("userId") Long userId,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            Limit limit
+    );
+
+    /**
+     * Newsletter 처리 완료 시 이를 저장한 모든 UserNewsletter의 label 구성 요소를 한 번에 계산
+     * - depthType: 소비 시간으로 미리 계산한 값
+     * - perspectiveType: 사용자의 NOW 관심사 중 Newsletter 카테고리가 있으면 NOW, 없으면 FUTURE
+     * - tabType: 위 두 값의 조합 (nowTab / futureTab)
+     * 사용자 수와 관계없이 UPDATE 한 번으로 끝납니다. (작업 워커에서 트랜잭션 없이 호출되므로 자체 트랜잭션 사용)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE UserNewsletter un SET un.depthType = :depthType, " +
+            "un.perspectiveType = CASE WHEN EXISTS (" +
+            "    SELECT 1 FROM UserTopic ut JOIN ut.topic t JOIN t.category c " +
+            "    WHERE ut.user.id = un.user.id AND ut.perspectiveType = :now AND c.name = :categoryName) " +
+            "  THEN :now ELSE :future END, " +
+            "un.tabType = CASE WHEN EXISTS (" +
+            "    SELECT 1 FROM UserTopic ut JOIN ut.topic t JOIN t.category c " +
+            "    WHERE ut.user.id = un.user.id AND ut.perspectiveType = :now AND c.name = :categoryName) " +
+            "  THEN :nowTab ELSE :futureTab END, " +
+            "un.modifiedAt = :modifiedAt " +
+            "WHERE un.newsletter.id = :newsletterId")
+    int bulkUpdateLabelComponents(
+            @Param("newsletterId") Long newsletterId,
+            @Param("categoryName") String categoryName,
+            @Param("depthType") DepthType depthType,
+            @Param("now") PerspectiveType now,
+            @Param("future") PerspectiveType future,
+            @Param("nowTab") HomeTabType nowTab,
+            @Param("futureTab") HomeTabType futureTab,
+            @Param("modifiedAt") LocalDateTime modifiedAt
+    );
+
+    /**
+     * 카테고리가 없는 Newsletter: perspectiveType은 계산할 수 없으므로 비워 둠
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE UserNewsletter un SET un.depthType = :depthType, un.perspectiveType = NULL, " +
+            "un.tabType = :tabType, un.modifiedAt = :modifiedAt " +
+            "WHERE un.newsletter.id = :newsletterId")
+    int bulkUpdateDepthType(
+            @Param("newsletterId") Long newsletterId,
+            @Param("depthType") DepthType depthType,
+            @Param("tabType") HomeTabType tabType,
+            @Param("modifiedAt") LocalDateTime modifiedAt
+    );
+
+    /**
+     * 홈 카드 (전체 탭) 키셋 페이지네이션: (createdAt, id)가 커서보다 오래된 것부터 최신순
+     * 카드에 필요한 컬럼만 조회 (본문 요약 등 큰 컬럼은 읽지 않음)
+     */
+    @Query("SELECT new com.archiveat.server.domain.newsletter.repository.UserNewsletterCardRow(" +
+            "un.id, un.createdAt, n.id, un.tabType, n.title, n.smallCardSummary, n.mediumCardSummary, n.thumbnailUrl) " +
+            "FROM UserNewsletter un JOIN un.newsletter n " +
+            "WHERE un.user.id = :userId " +
+            "AND (un.createdAt < :cursorCreatedAt OR (un.createdAt = :cursorCreatedAt AND un.id < :cursorId)) " +
+            "ORDER BY un.createdAt DESC, un.id DESC")
+    List<UserNewsletterCardRow> findCards(
+            @Param("userId") Long userId,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            Limit limit
+    );
+
+    /**
+     * 홈 카드 (탭별) 키셋 페이지네이션
+     */
+    @Query("SELECT new com.archiveat.server.domain.newsletter.repository.UserNewsletterCardRow(" +
+            "un.id, un.createdAt, n.id, un.tabType, n.title, n.smallCardSummary, n.mediumCardSummary, n.thumbnailUrl) " +
+            "FROM UserNewsletter un JOIN un.newsletter n " +
+            "WHERE un.user.id = :userId AND un.tabType = :tabType " +
+            "AND (un.createdAt < :cursorCreatedAt OR (un.createdAt = :cursorCreatedAt AND un.id < :cursorId)) " +
+            "ORDER BY un.createdAt DESC, un.id DESC")
+    List<UserNewsletterCardRow> findCardsByTabType(
+            @Param("userId") Long userId,
+            @Param("tabType") HomeTabType tabType,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            Limit limit
+    );
+
+    /**
+     * UserNewsletter와 Newsletter의 modifiedAt만 조회 (ETag 계산용, 본인 소유가 아니면 empty)
+     */
+    @Query("SELECT new com.archiveat.server.domain.newsletter.repository.UserNewsletterModifiedRow(" +
+            "un.modifiedAt, n.modifiedAt) " +
+            "FROM UserNewsletter un JOIN un.newsletter n " +
+            "WHERE un.id = :id AND un.user.id = :userId")
+    Optional<UserNewsletterModifiedRow> findModifiedAtByIdAndUserId(
+            @Param("id") Long id,
+            @Param("userId") Long userId
+    );
 
     /**
      * 특정 유저의 인박스 아이템들을 일괄 확인 처리
@@ -80,7 +201,7 @@ public interface UserNewsletterRepository extends JpaRepository<UserNewsletter,
             "WHERE un.user.id = :userId " +
             "AND un.isConfirmed = false " +
             "AND un.newsletter.llmStatus = :status") // [Insight] 서브쿼리 없이 직접 참조 가능
-    void bulkConfirmByUserId(
+    int bulkConfirmByUserId(
             @Param("userId") Long userId,
             @Param("now") LocalDateTime now,
             @Param("status") LlmStatus status // [Reason] 하드코딩 방지 및 타입 안정성 확보
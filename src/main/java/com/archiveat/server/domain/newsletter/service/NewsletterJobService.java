@@ -0,0 +1,344 @@
+package com.archiveat.server.domain.newsletter.service;
+
+import com.archiveat.server.domain.newsletter.entity.Newsletter;
+import com.archiveat.server.domain.newsletter.entity.NewsletterJob;
+import com.archiveat.server.domain.newsletter.event.NewsletterStatusChangedEvent;
+import com.archiveat.server.domain.newsletter.repository.NewsletterBatchRepository;
+import com.archiveat.server.domain.newsletter.repository.NewsletterJobRepository;
+import com.archiveat.server.domain.user.entity.User;
+import com.archiveat.server.global.client.PythonEndpoint;
+import com.archiveat.server.global.client.PythonFailureClassifier;
+import com.archiveat.server.global.common.constant.JobStatus;
+import com.archiveat.server.global.common.constant.LlmStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.net.InetAddress;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static com.archiveat.server.global.common.constant.DateTimeConstant.APP_ZONE;
+
+/**
+ * Newsletter 요약 작업 큐 관리
+ *
+ * 작업은 DB(newsletter_jobs)에 저장되므로 재시작/배포 중에도 유실되지 않고,
+ * 각 노드는 리스를 잡고 작업을 처리합니다. 리스가 만료되면 NewsletterJobReaper가 회수해 다른 노드가 다시 가져갑니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NewsletterJobService {
+
+    private final NewsletterJobRepository newsletterJobRepository;
+    private final NewsletterBatchRepository newsletterBatchRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    private final String nodeId = resolveNodeId();
+
+    @Value("${newsletter.job.lease-seconds:120}")
+    private long leaseSeconds;
+
+    @Value("${newsletter.job.max-reclaims:3}")
+    private int maxReclaims;
+
+    @Value("${newsletter.job.max-retries:5}")
+    private int maxRetries;
+
+    @Value("${newsletter.job.retry-base-delay-seconds:30}")
+    private long retryBaseDelaySeconds;
+
+    @Value("${newsletter.job.retry-max-delay-seconds:3600}")
+    private long retryMaxDelaySeconds;
+
+    @Value("${newsletter.job.priority-lane-size:3}")
+    private long priorityLaneSize;
+
+    @Value("${newsletter.job.backlog-soft-limit:2000}")
+    private long backlogSoftLimit;
+
+    @Value("${newsletter.job.backlog-hard-limit:10000}")
+    private long backlogHardLimit;
+
+    @Value("${newsletter.job.delayed-retry-after-seconds:30}")
+    private long delayedRetryAfterSeconds;
+
+    // 전체 노드의 미완료 작업 수 (주기적으로 갱신한 값, 요청마다 COUNT 하지 않음)
+    private volatile long backlog;
+
+    /**
+     * 작업 등록 (호출한 트랜잭션과 함께 커밋)
+     * 이미 작업 행이 있으면 재사용하고, 끝난 작업이면 다시 대기열에 넣습니다.
+     *
+     * 사용자의 미완료 작업이 priority-lane-size개 미만이면 우선 처리 레인에 넣습니다.
+     * (평소의 한두 건 저장은 대량 저장 중인 다른 사용자와 무관하게 바로 처리됨)
+     */
+    @Transactional
+    public NewsletterJob enqueue(Newsletter newsletter, User user) {
+        long activeJobs = newsletterJobRepository.countByUserIdAndStatusIn(
+                user.getId(), List.of(JobStatus.QUEUED, JobStatus.RUNNING));
+        boolean interactive = activeJobs < priorityLaneSize;
+
+        return newsletterJobRepository.findByNewsletterId(newsletter.getId())
+                .map(job -> {
+                    if (!job.isActive()) {
+                        job.resubmit(LocalDateTime.now(APP_ZONE));
+                    }
+                    if (interactive) {
+                        job.prioritize(user);
+                    }
+                    return job;
+                })
+                .orElseGet(() -> newsletterJobRepository.save(NewsletterJob.queue(newsletter, user,
+                        interactive ? NewsletterJob.PRIORITY_INTERACTIVE : NewsletterJob.PRIORITY_BULK)));
+    }
+
+    /**
+     * endpoint로 요청할 작업을 최대 limit개 이 노드 소유로 가져감
+     */
+    @Transactional
+    public List<ClaimedJob> claim(PythonEndpoint endpoint, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+
+        LocalDateTime now = LocalDateTime.now(APP_ZONE);
+        List<NewsletterJob> jobs = newsletterJobRepository.findClaimableForUpdate(endpoint.name(), now, limit);
+
+        return jobs.stream()
+                .map(job -> {
+                    job.claim(nodeId, now, leaseDuration());
+                    return new ClaimedJob(job.getId(), job.getNewsletter().getId(), endpoint, job.getAttempts());
+                })
+                .toList();
+    }
+
+    /**
+     * 처리 중인 작업의 리스 연장
+     */
+    @Transactional
+    public int heartbeat(Collection<Long> jobIds) {
+        if (jobIds.isEmpty()) {
+            return 0;
+        }
+        LocalDateTime now = LocalDateTime.now(APP_ZONE);
+        return newsletterJobRepository.extendLeases(jobIds, nodeId, now, now.plus(leaseDuration()), JobStatus.RUNNING);
+    }
+
+    @Transactional
+    public void complete(Long jobId) {
+        findLeased(jobId).ifPresent(NewsletterJob::complete);
+    }
+
+    /**
+     * 실패 (재시도하지 않음)
+     */
+    @Transactional
+    public void fail(Long jobId, String error) {
+        findLeased(jobId).ifPresent(job -> job.fail(error));
+    }
+
+    /**
+     * 처리 중 오류로 실패
+     * 일시적 오류이고 재시도 횟수가 남았으면 지수 백오프(+지터) 후 자동 재시도를 예약합니다.
+     */
+    @Transactional
+    public void fail(Long jobId, Throwable error) {
+        findLeased(jobId).ifPresent(job -> {
+            String message = error.getMessage();
+            if (PythonFailureClassifier.isPermanent(error) || job.getRetries() >= maxRetries) {
+                job.fail(message);
+                return;
+            }
+            Duration delay = retryDelay(job.getRetries());
+            job.failForRetry(message, LocalDateTime.now(APP_ZONE).plus(delay));
+            log.info("Job {} failed with transient error, retry {}/{} in {}s",
+                    jobId, job.getRetries() + 1, maxRetries, delay.toSeconds());
+        });
+    }
+
+    /**
+     * 재시도 시각이 지난 FAILED 작업을 최대 limit개 다시 대기열로 (Newsletter는 PENDING으로)
+     * 결과는 이미 DONE으로 저장됐는데 작업 상태만 남은 경우는 다시 돌리지 않고 작업을 완료 처리합니다.
+     */
+    @Transactional
+    public int redriveFailed(int limit) {
+        LocalDateTime now = LocalDateTime.now(APP_ZONE);
+        List<NewsletterJob> jobs = newsletterJobRepository.findRetryableForUpdate(now, limit);
+        for (NewsletterJob job : jobs) {
+            Newsletter newsletter = job.getNewsletter();
+            if (newsletter.getLlmStatus() == LlmStatus.DONE) {
+                log.info("Job {} for newsletter {} is already done, completing instead of retrying",
+                        job.getId(), newsletter.getId());
+                job.complete();
+                continue;
+            }
+            job.retry(now);
+            newsletter.updateLlmStatus(LlmStatus.PENDING);
+            applicationEventPublisher.publishEvent(
+                    new NewsletterStatusChangedEvent(newsletter.getId(), LlmStatus.PENDING));
+        }
+        return jobs.size();
+    }
+
+    /**
+     * 로컬에서 실행하지 못한 작업을 즉시 대기열로 반환
+     */
+    @Transactional
+    public void release(Long jobId) {
+        findLeased(jobId).ifPresent(job -> job.requeue(LocalDateTime.now(APP_ZONE)));
+    }
+
+    /**
+     * Python 엔드포인트가 요청을 받을 수 없어 실행하지 못한 작업을 delay 후로 미룸
+     */
+    @Transactional
+    public void defer(Long jobId, Duration delay) {
+        findLeased(jobId).ifPresent(job -> job.defer(LocalDateTime.now(APP_ZONE).plus(delay)));
+    }
+
+    /**
+     * 리스가 만료된 작업을 최대 limit개 회수
+     * - Newsletter가 이미 DONE이면 (결과 저장 후 작업 완료 전에 노드가 죽은 경우) 작업만 완료 처리
+     * - 회수 횟수가 max-reclaims 미만이면 대기열로 되돌리고 Newsletter를 PENDING으로
+     * - 이상이면 노드를 계속 죽이는 작업으로 보고 실패 처리 (Newsletter FAILED)
+     */
+    @Transactional
+    public ReapResult reapExpiredLeases(int limit) {
+        LocalDateTime now = LocalDateTime.now(APP_ZONE);
+        int requeued = 0;
+        int failed = 0;
+        int completed = 0;
+
+        for (NewsletterJob job : newsletterJobRepository.findExpiredLeasesForUpdate(now, limit)) {
+            Newsletter newsletter = job.getNewsletter();
+            if (newsletter.getLlmStatus() == LlmStatus.DONE) {
+                log.info("Job {} for newsletter {} is already done, completing expired lease of {}",
+                        job.getId(), newsletter.getId(), job.getLeaseOwner());
+                job.complete();
+                completed++;
+                continue;
+            }
+            if (job.getReclaims() + 1 >= maxReclaims) {
+                log.error("Job {} for newsletter {} lost its lease {} times, giving up",
+                        job.getId(), newsletter.getId(), job.getReclaims() + 1);
+                job.fail("Lease expired " + (job.getReclaims() + 1) + " times");
+                newsletter.setErrorMessage("Processing was interrupted repeatedly");
+                failed++;
+            } else {
+                log.warn("Reclaiming job {} from expired lease of {}", job.getId(), job.getLeaseOwner());
+                job.reclaim(now);
+                newsletter.updateLlmStatus(LlmStatus.PENDING);
+                requeued++;
+            }
+            applicationEventPublisher.publishEvent(
+                    new NewsletterStatusChangedEvent(newsletter.getId(), newsletter.getLlmStatus()));
+        }
+        return new ReapResult(requeued, failed, completed);
+    }
+
+    /**
+     * 작업 없이 PENDING/RUNNING으로 남은 Newsletter의 작업을 최대 limit개 등록
+     */
+    @Transactional
+    public int enqueueOrphaned(int limit) {
+        return newsletterBatchRepository.enqueueOrphanedJobs(limit, LocalDateTime.now(APP_ZONE));
+    }
+
+    /**
+     * 미완료(QUEUED, RUNNING) 작업 수 갱신
+     */
+    @Scheduled(fixedDelayString = "${newsletter.job.backlog-refresh-ms:1000}")
+    public void refreshBacklog() {
+        try {
+            backlog = newsletterJobRepository.countByStatusIn(List.of(JobStatus.QUEUED, JobStatus.RUNNING));
+        } catch (Exception e) {
+            log.error("Failed to refresh job backlog", e);
+        }
+    }
+
+    /**
+     * 대기열이 밀려 새 작업은 늦게 처리됨 ("accepted, delayed")
+     */
+    public boolean isBacklogDelayed() {
+        return backlog >= backlogSoftLimit;
+    }
+
+    /**
+     * 대기열이 가득 차 새 작업을 받지 않음 (429)
+     */
+    public boolean isBacklogFull() {
+        return backlog >= backlogHardLimit;
+    }
+
+    /**
+     * "accepted, delayed" 응답에서 클라이언트가 상태를 다시 확인해 볼 때까지의 시간
+     */
+    public Duration getDelayedRetryAfter() {
+        return Duration.ofSeconds(delayedRetryAfterSeconds);
+    }
+
+    public long getBacklog() {
+        return backlog;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    private Optional<NewsletterJob> findLeased(Long jobId) {
+        return newsletterJobRepository.findById(jobId)
+                .filter(job -> {
+                    if (!job.isLeasedBy(nodeId)) {
+                        // 리스가 만료되어 다른 노드가 가져간 경우: 그쪽 결과를 따름
+                        log.warn("Job {} is no longer leased by this node ({}), skipping update", jobId, nodeId);
+                        return false;
+                    }
+                    return true;
+                });
+    }
+
+    /**
+     * base * 2^retries (최대 max) 중 절반은 고정, 나머지 절반은 무작위
+     * 같은 장애로 함께 실패한 작업들이 동시에 재시도되지 않도록 흩어 놓습니다.
+     */
+    private Duration retryDelay(int retries) {
+        long exponential = retryBaseDelaySeconds << Math.min(retries, 20);
+        long capped = Math.min(exponential, retryMaxDelaySeconds);
+        long half = Math.max(capped / 2, 1);
+        return Duration.ofSeconds(half + ThreadLocalRandom.current().nextLong(half + 1));
+    }
+
+    private Duration leaseDuration() {
+        return Duration.ofSeconds(leaseSeconds);
+    }
+
+    private static String resolveNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            host = "unknown";
+        }
+        return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    public record ClaimedJob(Long jobId, Long newsletterId, PythonEndpoint endpoint, int attempts) {
+    }
+
+    public record ReapResult(int requeued, int failed, int completed) {
+        public int total() {
+            return requeued + failed + completed;
+        }
+    }
+}
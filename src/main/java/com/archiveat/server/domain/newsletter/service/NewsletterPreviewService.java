@@ -0,0 +1,83 @@
+package com.archiveat.server.domain.newsletter.service;
+
+import com.archiveat.server.domain.newsletter.entity.Newsletter;
+import com.archiveat.server.domain.newsletter.event.NewsletterStatusChangedEvent;
+import com.archiveat.server.domain.newsletter.repository.NewsletterRepository;
+import com.archiveat.server.global.client.OpenGraphClient;
+import com.archiveat.server.global.client.OpenGraphClient.OpenGraphMetadata;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * 인박스 미리보기(제목, 썸네일) 선반영
+ *
+ * 요약 작업과 별개로 OpenGraph 태그만 빠르게 읽어 Newsletter의 비어 있는 제목/썸네일을 채웁니다.
+ * 요청 스레드를 막지 않고 백그라운드에서 실행되며, 실패해도 요약 결과가 나오면 채워집니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NewsletterPreviewService {
+
+    private final OpenGraphClient openGraphClient;
+    private final NewsletterRepository newsletterRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    @Value("${opengraph.concurrency:8}")
+    private int concurrency;
+
+    /**
+     * 저장 직후 호출 (단건)
+     */
+    public void prefetch(Long newsletterId, String contentUrl) {
+        fetchAndSave(newsletterId, contentUrl)
+                .subscribe();
+    }
+
+    /**
+     * 일괄 저장 직후 호출 (동시에 concurrency개까지만 조회)
+     */
+    public void prefetchAll(Collection<Long> newsletterIds) {
+        Mono.fromCallable(() -> newsletterRepository.findAllById(newsletterIds))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMapMany(Flux::fromIterable)
+                .filter(newsletter -> newsletter.getTitle() == null || newsletter.getThumbnailUrl() == null)
+                .flatMap(newsletter -> fetchAndSave(newsletter.getId(), newsletter.getContentUrl()), concurrency)
+                .subscribe();
+    }
+
+    private Mono<Void> fetchAndSave(Long newsletterId, String contentUrl) {
+        return openGraphClient.fetch(contentUrl)
+                .publishOn(Schedulers.boundedElastic()) // 이후 DB 작업은 이벤트 루프 밖에서
+                .doOnNext(metadata -> save(newsletterId, metadata))
+                .onErrorResume(e -> {
+                    log.warn("Failed to prefetch preview for newsletter {}: {}", newsletterId, e.getMessage());
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    private void save(Long newsletterId, OpenGraphMetadata metadata) {
+        int updated = newsletterRepository.fillPreviewIfAbsent(
+                newsletterId, metadata.title(), metadata.imageUrl(), LocalDateTime.now());
+        if (updated == 0) {
+            return;
+        }
+        log.debug("Filled preview of newsletter {} from OpenGraph", newsletterId);
+
+        // 인박스를 보고 있는 사용자가 카드를 다시 그리도록 현재 상태를 한 번 더 알림
+        newsletterRepository.findById(newsletterId)
+                .map(Newsletter::getLlmStatus)
+                .ifPresent(status -> applicationEventPublisher.publishEvent(
+                        new NewsletterStatusChangedEvent(newsletterId, status)));
+    }
+}
@@ -1,32 +1,60 @@
 package com.archiveat.server.domain.newsletter.service;
 
+import com.archiveat.server.domain.explore.repository.ExploreCounterRepository;
+import com.archiveat.server.domain.newsletter.dto.request.GenerateNewsletterRequest;
 import com.archiveat.server.domain.newsletter.dto.response.*;
 import com.archiveat.server.domain.newsletter.entity.Domain;
 import com.archiveat.server.domain.newsletter.entity.Newsletter;
+import com.archiveat.server.domain.newsletter.entity.NewsletterJob;
 import com.archiveat.server.domain.newsletter.entity.UserNewsletter;
+import com.archiveat.server.domain.newsletter.event.NewsletterBatchProcessRequestedEvent;
 import com.archiveat.server.domain.newsletter.event.NewsletterProcessRequestedEvent;
+import com.archiveat.server.domain.newsletter.event.NewsletterStatusChangedEvent;
 import com.archiveat.server.domain.newsletter.repository.DomainRepository;
+import com.archiveat.server.domain.newsletter.repository.NewsletterBatchRepository;
 import com.archiveat.server.domain.newsletter.repository.NewsletterRepository;
 import com.archiveat.server.domain.newsletter.repository.UserNewsletterRepository;
 import com.archiveat.server.domain.user.entity.User;
 import com.archiveat.server.domain.user.repository.UserRepository;
+import com.archiveat.server.global.cache.UserView;
+import com.archiveat.server.global.cache.UserViewInvalidatedEvent;
 import com.archiveat.server.global.client.PythonClientService;
+import com.archiveat.server.global.client.PythonEndpoint;
 import com.archiveat.server.global.common.constant.LlmStatus;
+import com.archiveat.server.global.common.response.ErrorCode;
+import com.archiveat.server.global.exception.CustomException;
+import com.archiveat.server.global.exception.PythonServerUnavailableException;
 import com.archiveat.server.global.util.DomainClassifier;
+import com.archiveat.server.global.util.ETags;
+import com.archiveat.server.global.util.UrlCanonicalizer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.scheduler.Schedulers;
 
 import java.net.URI;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import static com.archiveat.server.global.common.constant.DateTimeConstant.APP_ZONE;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -37,70 +65,95 @@ public class NewsletterService {
     private final UserRepository userRepository;
     private final DomainRepository domainRepository;
     private final PythonClientService pythonClientService;
+    private final NewsletterJobService newsletterJobService;
+    private final NewsletterBatchRepository newsletterBatchRepository;
     private final com.archiveat.server.domain.explore.repository.UserTopicRepository userTopicRepository;
+    private final ExploreCounterRepository exploreCounterRepository;
+    private final NewsletterViewPayloadCache newsletterViewPayloadCache;
 
     private final ApplicationEventPublisher applicationEventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    @Qualifier("taskExecutor")
+    private final Executor taskExecutor; // DB 작업 단계 전용 (네트워크 대기에는 사용하지 않음)
 
     @Transactional
     public DeleteNewsletterResponse deleteUserNewsletter(Long userId, Long userNewsletterId) {
-        int deleted = userNewsletterRepository.deleteByIdAndUser_Id(userNewsletterId, userId);
-        if (deleted == 0) {
+        UserNewsletter userNewsletter = userNewsletterRepository.findByIdAndUser_Id(userNewsletterId, userId)
+                .orElse(null);
+        if (userNewsletter == null) {
             // TODO throw new NewsletterNotFoundException
+        } else {
+            // 탐색 화면 카운터도 같은 트랜잭션에서 차감
+            exploreCounterRepository.addTopicCounts(userId, List.of(userNewsletter.getNewsletter().getId()), -1);
+            if (!userNewsletter.isConfirmed()) {
+                exploreCounterRepository.addInboxCount(userId, -1);
+            }
+            userNewsletterRepository.delete(userNewsletter);
+            applicationEventPublisher.publishEvent(new UserViewInvalidatedEvent(List.of(userId), UserView.all()));
         }
         return new DeleteNewsletterResponse(userNewsletterId);
     }
 
+    /**
+     * 뉴스레터 상세 조회
+     * 읽음 처리는 항상 하고, 클라이언트가 가진 응답과 같으면(isNotModified) 응답 조립을 생략합니다.
+     * 사용자와 무관한 부분(요약 등)은 NewsletterViewPayloadCache에서 꺼내 사용자별 값(메모, 라벨)과 합치므로
+     * 캐시에 있으면 Newsletter 행(요약 본문)을 읽지도, JSON을 파싱하지도 않습니다.
+     * ETag는 Newsletter.modifiedAt과 응답에 들어가는 사용자 값으로 계산합니다.
+     * (UserNewsletter.modifiedAt은 조회할 때마다 lastViewedAt과 함께 바뀌므로 쓰지 않음)
+     *
+     * @param isNotModified ETag를 받아 클라이언트 캐시가 유효한지 확인 (WebRequest::checkNotModified)
+     * @return 변경이 없으면 empty
+     */
     @Transactional
-    public ViewNewsletterResponse viewUserNewsletter(Long userId, Long userNewsletterId) {
+    public Optional<ViewNewsletterResponse> viewUserNewsletter(
+            Long userId, Long userNewsletterId, Predicate<String> isNotModified) {
         UserNewsletter userNewsletter = userNewsletterRepository
                 .findByIdAndUser_Id(userNewsletterId, userId)
                 .orElseThrow(() -> new IllegalArgumentException("Newsletter not found or access denied"));
 
+        boolean wasConfirmed = userNewsletter.isConfirmed();
         if (!userNewsletter.isRead())
             userNewsletter.updateIsRead();
         else
             userNewsletter.updateLastViewedAt();
         userNewsletterRepository.save(userNewsletter);
+        // 읽음 수/밸런스가 바뀌므로 리포트 캐시 무효화 (처음 열면 인박스에서도 빠짐)
+        if (!wasConfirmed) {
+            exploreCounterRepository.addInboxCount(userId, -1);
+            applicationEventPublisher.publishEvent(UserViewInvalidatedEvent.of(userId, UserView.REPORT, UserView.EXPLORE));
+        } else {
+            applicationEventPublisher.publishEvent(UserViewInvalidatedEvent.of(userId, UserView.REPORT));
+        }
 
-        Newsletter newsletter = userNewsletter.getNewsletter();
+        // 프록시에서 id만 꺼내고 Newsletter는 버전(modifiedAt)만 조회
+        Long newsletterId = userNewsletter.getNewsletter().getId();
+        LocalDateTime newsletterModifiedAt = newsletterRepository.findModifiedAtById(newsletterId).orElse(null);
+
+        String eTag = ETags.of(userNewsletter.getId(), newsletterId, newsletterModifiedAt,
+                userNewsletter.getDepthType(), userNewsletter.getPerspectiveType(), userNewsletter.getMemo());
+        if (isNotModified.test(eTag)) {
+            return Optional.empty();
+        }
 
-        // newsletter_summary JSON 파싱
-        List<NewsletterSummaryBlock> summaryBlocks = parseNewsletterSummary(newsletter.getNewsletterSummary());
+        NewsletterViewPayload payload = newsletterViewPayloadCache.get(newsletterId, newsletterModifiedAt)
+                .orElseGet(() -> newsletterViewPayloadCache.load(userNewsletter.getNewsletter()));
 
         // Label 계산: UserNewsletter에 저장된 perspectiveType + depthType 조합
         String label = com.archiveat.server.domain.newsletter.util.LabelFormatter.formatLabel(
                 userNewsletter.getDepthType(),
                 userNewsletter.getPerspectiveType());
 
-        return new ViewNewsletterResponse(
+        return Optional.of(new ViewNewsletterResponse(
                 userNewsletter.getId(), // userNewsletterId
-                newsletter.getCategory(), // categoryName
-                newsletter.getTopic(), // topicName
-                newsletter.getTitle(),
-                newsletter.getThumbnailUrl(),
+                payload.categoryName(),
+                payload.topicName(),
+                payload.title(),
+                payload.thumbnailUrl(),
                 label,
                 userNewsletter.getMemo(),
-                newsletter.getContentUrl(),
-                summaryBlocks);
-    }
-
-    /**
-     * JSON 문자열을 NewsletterSummaryBlock 리스트로 파싱
-     */
-    private List<NewsletterSummaryBlock> parseNewsletterSummary(String newsletterSummaryJson) {
-        if (newsletterSummaryJson == null || newsletterSummaryJson.isEmpty() || newsletterSummaryJson.equals("[]")) {
-            return List.of();
-        }
-
-        try {
-            ObjectMapper mapper = new ObjectMapper();
-            return mapper.readValue(
-                    newsletterSummaryJson,
-                    mapper.getTypeFactory().constructCollectionType(List.class, NewsletterSummaryBlock.class));
-        } catch (Exception e) {
-            // 파싱 실패 시 빈 리스트 반환
-            return List.of();
-        }
+                payload.contentUrl(),
+                payload.newsletterSummary()));
     }
 
     @Transactional
@@ -109,11 +162,19 @@ public class NewsletterService {
                 .findByIdAndUser_Id(userNewsletterId, userId)
                 .orElseThrow(() -> new IllegalArgumentException("Newsletter not found or access denied"));
 
+        boolean wasConfirmed = userNewsletter.isConfirmed();
         if (!userNewsletter.isRead())
             userNewsletter.updateIsRead();
         else
             userNewsletter.updateLastViewedAt();
         userNewsletterRepository.save(userNewsletter);
+        // 읽음 수/밸런스가 바뀌므로 리포트 캐시 무효화 (처음 열면 인박스에서도 빠짐)
+        if (!wasConfirmed) {
+            exploreCounterRepository.addInboxCount(userId, -1);
+            applicationEventPublisher.publishEvent(UserViewInvalidatedEvent.of(userId, UserView.REPORT, UserView.EXPLORE));
+        } else {
+            applicationEventPublisher.publishEvent(UserViewInvalidatedEvent.of(userId, UserView.REPORT));
+        }
 
         Newsletter newsletter = userNewsletter.getNewsletter();
 
@@ -140,107 +201,420 @@ public class NewsletterService {
      * Newsletter 생성 엔드포인트 (비동기 패턴)
      * 
      * 1. Newsletter를 PENDING 상태로 DB에 저장
-     * 2. 즉시 클라이언트에 응답 반환 (PENDING 상태)
-     * 3. 백그라운드에서 비동기 작업 시작 (processNewsletterAsync)
+     * 2. 같은 트랜잭션에서 작업 큐(newsletter_jobs)에 등록
+     * 3. 즉시 클라이언트에 응답 반환 (PENDING 상태)
+     * 4. 커밋 후 워커가 작업을 가져가 처리 (processNewsletter)
+     *
+     * URL은 UrlCanonicalizer로 정규화한 뒤 해시로 조회하므로, 추적 파라미터 등만 다른 URL도 같은 Newsletter로 취급합니다.
+     * 같은 URL의 Newsletter가 이미 있으면 요약을 다시 요청하지 않습니다. (single-flight)
+     * - DONE: Python 호출 없이 이 사용자의 label만 바로 계산
+     * - PENDING/RUNNING: 진행 중인 작업에 합류 (완료 시 모든 UserNewsletter의 label이 함께 계산됨)
+     * - FAILED: 다시 대기열에 등록
+     *
+     * 작업 대기열이 soft limit을 넘으면 delayed=true로 응답하고, hard limit을 넘으면 429로 거절합니다.
      */
     @Transactional
     public GenerateNewsletterResponse generateNewsletter(Long userId, String contentUrl, String memo) {
-        Domain domain = resolveDomainFromUrl(contentUrl);
+        String canonicalUrl = UrlCanonicalizer.canonicalize(contentUrl);
+        Domain domain = resolveDomainFromUrl(canonicalUrl);
 
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("User Not Found"));
 
-        Newsletter newsletter = newsletterRepository.findByContentUrl(contentUrl)
-                .orElseGet(() -> newsletterRepository.save(Newsletter.createPending(domain, contentUrl)));
+        // 공유 잠금: 처리 완료(DONE) 반영과 겹치면 커밋 순서가 정해져 이 저장이 label 계산에서 빠지지 않음
+        Newsletter newsletter = newsletterRepository.findForShareByContentUrlHash(UrlCanonicalizer.hash(canonicalUrl))
+                .orElseGet(() -> newsletterRepository.save(Newsletter.createPending(domain, canonicalUrl)));
 
         UserNewsletter userNewsletter = userNewsletterRepository.save(
                 UserNewsletter.create(user, newsletter, memo));
+        exploreCounterRepository.addTopicCounts(userId, List.of(newsletter.getId()), 1);
+        exploreCounterRepository.addInboxCount(userId, 1);
+
+        if (newsletter.getLlmStatus() == LlmStatus.DONE) {
+            // 이미 요약된 콘텐츠: 이 사용자의 label 구성 요소만 계산
+            updateLabelComponents(userNewsletter, newsletter);
+        } else {
+            // 대기열이 가득 차면 새 작업을 쌓지 않고 거절 (트랜잭션 롤백)
+            if (newsletterJobService.isBacklogFull()) {
+                log.warn("Rejecting newsletter request, job backlog is full: {}", newsletterJobService.getBacklog());
+                throw new CustomException(ErrorCode.TOO_MANY_REQUESTS);
+            }
 
-        // 비동기 작업 시작 (트랜잭션 커밋 후 실행)
-        // @Async 메서드는 별도 스레드에서 실행되므로 즉시 반환됩니다
-        Long newsletterId = newsletter.getId();
-        // processNewsletterAsync(newsletterId, contentUrl);
-        applicationEventPublisher.publishEvent(new NewsletterProcessRequestedEvent(newsletterId, contentUrl));
+            if (newsletter.getLlmStatus() == LlmStatus.FAILED) {
+                newsletter.updateLlmStatus(LlmStatus.PENDING);
+                // 실패 상태를 보고 있던 다른 사용자들에게도 재처리 시작을 알림 (커밋 후 전송)
+                applicationEventPublisher.publishEvent(
+                        new NewsletterStatusChangedEvent(newsletter.getId(), LlmStatus.PENDING));
+            }
 
+            // 작업 큐 등록 (진행 중인 작업이 있으면 그대로 합류, 트랜잭션과 함께 커밋되므로 유실되지 않음)
+            newsletterJobService.enqueue(newsletter, user);
+
+            // 커밋 후 워커를 깨워 폴링 주기를 기다리지 않고 바로 처리
+            applicationEventPublisher.publishEvent(new NewsletterProcessRequestedEvent(newsletter.getId(), canonicalUrl));
+        }
+
+        // 새 카드, 인박스 개수, 저장 수가 바뀌므로 모든 화면 캐시 무효화
+        applicationEventPublisher.publishEvent(new UserViewInvalidatedEvent(List.of(userId), UserView.all()));
+
+        boolean delayed = newsletter.getLlmStatus() != LlmStatus.DONE && newsletterJobService.isBacklogDelayed();
         return new GenerateNewsletterResponse(
                 userNewsletter.getId(),
-                newsletter.getLlmStatus().name());
+                newsletter.getLlmStatus().name(),
+                delayed);
     }
 
     /**
-     * Newsletter 비동기 처리 메서드
+     * Newsletter 일괄 저장 (POST /newsletters/batch)
+     *
+     * generateNewsletter와 같은 규칙이지만 URL 개수와 관계없이 정해진 횟수의 쿼리로 처리합니다.
+     * 1. URL 정규화 (같은 요청 안의 중복 URL은 하나로)
+     * 2. 도메인: IN 조회 후 없는 것만 JDBC batch insert
+     * 3. Newsletter: URL 해시 IN 조회 후 없는 것만 JDBC batch insert
+     * 4. UserNewsletter: JDBC batch insert (DONE이면 label까지 계산해서 저장)
+     * 5. 처리가 필요한 Newsletter의 작업을 한 번에 등록 (대량 저장이므로 일반 레인)
+     */
+    @Transactional
+    public GenerateNewsletterBatchResponse generateNewsletters(Long userId, List<GenerateNewsletterRequest> requests) {
+        if (!userRepository.existsById(userId)) {
+            throw new IllegalArgumentException("User Not Found");
+        }
+        if (newsletterJobService.isBacklogFull()) {
+            log.warn("Rejecting batch newsletter request, job backlog is full: {}", newsletterJobService.getBacklog());
+            throw new CustomException(ErrorCode.TOO_MANY_REQUESTS);
+        }
+        LocalDateTime now = LocalDateTime.now();
+
+        // 1. URL 정규화 (key: URL 해시, 요청 순서 유지)
+        Map<String, BatchItem> items = new LinkedHashMap<>();
+        for (GenerateNewsletterRequest request : requests) {
+            String canonicalUrl = UrlCanonicalizer.canonicalize(request.getContentUrl());
+            items.putIfAbsent(UrlCanonicalizer.hash(canonicalUrl), new BatchItem(
+                    canonicalUrl,
+                    normalizeDomainName(extractDomainName(canonicalUrl)),
+                    request.getMemo()));
+        }
+
+        // 2. 도메인
+        Set<String> domainNames = items.values().stream()
+                .map(BatchItem::domainName)
+                .collect(Collectors.toSet());
+        Map<String, Long> domainIds = resolveDomainIds(domainNames);
+
+        // 3. Newsletter
+        Map<String, Newsletter> newsletters = resolveNewsletters(items, domainIds, now);
+
+        // 4. UserNewsletter (DONE인 Newsletter는 바로 label 계산, NOW 관심사는 한 번만 조회)
+        List<String> nowCategories = userTopicRepository.findCategoryNamesByUserIdAndPerspectiveType(
+                userId, com.archiveat.server.global.common.constant.PerspectiveType.NOW);
+        List<NewsletterBatchRepository.NewUserNewsletter> rows = new ArrayList<>(items.size());
+        List<Newsletter> rowNewsletters = new ArrayList<>(items.size());
+        Map<Long, PythonEndpoint> pendingEndpoints = new LinkedHashMap<>();
+
+        items.forEach((hash, item) -> {
+            Newsletter newsletter = newsletters.get(hash);
+            boolean done = newsletter.getLlmStatus() == LlmStatus.DONE;
+            if (!done) {
+                if (newsletter.getLlmStatus() == LlmStatus.FAILED) {
+                    newsletter.updateLlmStatus(LlmStatus.PENDING);
+                    applicationEventPublisher.publishEvent(
+                            new NewsletterStatusChangedEvent(newsletter.getId(), LlmStatus.PENDING));
+                }
+                pendingEndpoints.put(newsletter.getId(), PythonEndpoint.forUrl(newsletter.getContentUrl()));
+            }
+
+            rows.add(new NewsletterBatchRepository.NewUserNewsletter(
+                    userId,
+                    newsletter.getId(),
+                    item.memo(),
+                    done ? calculatePerspectiveType(nowCategories, newsletter.getCategory()) : null,
+                    done ? calculateDepthType(newsletter.getConsumptionTimeMin()) : null));
+            rowNewsletters.add(newsletter);
+        });
+        List<Long> userNewsletterIds = newsletterBatchRepository.insertUserNewsletters(rows, now);
+        exploreCounterRepository.addTopicCounts(userId, rows.stream()
+                .map(NewsletterBatchRepository.NewUserNewsletter::newsletterId)
+                .toList(), 1);
+        exploreCounterRepository.addInboxCount(userId, rows.size());
+
+        // 5. 작업 등록 및 커밋 후 워커 깨우기
+        if (!pendingEndpoints.isEmpty()) {
+            newsletterBatchRepository.enqueueJobs(pendingEndpoints, userId, NewsletterJob.PRIORITY_BULK,
+                    LocalDateTime.now(APP_ZONE));
+            applicationEventPublisher.publishEvent(
+                    new NewsletterBatchProcessRequestedEvent(List.copyOf(pendingEndpoints.keySet())));
+        }
+
+        applicationEventPublisher.publishEvent(new UserViewInvalidatedEvent(List.of(userId), UserView.all()));
+
+        boolean delayed = !pendingEndpoints.isEmpty() && newsletterJobService.isBacklogDelayed();
+        List<GenerateNewsletterResponse> responses = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            LlmStatus status = rowNewsletters.get(i).getLlmStatus();
+            responses.add(new GenerateNewsletterResponse(
+                    userNewsletterIds.get(i),
+                    status.name(),
+                    delayed && status != LlmStatus.DONE));
+        }
+        log.info("Saved {} newsletters for user {} ({} queued for processing)",
+                rows.size(), userId, pendingEndpoints.size());
+
+        return new GenerateNewsletterBatchResponse(responses, delayed);
+    }
+
+    /**
+     * 도메인 이름 → id (없는 도메인은 일괄 생성 후 다시 조회)
+     */
+    private Map<String, Long> resolveDomainIds(Set<String> domainNames) {
+        Map<String, Long> domainIds = domainRepository.findByNameIn(domainNames).stream()
+                .collect(Collectors.toMap(Domain::getName, Domain::getId));
+
+        Set<String> missing = new HashSet<>(domainNames);
+        missing.removeAll(domainIds.keySet());
+        if (!missing.isEmpty()) {
+            newsletterBatchRepository.insertDomains(missing);
+            domainRepository.findByNameIn(missing)
+                    .forEach(domain -> domainIds.put(domain.getName(), domain.getId()));
+        }
+        return domainIds;
+    }
+
+    /**
+     * URL 해시 → Newsletter (없는 Newsletter는 일괄 생성 후 다시 조회)
+     * 동시에 다른 요청이 같은 URL을 만들면 ON CONFLICT로 건너뛰고, 다시 조회할 때 그 행을 사용합니다.
+     * 단건 저장과 같이 공유 잠금으로 조회해 처리 완료(DONE) 반영과 순서를 맞춥니다.
+     */
+    private Map<String, Newsletter> resolveNewsletters(Map<String, BatchItem> items, Map<String, Long> domainIds,
+            LocalDateTime now) {
+        Map<String, Newsletter> newsletters = newsletterRepository.findForShareByContentUrlHashIn(items.keySet()).stream()
+                .collect(Collectors.toMap(Newsletter::getContentUrlHash, newsletter -> newsletter));
+
+        List<NewsletterBatchRepository.PendingNewsletter> missing = items.entrySet().stream()
+                .filter(entry -> !newsletters.containsKey(entry.getKey()))
+                .map(entry -> new NewsletterBatchRepository.PendingNewsletter(
+                        domainIds.get(entry.getValue().domainName()),
+                        entry.getValue().canonicalUrl(),
+                        entry.getKey()))
+                .toList();
+        if (!missing.isEmpty()) {
+            newsletterBatchRepository.insertPendingNewsletters(missing, now);
+            newsletterRepository.findForShareByContentUrlHashIn(missing.stream()
+                            .map(NewsletterBatchRepository.PendingNewsletter::contentUrlHash)
+                            .toList())
+                    .forEach(newsletter -> newsletters.put(newsletter.getContentUrlHash(), newsletter));
+        }
+        return newsletters;
+    }
+
+    private record BatchItem(String canonicalUrl, String domainName, String memo) {
+    }
+
+    /**
+     * Newsletter 처리 메서드 (작업 큐 워커에서 호출)
      * 
      * 백그라운드에서 실행되며, Python 서버 호출 및 DB 업데이트를 담당합니다.
      * 처리 시간: 5-10초 (YouTube 데이터 추출 + Gemini LLM 요약)
+     *
+     * 1. RUNNING 표시 (taskExecutor)
+     * 2. Python 서버 호출 (WebClient 비동기 응답, 대기 중 점유하는 스레드 없음)
+     * 3. 결과 저장 및 label 업데이트 (taskExecutor)
+     * DB 작업만 taskExecutor의 스레드를 잠깐 사용하므로 적은 스레드로 많은 작업을 동시에 진행할 수 있습니다.
+     *
+     * Python 엔드포인트가 서킷 OPEN/격벽 초과면 RUNNING으로 바꾸기 전에 거절하고(호출 중 거절이면 PENDING으로 되돌림)
+     * PythonServerUnavailableException으로 완료되어, 워커가 작업을 잠시 뒤로 미룹니다.
+     * 그 밖의 오류는 FAILED로 저장한 뒤 원인 예외로 완료되어, 워커가 재시도 여부를 정합니다.
+     *
+     * @return 처리 후 Newsletter 상태 (DONE)
      */
-    public void processNewsletterAsync(Long newsletterId, String contentUrl) {
-        log.info("Starting async newsletter processing for ID: {}", newsletterId);
+    public CompletableFuture<LlmStatus> processNewsletter(Long newsletterId) {
+        log.info("Starting newsletter processing for ID: {}", newsletterId);
         long startTime = System.currentTimeMillis();
 
+        return CompletableFuture
+                .supplyAsync(() -> markRunning(newsletterId), taskExecutor)
+                .thenCompose(this::requestSummary)
+                .thenApplyAsync(response -> completeNewsletter(newsletterId, response), this::executeAfterSummary)
+                .handleAsync((status, error) -> {
+                    long duration = System.currentTimeMillis() - startTime;
+                    if (error == null) {
+                        log.info("Newsletter {} processed successfully in {}ms", newsletterId, duration);
+                        return status;
+                    }
+
+                    Throwable cause = unwrap(error);
+                    if (cause instanceof PythonServerUnavailableException) {
+                        // 엔드포인트가 일시적으로 요청을 받을 수 없음: 실패로 기록하지 않고 워커가 작업을 미루도록 전달
+                        markPending(newsletterId);
+                        log.warn("Newsletter {} deferred: {}", newsletterId, cause.getMessage());
+                        throw new CompletionException(cause);
+                    }
+
+                    markFailed(newsletterId, cause);
+                    log.error("Newsletter {} processing failed after {}ms", newsletterId, duration);
+                    // 워커가 원인을 보고 재시도 여부를 정하도록 예외로 전달
+                    throw new CompletionException(cause);
+                }, this::executeAfterSummary);
+    }
+
+    /**
+     * 요약 요청 이후 DB 단계용 Executor
+     * taskExecutor가 거절하면(큐 초과, 종료 중) boundedElastic에서 실행해, 받은 결과를 버리거나 RUNNING으로 남기지 않음
+     * (시작 단계의 거절은 워커가 작업을 대기열로 돌려놓고, 진행 중인 파이프라인 수는 워커가 제한하므로 넘치는 양도 제한됨)
+     */
+    private void executeAfterSummary(Runnable task) {
         try {
-            // 1. Newsletter 상태를 RUNNING으로 업데이트
-            Newsletter newsletter = newsletterRepository.findById(newsletterId)
-                    .orElseThrow(() -> new IllegalArgumentException("Newsletter not found: " + newsletterId));
-            newsletter.updateLlmStatus(LlmStatus.RUNNING);
-            newsletterRepository.save(newsletter);
-            log.info("Newsletter {} status updated to RUNNING", newsletterId);
+            taskExecutor.execute(task);
+        } catch (RejectedExecutionException e) {
+            log.warn("Task executor rejected a newsletter pipeline stage, running it on boundedElastic");
+            Schedulers.boundedElastic().schedule(task);
+        }
+    }
 
-            // 2. URL 도메인 자동 분류
-            DomainClassifier.DomainType domainType = DomainClassifier.classify(contentUrl);
-            log.info("URL classified as: {} - {}", domainType, domainType.getDescription());
+    /**
+     * 1. Newsletter 상태를 RUNNING으로 업데이트
+     * 엔드포인트가 지금 요청을 받을 수 없으면 상태를 바꾸지 않고 PythonServerUnavailableException으로 끝냄
+     */
+    private Newsletter markRunning(Long newsletterId) {
+        Newsletter newsletter = newsletterRepository.findById(newsletterId)
+                .orElseThrow(() -> new IllegalArgumentException("Newsletter not found: " + newsletterId));
+        pythonClientService.checkAvailable(PythonEndpoint.forUrl(newsletter.getContentUrl()));
+        newsletter.updateLlmStatus(LlmStatus.RUNNING);
+        newsletterRepository.save(newsletter);
+        log.info("Newsletter {} status updated to RUNNING", newsletterId);
+        publishStatusChanged(newsletterId, LlmStatus.RUNNING);
+        return newsletter;
+    }
 
-            // 3. Python 서버 호출 (도메인 타입에 따라 적절한 엔드포인트 호출)
-            CompletableFuture<PythonSummaryResponse> future;
+    /**
+     * 2. Python 서버 호출 (도메인 타입에 따라 적절한 엔드포인트 호출)
+     */
+    private CompletableFuture<PythonSummaryResponse> requestSummary(Newsletter newsletter) {
+        String contentUrl = newsletter.getContentUrl();
+
+        // URL 도메인 자동 분류
+        DomainClassifier.DomainType domainType = DomainClassifier.classify(contentUrl);
+        log.info("URL classified as: {} - {}", domainType, domainType.getDescription());
+
+        if (domainType.isYouTube()) {
+            // YouTube 영상 처리
+            return pythonClientService.requestYouTubeSummary(contentUrl, onProgress(newsletter.getId()));
+        } else if (domainType.isTistory()) {
+            return pythonClientService.requestTistorySummary(contentUrl, null, onProgress(newsletter.getId()));
+        } else if (domainType.needsWebCrawling()) {
+            // 네이버 뉴스, 브런치, 일반 웹 크롤링
+            // user memo는 UserNewsletter에서 가져와야 하지만,
+            // 현재는 Newsletter만 전달받으므로 null 처리
+            // TODO: 필요시 UserNewsletter의 memo도 함께 전달
+            return pythonClientService.requestNaverNewsSummary(contentUrl, null, onProgress(newsletter.getId()));
+        }
+        return CompletableFuture.failedFuture(
+                new IllegalArgumentException("Unsupported domain type: " + domainType));
+    }
 
-            if (domainType.isYouTube()) {
-                // YouTube 영상 처리
-                future = pythonClientService.requestYouTubeSummary(contentUrl);
-            } else if(domainType.isTistory()){
-                future = pythonClientService.requestTistorySummary(contentUrl, null);
-            }
-            else if (domainType.needsWebCrawling()) {
-                // 네이버 뉴스, 브런치, 일반 웹 크롤링
-                // user memo는 UserNewsletter에서 가져와야 하지만,
-                // 현재는 Newsletter만 전달받으므로 null 처리
-                // TODO: 필요시 UserNewsletter의 memo도 함께 전달
-                future = pythonClientService.requestNaverNewsSummary(contentUrl, null);
-            } else {
-                throw new IllegalArgumentException("Unsupported domain type: " + domainType);
+    /**
+     * 2-1. 스트리밍 중간 결과 저장 (제목/썸네일 → 카드 요약 → 본문 순으로 채워짐)
+     * 저장할 때마다 RUNNING 상태 알림을 다시 보내, 클라이언트가 카드를 점진적으로 다시 그릴 수 있게 합니다.
+     */
+    private Consumer<PythonSummaryResponse> onProgress(Long newsletterId) {
+        return partial -> {
+            try {
+                newsletterRepository.findById(newsletterId)
+                        .filter(newsletter -> newsletter.getLlmStatus() == LlmStatus.RUNNING)
+                        .ifPresent(newsletter -> {
+                            newsletter.applyPartialResponse(partial);
+                            newsletterRepository.save(newsletter);
+                            publishStatusChanged(newsletterId, LlmStatus.RUNNING);
+                        });
+            } catch (Exception e) {
+                // 중간 결과 저장 실패는 무시 (완료 시 전체 결과를 저장)
+                log.warn("Failed to save partial summary for newsletter {}: {}", newsletterId, e.getMessage());
             }
+        };
+    }
 
-            PythonSummaryResponse response = future.get(10, TimeUnit.MINUTES); // 블로킹 대기 (백그라운드 스레드이므로 OK)
-
-            // 4. Newsletter 업데이트 (DONE 상태)
+    /**
+     * 3. Newsletter 업데이트 (DONE 상태) 및 label 구성 요소 업데이트
+     * 결과 저장, label 업데이트, 토픽 카운터 갱신은 한 트랜잭션 (중간에 실패하면 DONE도 저장되지 않아 재시도 시 다시 처리)
+     */
+    private LlmStatus completeNewsletter(Long newsletterId, PythonSummaryResponse response) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Newsletter newsletter = newsletterRepository.findById(newsletterId)
+                    .orElseThrow(() -> new IllegalArgumentException("Newsletter not found: " + newsletterId));
             newsletter.updateFromPythonResponse(response);
             newsletterRepository.save(newsletter);
 
-            // 5. 이 Newsletter를 사용하는 모든 UserNewsletter의 label 구성 요소 업데이트
+            // 이 Newsletter를 사용하는 모든 UserNewsletter의 label 구성 요소 업데이트
             updateLabelComponentsForAllUsers(newsletter);
+        });
+        publishStatusChanged(newsletterId, LlmStatus.DONE);
+        warmViewPayload(newsletterId);
+        return LlmStatus.DONE;
+    }
 
-            long duration = System.currentTimeMillis() - startTime;
-            log.info("Newsletter {} processed successfully in {}ms", newsletterId, duration);
-
+    /**
+     * 완료 시점에 상세 화면 공통 부분을 한 번 만들어 둠
+     * 캐시 키(modifiedAt)가 조회 때와 같도록 DB에 저장된 값을 다시 읽어서 사용 (메모리의 값은 정밀도가 다를 수 있음)
+     */
+    private void warmViewPayload(Long newsletterId) {
+        try {
+            newsletterRepository.findById(newsletterId).ifPresent(newsletterViewPayloadCache::load);
         } catch (Exception e) {
-            // 에러 발생 시 FAILED 상태로 저장
-            log.error("Failed to process newsletter {}: {}", newsletterId, e.getMessage(), e);
+            // 첫 조회 때 다시 만들어지므로 무시
+            log.warn("Failed to warm view payload for newsletter {}: {}", newsletterId, e.getMessage());
+        }
+    }
 
-            try {
-                Newsletter newsletter = newsletterRepository.findById(newsletterId).orElse(null);
-                if (newsletter != null) {
-                    String errorMsg = e.getCause() != null ? e.getCause().getMessage() : e.getMessage();
-                    newsletter.setErrorMessage(errorMsg);
-                    newsletter.updateLlmStatus(LlmStatus.FAILED);
-                    newsletterRepository.save(newsletter);
-                }
-            } catch (Exception saveError) {
-                log.error("Failed to save error status for newsletter {}", newsletterId, saveError);
+    /**
+     * 에러 발생 시 FAILED 상태로 저장
+     */
+    private void markFailed(Long newsletterId, Throwable e) {
+        log.error("Failed to process newsletter {}: {}", newsletterId, e.getMessage(), e);
+
+        try {
+            Newsletter newsletter = newsletterRepository.findById(newsletterId).orElse(null);
+            if (newsletter != null) {
+                newsletter.setErrorMessage(e.getMessage());
+                newsletter.updateLlmStatus(LlmStatus.FAILED);
+                newsletterRepository.save(newsletter);
+                publishStatusChanged(newsletterId, LlmStatus.FAILED);
             }
+        } catch (Exception saveError) {
+            log.error("Failed to save error status for newsletter {}", newsletterId, saveError);
+        }
+    }
 
-            long duration = System.currentTimeMillis() - startTime;
-            log.error("Newsletter {} processing failed after {}ms", newsletterId, duration);
+    /**
+     * 처리를 미룰 때 RUNNING 표시를 PENDING으로 되돌림 (RUNNING으로 바꾸기 전에 거절됐으면 할 일 없음)
+     */
+    private void markPending(Long newsletterId) {
+        try {
+            newsletterRepository.findById(newsletterId)
+                    .filter(newsletter -> newsletter.getLlmStatus() == LlmStatus.RUNNING)
+                    .ifPresent(newsletter -> {
+                        newsletter.updateLlmStatus(LlmStatus.PENDING);
+                        newsletterRepository.save(newsletter);
+                        publishStatusChanged(newsletterId, LlmStatus.PENDING);
+                    });
+        } catch (Exception saveError) {
+            log.error("Failed to reset status for newsletter {}", newsletterId, saveError);
         }
     }
 
+    /**
+     * 상태 변경 알림 (NewsletterStatusStreamService가 SSE로 전달)
+     */
+    private void publishStatusChanged(Long newsletterId, LlmStatus status) {
+        applicationEventPublisher.publishEvent(new NewsletterStatusChangedEvent(newsletterId, status));
+    }
+
+    private Throwable unwrap(Throwable error) {
+        Throwable current = error;
+        while (current instanceof CompletionException && current.getCause() != null) {
+            current = current.getCause();
+        }
+        return current;
+    }
+
     @Transactional
     public void updateIsRead(Long userId, Long userNewsletterId) {
         User user = userRepository.findById(userId)
@@ -249,7 +623,11 @@ public class NewsletterService {
         UserNewsletter userNewsletter = userNewsletterRepository.findByIdAndUser_Id(userNewsletterId, userId)
                 .orElseThrow(() -> new IllegalArgumentException("Newsletter not found or access denied"));
 
+        if (!userNewsletter.isConfirmed()) {
+            exploreCounterRepository.addInboxCount(userId, -1);
+        }
         userNewsletter.updateIsRead();
+        applicationEventPublisher.publishEvent(UserViewInvalidatedEvent.of(userId, UserView.REPORT, UserView.EXPLORE));
     }
 
     private Domain getOrCreateDomain(String domainName) {
@@ -315,25 +693,46 @@ public class NewsletterService {
      * 모든 UserNewsletter에 대해 계산하여 업데이트
      */
     private void updateLabelComponentsForAllUsers(Newsletter newsletter) {
-        // 이 Newsletter를 사용하는 모든 UserNewsletter 조회
-        List<UserNewsletter> userNewsletters = userNewsletterRepository.findAllByNewsletter_Id(newsletter.getId());
+        // 저장한 사용자 수와 관계없이 UPDATE 한 번으로 계산 (사용자별 관심사 조회/저장 없음)
+        com.archiveat.server.global.common.constant.DepthType depthType = calculateDepthType(
+                newsletter.getConsumptionTimeMin());
+        LocalDateTime now = LocalDateTime.now();
+
+        int updated = newsletter.getCategory() == null
+                ? userNewsletterRepository.bulkUpdateDepthType(
+                        newsletter.getId(), depthType, UserNewsletter.tabTypeOf(null, depthType), now)
+                : userNewsletterRepository.bulkUpdateLabelComponents(
+                        newsletter.getId(),
+                        newsletter.getCategory(),
+                        depthType,
+                        com.archiveat.server.global.common.constant.PerspectiveType.NOW,
+                        com.archiveat.server.global.common.constant.PerspectiveType.FUTURE,
+                        UserNewsletter.tabTypeOf(com.archiveat.server.global.common.constant.PerspectiveType.NOW, depthType),
+                        UserNewsletter.tabTypeOf(com.archiveat.server.global.common.constant.PerspectiveType.FUTURE, depthType),
+                        now);
+        log.info("Updated label components of {} user newsletters for newsletter {}", updated, newsletter.getId());
+
+        // 요약 중에 토픽이 연결되었을 수 있으므로 저장한 사용자들의 토픽 카운터를 다시 계산
+        exploreCounterRepository.refreshTopicCounts(newsletter.getId());
+    }
 
-        for (UserNewsletter userNewsletter : userNewsletters) {
-            Long userId = userNewsletter.getUser().getId();
+    /**
+     * UserNewsletter 하나의 label 구성 요소 계산
+     */
+    private void updateLabelComponents(UserNewsletter userNewsletter, Newsletter newsletter) {
+        Long userId = userNewsletter.getUser().getId();
 
-            // 1. DepthType 계산 (소비 시간 기준)
-            com.archiveat.server.global.common.constant.DepthType depthType = calculateDepthType(
-                    newsletter.getConsumptionTimeMin());
+        // 1. DepthType 계산 (소비 시간 기준)
+        com.archiveat.server.global.common.constant.DepthType depthType = calculateDepthType(
+                newsletter.getConsumptionTimeMin());
 
-            // 2. PerspectiveType 계산 (사용자의 NOW 관심사 카테고리 확인)
-            com.archiveat.server.global.common.constant.PerspectiveType perspectiveType = calculatePerspectiveType(
-                    userId,
-                    newsletter.getCategory());
+        // 2. PerspectiveType 계산 (사용자의 NOW 관심사 카테고리 확인)
+        com.archiveat.server.global.common.constant.PerspectiveType perspectiveType = calculatePerspectiveType(
+                userId,
+                newsletter.getCategory());
 
-            // 3. UserNewsletter 업데이트
-            userNewsletter.updateLabelComponents(perspectiveType, depthType);
-            userNewsletterRepository.save(userNewsletter);
-        }
+        // 3. UserNewsletter 업데이트
+        userNewsletter.updateLabelComponents(perspectiveType, depthType);
     }
 
     /**
@@ -361,6 +760,18 @@ public class NewsletterService {
                 userId,
                 com.archiveat.server.global.common.constant.PerspectiveType.NOW);
 
+        return calculatePerspectiveType(nowCategories, categoryName);
+    }
+
+    /**
+     * 미리 조회한 NOW 관심사 카테고리 목록으로 PerspectiveType 계산
+     */
+    private com.archiveat.server.global.common.constant.PerspectiveType calculatePerspectiveType(
+            List<String> nowCategories, String categoryName) {
+        if (categoryName == null) {
+            return null;
+        }
+
         return nowCategories.contains(categoryName)
                 ? com.archiveat.server.global.common.constant.PerspectiveType.NOW
                 : com.archiveat.server.global.common.constant.PerspectiveType.FUTURE;
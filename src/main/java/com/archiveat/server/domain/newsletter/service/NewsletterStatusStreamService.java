@@ -0,0 +1,160 @@
+package com.archiveat.server.domain.newsletter.service;
+
+import com.archiveat.server.domain.newsletter.dto.response.NewsletterStatusResponse;
+import com.archiveat.server.domain.newsletter.event.NewsletterStatusChangedEvent;
+import com.archiveat.server.domain.newsletter.repository.UserNewsletterRepository;
+import com.archiveat.server.global.common.constant.LlmStatus;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Newsletter 처리 상태 실시간 스트림 (SSE)
+ *
+ * 1. 파이프라인에서 상태가 바뀌면(PENDING → RUNNING → DONE/FAILED) NewsletterStatusChangedEvent 발행
+ *    (스트리밍 모드에서는 중간 결과가 저장될 때마다 RUNNING이 다시 전달됨)
+ * 2. 이 Newsletter를 저장한 사용자들을 한 번 조회해 Redis 채널로 발행
+ * 3. 모든 노드가 채널을 구독하고, 자기 노드에 연결된 사용자의 스트림으로만 전달
+ * 클라이언트는 인박스를 반복 조회하지 않고 스트림으로 상태 변화를 받습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NewsletterStatusStreamService implements MessageListener {
+
+    private static final String CHANNEL = "newsletter:status";
+    private static final String EVENT_NAME = "llm-status";
+    private static final Duration KEEP_ALIVE_INTERVAL = Duration.ofSeconds(25);
+    private static final List<LlmStatus> IN_PROGRESS = List.of(LlmStatus.PENDING, LlmStatus.RUNNING);
+
+    private final UserNewsletterRepository userNewsletterRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final ObjectMapper objectMapper;
+
+    // 이 노드에 연결된 스트림 (userId → 연결별 sink, 여러 기기에서 동시에 연결 가능)
+    private final Map<Long, Set<Sinks.Many<NewsletterStatusResponse>>> subscribers = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void subscribeChannel() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    /**
+     * 사용자의 상태 스트림
+     * 연결 직후 처리 중(PENDING/RUNNING)인 인박스 아이템의 현재 상태를 먼저 보내, 연결 전의 변화도 놓치지 않게 합니다.
+     */
+    public Flux<ServerSentEvent<NewsletterStatusResponse>> subscribe(Long userId) {
+        Sinks.Many<NewsletterStatusResponse> sink = Sinks.many().unicast().onBackpressureBuffer();
+
+        Flux<NewsletterStatusResponse> snapshot = Flux.defer(() -> Flux.fromIterable(
+                userNewsletterRepository.findInboxStatusesByUserId(userId, IN_PROGRESS).stream()
+                        .map(row -> new NewsletterStatusResponse(
+                                (Long) row[0],
+                                (Long) row[1],
+                                (LlmStatus) row[2]))
+                        .toList()));
+
+        Flux<ServerSentEvent<NewsletterStatusResponse>> events = Flux.concat(snapshot, sink.asFlux())
+                .map(status -> ServerSentEvent.builder(status)
+                        .event(EVENT_NAME)
+                        .build());
+
+        // 프록시/로드밸런서가 유휴 연결을 끊지 않도록 주기적으로 주석 이벤트 전송
+        Flux<ServerSentEvent<NewsletterStatusResponse>> keepAlive = Flux.interval(KEEP_ALIVE_INTERVAL)
+                .map(tick -> ServerSentEvent.<NewsletterStatusResponse>builder()
+                        .comment("keep-alive")
+                        .build());
+
+        return Flux.merge(events, keepAlive)
+                .doOnSubscribe(subscription -> subscribers
+                        .computeIfAbsent(userId, id -> ConcurrentHashMap.newKeySet())
+                        .add(sink))
+                .doFinally(signal -> subscribers.computeIfPresent(userId, (id, sinks) -> {
+                    sinks.remove(sink);
+                    return sinks.isEmpty() ? null : sinks;
+                }));
+    }
+
+    /**
+     * 상태 변경을 이 Newsletter를 저장한 모든 사용자에게 전파
+     * 트랜잭션 안에서 발생하면 커밋 후, 트랜잭션 밖(파이프라인)이면 바로 실행
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleStatusChanged(NewsletterStatusChangedEvent event) {
+        try {
+            List<UserStatus> statuses = userNewsletterRepository.findUserIdsByNewsletterId(event.newsletterId())
+                    .stream()
+                    .map(row -> new UserStatus(
+                            (Long) row[1],
+                            new NewsletterStatusResponse((Long) row[0], event.newsletterId(), event.llmStatus())))
+                    .toList();
+            if (statuses.isEmpty()) {
+                return;
+            }
+
+            try {
+                stringRedisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(statuses));
+            } catch (Exception e) {
+                // Redis 장애 시 최소한 이 노드에 연결된 사용자에게는 전달
+                log.warn("Failed to publish newsletter status to Redis, delivering locally: {}", e.getMessage());
+                statuses.forEach(this::deliver);
+            }
+        } catch (Exception e) {
+            log.error("Failed to broadcast status of newsletter {}", event.newsletterId(), e);
+        }
+    }
+
+    /**
+     * Redis 채널 수신 (모든 노드)
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        try {
+            List<UserStatus> statuses = objectMapper.readValue(
+                    new String(message.getBody(), StandardCharsets.UTF_8),
+                    new TypeReference<List<UserStatus>>() {
+                    });
+            statuses.forEach(this::deliver);
+        } catch (Exception e) {
+            log.error("Failed to handle newsletter status message", e);
+        }
+    }
+
+    private void deliver(UserStatus userStatus) {
+        Set<Sinks.Many<NewsletterStatusResponse>> sinks = subscribers.get(userStatus.userId());
+        if (sinks == null) {
+            return;
+        }
+        for (Sinks.Many<NewsletterStatusResponse> sink : sinks) {
+            // 파이프라인 스레드와 Redis 수신 스레드가 동시에 보낼 수 있어 잠깐 재시도
+            sink.emitNext(userStatus.status(), Sinks.EmitFailureHandler.busyLooping(Duration.ofMillis(100)));
+        }
+    }
+
+    record UserStatus(Long userId, NewsletterStatusResponse status) {
+    }
+}
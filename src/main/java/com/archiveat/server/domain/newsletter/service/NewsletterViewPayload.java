@@ -0,0 +1,17 @@
+package com.archiveat.server.domain.newsletter.service;
+
+/**
+ * 뉴스레터 상세 화면 중 사용자와 무관한 공통 부분
+ * 사용자별 값(메모, 라벨)은 조회 시점에 합쳐 ViewNewsletterResponse를 만듭니다.
+ *
+ * @param newsletterSummary NewsletterSummaryBlock 배열을 직렬화한 JSON
+ */
+public record NewsletterViewPayload(
+        String categoryName,
+        String topicName,
+        String title,
+        String thumbnailUrl,
+        String contentUrl,
+        String newsletterSummary
+) {
+}
@@ -0,0 +1,91 @@
+package com.archiveat.server.domain.newsletter.service;
+
+import com.archiveat.server.domain.newsletter.dto.response.NewsletterSummaryBlock;
+import com.archiveat.server.domain.newsletter.entity.Newsletter;
+import com.archiveat.server.global.common.constant.LlmStatus;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 뉴스레터 상세 화면 공통 부분 캐시 (노드 로컬, 크기 제한 LRU)
+ *
+ * 요약 본문은 한 번만 검증/직렬화해 JSON 문자열로 들고 있다가 응답에 그대로 넣으므로, 조회 시 JSON 파싱이 없습니다.
+ * 키는 (newsletterId, modifiedAt)이라 카테고리 수정 등으로 행이 바뀌면 새 항목이 만들어지고, 이전 항목은 LRU로 밀려납니다.
+ * 요약이 더 이상 바뀌지 않는 DONE 상태만 캐시합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NewsletterViewPayloadCache {
+
+    private static final String EMPTY_SUMMARY = "[]";
+
+    private final ObjectMapper objectMapper;
+
+    @Value("${cache.newsletter-view.max-entries:1000}")
+    private int maxEntries;
+
+    private final Map<Key, NewsletterViewPayload> entries = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, NewsletterViewPayload> eldest) {
+            return size() > maxEntries;
+        }
+    };
+
+    /**
+     * @param modifiedAt DB에 저장된 Newsletter.modifiedAt (캐시 버전)
+     */
+    public synchronized Optional<NewsletterViewPayload> get(Long newsletterId, LocalDateTime modifiedAt) {
+        return Optional.ofNullable(entries.get(new Key(newsletterId, modifiedAt)));
+    }
+
+    /**
+     * 공통 부분을 만들어 반환 (DONE이면 캐시에 저장)
+     */
+    public NewsletterViewPayload load(Newsletter newsletter) {
+        NewsletterViewPayload payload = new NewsletterViewPayload(
+                newsletter.getCategory(),
+                newsletter.getTopic(),
+                newsletter.getTitle(),
+                newsletter.getThumbnailUrl(),
+                newsletter.getContentUrl(),
+                serializeSummary(newsletter));
+
+        if (newsletter.getLlmStatus() == LlmStatus.DONE) {
+            synchronized (this) {
+                entries.put(new Key(newsletter.getId(), newsletter.getModifiedAt()), payload);
+            }
+        }
+        return payload;
+    }
+
+    /**
+     * 저장된 요약 JSON을 응답 형식(NewsletterSummaryBlock 배열)으로 한 번 정규화, 깨진 값은 빈 배열
+     */
+    private String serializeSummary(Newsletter newsletter) {
+        String json = newsletter.getNewsletterSummary();
+        if (json == null || json.isBlank() || json.equals(EMPTY_SUMMARY)) {
+            return EMPTY_SUMMARY;
+        }
+        try {
+            List<NewsletterSummaryBlock> blocks = objectMapper.readValue(json, new TypeReference<List<NewsletterSummaryBlock>>() {});
+            return objectMapper.writeValueAsString(blocks);
+        } catch (Exception e) {
+            log.warn("Invalid summary JSON for newsletter {}: {}", newsletter.getId(), e.getMessage());
+            return EMPTY_SUMMARY;
+        }
+    }
+
+    private record Key(Long newsletterId, LocalDateTime modifiedAt) {
+    }
+}
@@ -0,0 +1,94 @@
+package com.archiveat.server.domain.newsletter.worker;
+
+import com.archiveat.server.domain.newsletter.service.NewsletterJobService;
+import com.archiveat.server.domain.newsletter.service.NewsletterJobService.ReapResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 장애 복구: 버려진 작업 회수
+ *
+ * 1. 주기적으로 리스가 만료된 RUNNING 작업을 회수 (하트비트가 끊긴 노드의 작업)
+ * 2. 기동 시 한 번 더 회수하고, 작업 없이 PENDING/RUNNING으로 남은 Newsletter의 작업을 등록
+ *
+ * 회수한 작업은 대기열로 돌아갈 뿐이고 실행은 워커가 자기 처리 용량만큼만 가져가므로,
+ * 한꺼번에 많이 회수해도 Python 서버로 동시에 몰리지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NewsletterJobReaper {
+
+    private final NewsletterJobService newsletterJobService;
+    private final NewsletterJobWorker newsletterJobWorker;
+
+    @Value("${newsletter.job.reaper-batch-size:100}")
+    private int batchSize;
+
+    @Value("${newsletter.job.reaper-max-batches:10}")
+    private int maxBatches;
+
+    @Scheduled(fixedDelayString = "${newsletter.job.reaper-interval-ms:30000}")
+    public void reap() {
+        try {
+            int reaped = reapExpiredLeases();
+            if (reaped > 0) {
+                newsletterJobWorker.wakeUp();
+            }
+        } catch (Exception e) {
+            log.error("Failed to reap expired newsletter jobs", e);
+        }
+    }
+
+    /**
+     * 기동 시 복구 (재배포 중 죽은 노드의 작업, 작업 행이 없는 Newsletter)
+     * 여러 노드가 동시에 기동해도 SKIP LOCKED와 ON CONFLICT로 겹치지 않습니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void recoverOnStartup() {
+        try {
+            int reaped = reapExpiredLeases();
+
+            int orphaned = 0;
+            for (int i = 0; i < maxBatches; i++) {
+                int enqueued = newsletterJobService.enqueueOrphaned(batchSize);
+                orphaned += enqueued;
+                if (enqueued < batchSize) {
+                    break;
+                }
+            }
+
+            if (reaped > 0 || orphaned > 0) {
+                log.info("Startup recovery: reclaimed {} expired jobs, enqueued {} orphaned newsletters",
+                        reaped, orphaned);
+                newsletterJobWorker.wakeUp();
+            }
+        } catch (Exception e) {
+            log.error("Failed to recover newsletter jobs on startup", e);
+        }
+    }
+
+    /**
+     * 한 번에 batchSize개씩, 최대 maxBatches번 회수 (한 트랜잭션이 너무 커지지 않게)
+     * 남은 작업은 다음 주기에 회수합니다.
+     */
+    private int reapExpiredLeases() {
+        int total = 0;
+        for (int i = 0; i < maxBatches; i++) {
+            ReapResult result = newsletterJobService.reapExpiredLeases(batchSize);
+            total += result.total();
+            if (result.failed() > 0) {
+                log.warn("Gave up on {} newsletter jobs after repeated lease expiry", result.failed());
+            }
+            if (result.total() < batchSize) {
+                break;
+            }
+        }
+        return total;
+    }
+}
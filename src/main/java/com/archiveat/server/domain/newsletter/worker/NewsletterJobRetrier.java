@@ -0,0 +1,39 @@
+package com.archiveat.server.domain.newsletter.worker;
+
+import com.archiveat.server.domain.newsletter.service.NewsletterJobService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 일시적 오류로 실패한 작업의 자동 재시도
+ *
+ * 재시도 시각이 지난 FAILED 작업을 주기마다 retry-batch-size개까지만 대기열로 되돌립니다.
+ * Python 서버 장애가 끝난 직후에도 밀린 작업이 한꺼번에 몰리지 않고 조금씩 다시 처리됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NewsletterJobRetrier {
+
+    private final NewsletterJobService newsletterJobService;
+    private final NewsletterJobWorker newsletterJobWorker;
+
+    @Value("${newsletter.job.retry-batch-size:50}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${newsletter.job.retry-interval-ms:10000}")
+    public void redrive() {
+        try {
+            int redriven = newsletterJobService.redriveFailed(batchSize);
+            if (redriven > 0) {
+                log.info("Re-queued {} failed newsletter jobs for retry", redriven);
+                newsletterJobWorker.wakeUp();
+            }
+        } catch (Exception e) {
+            log.error("Failed to re-drive failed newsletter jobs", e);
+        }
+    }
+}
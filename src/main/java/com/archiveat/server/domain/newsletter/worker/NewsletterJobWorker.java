@@ -0,0 +1,161 @@
+package com.archiveat.server.domain.newsletter.worker;
+
+import com.archiveat.server.domain.newsletter.service.NewsletterJobService;
+import com.archiveat.server.domain.newsletter.service.NewsletterJobService.ClaimedJob;
+import com.archiveat.server.domain.newsletter.service.NewsletterService;
+import com.archiveat.server.global.client.PythonEndpoint;
+import com.archiveat.server.global.client.PythonEndpointGuard;
+import com.archiveat.server.global.common.constant.LlmStatus;
+import com.archiveat.server.global.exception.PythonServerUnavailableException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Newsletter 작업 큐 워커
+ *
+ * 1. 주기적으로(또는 새 작업 등록 직후) Python 엔드포인트별로 남은 동시 요청 자리만큼 작업을 가져옴
+ *    (YouTube 자리가 없거나 서킷이 열려 있어도 다른 엔드포인트 작업은 계속 가져감)
+ * 2. 비동기 요약 파이프라인 시작 (Python 응답 대기 중에는 스레드를 점유하지 않음)
+ * 3. 처리 중인 작업은 하트비트로 리스를 연장
+ * 4. Python 엔드포인트가 요청을 거절하면(서킷 OPEN, 격벽 초과) 실패 대신 잠시 뒤로 미룸
+ * 5. 처리 중 오류는 원인을 함께 기록해 일시적 오류만 자동 재시도 (NewsletterJobRetrier)
+ *
+ * 노드를 늘리면 각 노드가 같은 테이블에서 작업을 나눠 가져가므로 처리량이 함께 늘어납니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NewsletterJobWorker {
+
+    private final NewsletterJobService newsletterJobService;
+    private final NewsletterService newsletterService;
+    private final TaskScheduler taskScheduler;
+    private final PythonEndpointGuard pythonEndpointGuard;
+
+    private static final Duration MIN_DEFER_DELAY = Duration.ofSeconds(1);
+
+    // 처리 중인 작업 ID → 엔드포인트
+    private final Map<Long, PythonEndpoint> inFlightJobs = new ConcurrentHashMap<>();
+    private final AtomicBoolean polling = new AtomicBoolean(false);
+
+    @Value("${newsletter.job.max-in-flight:200}")
+    private int maxInFlight;
+
+    /**
+     * 새 작업이 커밋된 직후 폴링 주기를 기다리지 않고 바로 가져가도록 깨움
+     */
+    public void wakeUp() {
+        taskScheduler.schedule(this::poll, Instant.now());
+    }
+
+    @Scheduled(fixedDelayString = "${newsletter.job.poll-interval-ms:1000}")
+    public void poll() {
+        // 스케줄 폴링과 wakeUp이 겹치면 한쪽만 실행
+        if (!polling.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            int budget = maxInFlight - inFlightJobs.size();
+            for (PythonEndpoint endpoint : PythonEndpoint.values()) {
+                if (budget <= 0) {
+                    break;
+                }
+                // 엔드포인트가 지금 감당하는 동시 요청 수(적응형 limit) 이상은 가져가지 않음
+                int capacity = Math.min(budget, pythonEndpointGuard.getAvailableSlots(endpoint, countInFlight(endpoint)));
+                if (capacity <= 0) {
+                    continue;
+                }
+
+                List<ClaimedJob> claimed = newsletterJobService.claim(endpoint, capacity);
+                for (ClaimedJob job : claimed) {
+                    dispatch(job);
+                }
+                budget -= claimed.size();
+            }
+        } catch (Exception e) {
+            log.error("Failed to poll newsletter jobs", e);
+        } finally {
+            polling.set(false);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${newsletter.job.heartbeat-interval-ms:30000}")
+    public void heartbeat() {
+        try {
+            List<Long> jobIds = List.copyOf(inFlightJobs.keySet());
+            int extended = newsletterJobService.heartbeat(jobIds);
+            if (extended < jobIds.size()) {
+                log.warn("Lease extended for {}/{} in-flight jobs", extended, jobIds.size());
+            }
+        } catch (Exception e) {
+            log.error("Failed to send job heartbeat", e);
+        }
+    }
+
+    private void dispatch(ClaimedJob job) {
+        inFlightJobs.put(job.jobId(), job.endpoint());
+
+        CompletableFuture<LlmStatus> pipeline;
+        try {
+            pipeline = newsletterService.processNewsletter(job.newsletterId());
+        } catch (RejectedExecutionException e) {
+            log.warn("Executor rejected job {}, releasing back to queue", job.jobId());
+            inFlightJobs.remove(job.jobId());
+            newsletterJobService.release(job.jobId());
+            return;
+        }
+
+        pipeline.whenComplete((result, error) -> {
+            try {
+                if (error == null && result == LlmStatus.DONE) {
+                    newsletterJobService.complete(job.jobId());
+                } else if (error == null) {
+                    newsletterJobService.fail(job.jobId(), "Newsletter processing ended with status " + result);
+                } else if (unwrap(error) instanceof PythonServerUnavailableException unavailable) {
+                    // 서킷 OPEN 또는 격벽 초과: 실패가 아니므로 엔드포인트가 회복될 즈음으로 미룸
+                    Duration delay = unavailable.getRetryAfter().compareTo(MIN_DEFER_DELAY) < 0
+                            ? MIN_DEFER_DELAY : unavailable.getRetryAfter();
+                    newsletterJobService.defer(job.jobId(), delay);
+                } else {
+                    log.error("Job {} for newsletter {} failed", job.jobId(), job.newsletterId(), error);
+                    // 일시적 오류면 백오프 후 자동 재시도 예약, 4xx 등 영구 오류면 실패로 끝냄
+                    newsletterJobService.fail(job.jobId(), unwrap(error));
+                }
+            } catch (Exception e) {
+                // 여기서 실패해도 리스 만료 후 다른 노드가 다시 처리함
+                log.error("Failed to record result of job {}", job.jobId(), e);
+            } finally {
+                inFlightJobs.remove(job.jobId());
+            }
+        });
+    }
+
+    private int countInFlight(PythonEndpoint endpoint) {
+        return (int) inFlightJobs.values().stream()
+                .filter(endpoint::equals)
+                .count();
+    }
+
+    private Throwable unwrap(Throwable error) {
+        Throwable current = error;
+        while (current instanceof CompletionException && current.getCause() != null) {
+            current = current.getCause();
+        }
+        return current;
+    }
+}
@@ -7,6 +7,8 @@ import com.archiveat.server.domain.explore.repository.TopicNewsletterRepository;
 import com.archiveat.server.domain.newsletter.entity.UserNewsletter;
 import com.archiveat.server.domain.newsletter.repository.UserNewsletterRepository;
 import com.archiveat.server.domain.report.dto.response.*;
+import com.archiveat.server.global.cache.UserView;
+import com.archiveat.server.global.cache.UserViewCache;
 import com.archiveat.server.global.common.constant.DepthType;
 import com.archiveat.server.global.common.constant.PerspectiveType;
 import lombok.RequiredArgsConstructor;
@@ -27,13 +29,20 @@ public class ReportService {
 
     private final UserNewsletterRepository userNewsletterRepository;
     private final TopicNewsletterRepository topicNewsletterRepository;
+    private final UserViewCache userViewCache;
 
     /**
      * 주간 리포트 전체 정보 조회
+     * 주차가 바뀌면 새로 계산되도록 캐시 키에 주 시작일을 포함합니다.
      */
     @Transactional(readOnly = true)
     public WeeklyReportResponse getWeeklyReport(Long userId) {
         LocalDateTime[] weekRange = getCurrentWeekRange();
+        return userViewCache.get(UserView.REPORT, userId, weekRange[0].toLocalDate().toString(),
+                WeeklyReportResponse.class, () -> loadWeeklyReport(userId, weekRange));
+    }
+
+    private WeeklyReportResponse loadWeeklyReport(Long userId, LocalDateTime[] weekRange) {
         LocalDateTime weekStart = weekRange[0];
         LocalDateTime weekEnd = weekRange[1];
 
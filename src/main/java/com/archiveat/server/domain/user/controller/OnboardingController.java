@@ -7,15 +7,23 @@ import com.archiveat.server.domain.user.dto.response.OnboardingMetadataResponse;
 import com.archiveat.server.domain.user.service.OnboardingService;
 import com.archiveat.server.global.common.response.ApiResponse;
 import com.archiveat.server.global.common.response.SuccessCode;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Duration;
 
 @RequiredArgsConstructor
 @RestController
 @RequestMapping("/user")
 public class OnboardingController {
+    private static final CacheControl METADATA_CACHE_CONTROL = CacheControl.maxAge(Duration.ofMinutes(5)).cachePublic();
+
     private final OnboardingService onboardingService;
 
     @PostMapping("/nickname")
@@ -37,8 +45,19 @@ public class OnboardingController {
         return ApiResponse.ok(SuccessCode.SUCCESS, nicknameResponse);
     }
 
+    /**
+     * 사용자와 무관한 선택지 목록이므로 공유 캐시를 허용하고, 만료 후에는 ETag로 재검증
+     */
     @GetMapping("/metadata")
-    public ApiResponse<OnboardingMetadataResponse> getOnboardingMetadata() {
+    public ApiResponse<OnboardingMetadataResponse> getOnboardingMetadata(
+            WebRequest webRequest,
+            HttpServletResponse response
+    ) {
+        response.setHeader(HttpHeaders.CACHE_CONTROL, METADATA_CACHE_CONTROL.getHeaderValue());
+        if (webRequest.checkNotModified(onboardingService.getOnboardingMetadataETag())) {
+            return null; // 304
+        }
+
         OnboardingMetadataResponse metadataResponse = onboardingService.getOnboardingMetadata();
 
         return ApiResponse.ok(metadataResponse);
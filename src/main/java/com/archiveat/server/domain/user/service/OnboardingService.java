@@ -1,11 +1,10 @@
 package com.archiveat.server.domain.user.service;
 
-import com.archiveat.server.domain.explore.entity.Category;
-import com.archiveat.server.domain.explore.entity.Topic;
 import com.archiveat.server.domain.explore.entity.UserTopic;
-import com.archiveat.server.domain.explore.repository.CategoryRepository;
 import com.archiveat.server.domain.explore.repository.TopicRepository;
 import com.archiveat.server.domain.explore.repository.UserTopicRepository;
+import com.archiveat.server.domain.explore.taxonomy.Taxonomy;
+import com.archiveat.server.domain.explore.taxonomy.TaxonomyService;
 import com.archiveat.server.domain.user.dto.request.OnboardingInfoRequest;
 import com.archiveat.server.domain.user.dto.response.NicknameResponse;
 import com.archiveat.server.domain.user.dto.response.OnboardingMetadataResponse;
@@ -14,6 +13,7 @@ import com.archiveat.server.domain.user.repository.UserRepository;
 import com.archiveat.server.global.common.constant.AvailabilityType;
 import com.archiveat.server.global.common.constant.EmploymentType;
 import com.archiveat.server.global.common.constant.PerspectiveType;
+import com.archiveat.server.global.util.ETags;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -27,7 +27,7 @@ import java.util.stream.Collectors;
 @Service
 public class OnboardingService {
     private final UserRepository userRepository;
-    private final CategoryRepository categoryRepository;
+    private final TaxonomyService taxonomyService;
     private final UserTopicRepository userTopicRepository; // 추가
     private final TopicRepository topicRepository;
 
@@ -50,6 +50,16 @@ public class OnboardingService {
     }
 
     // 온보딩 메타데이터 조회
+    /**
+     * 온보딩 메타데이터 ETag: 선택지 Enum과 카테고리/토픽 스냅샷 version (응답을 만들지 않음)
+     */
+    public String getOnboardingMetadataETag() {
+        return ETags.of("metadata",
+                Arrays.toString(EmploymentType.values()),
+                Arrays.toString(AvailabilityType.values()),
+                taxonomyService.get().getVersion());
+    }
+
     @Transactional(readOnly = true)
     public OnboardingMetadataResponse getOnboardingMetadata() {
         // 1. 직업 군 및 시간대 옵션을 Enum에서 추출하여 String 리스트로 변환
@@ -61,18 +71,18 @@ public class OnboardingService {
                 .map(Enum::name)
                 .collect(Collectors.toList());
 
-        // 2. DB에서 모든 카테고리와 연관된 토픽 정보를 조회
-        List<Category> categories = categoryRepository.findAll();
+        // 2. 모든 카테고리와 연관된 토픽 정보 (메모리 스냅샷, DB 조회 없음)
+        List<Taxonomy.CategoryNode> categories = taxonomyService.get().getCategories();
 
-        // 3. Entity 리스트를 Response DTO 구조로 매핑
+        // 3. 스냅샷을 Response DTO 구조로 매핑
         List<OnboardingMetadataResponse.CategoryMetadataResponse> categoryMetadata = categories.stream()
                 .map(category -> new OnboardingMetadataResponse.CategoryMetadataResponse(
-                        category.getId(),
-                        category.getName(),
-                        category.getTopics().stream() // Category-Topic은 OneToMany 관계라고 가정합니다.
+                        category.id(),
+                        category.name(),
+                        category.topics().stream()
                                 .map(topic -> new OnboardingMetadataResponse.TopicMetadataResponse(
-                                        topic.getId(),
-                                        topic.getName()
+                                        topic.id(),
+                                        topic.name()
                                 ))
                                 .collect(Collectors.toList())
                 ))
@@ -98,9 +108,9 @@ public class OnboardingService {
         // 새로운 정책에 따라 전체 지도를 다시 그려야 하므로 기존 데이터를 초기화합니다.
         userTopicRepository.deleteAllByUserId(userId);
 
-        // 4. 시스템 내 모든 토픽 조회
+        // 4. 시스템 내 모든 토픽 (메모리 스냅샷)
         // 모든 유저에게 전체 토픽에 대한 NOW/FUTURE 상태를 부여하기 위해 기준 데이터를 가져옵니다.
-        List<Topic> allTopics = topicRepository.findAll();
+        List<Taxonomy.TopicNode> allTopics = taxonomyService.get().getTopics();
 
         // 5. 요청된(선택된) 토픽 ID들을 Set으로 변환
         // 조회 성능을 높이기 위해 List를 Set으로 변환하여 포함 여부(contains) 확인을 최적화합니다.
@@ -112,11 +122,12 @@ public class OnboardingService {
         List<UserTopic> userTopics = allTopics.stream()
                 .map(topic -> {
                     // 선택된 ID 셋에 포함되어 있으면 NOW, 없으면 FUTURE로 상태를 결정합니다.
-                    PerspectiveType type = selectedTopicIds.contains(topic.getId())
+                    PerspectiveType type = selectedTopicIds.contains(topic.id())
                             ? PerspectiveType.NOW
                             : PerspectiveType.FUTURE;
 
-                    return new UserTopic(user, topic, type);
+                    // 연관관계만 필요하므로 Topic은 조회 없이 참조(프록시)로 연결
+                    return new UserTopic(user, topicRepository.getReferenceById(topic.id()), type);
                 })
                 .collect(Collectors.toList());
 
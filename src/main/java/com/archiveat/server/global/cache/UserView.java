@@ -0,0 +1,17 @@
+package com.archiveat.server.global.cache;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * 사용자별로 캐시하는 화면 응답
+ */
+public enum UserView {
+    HOME,
+    EXPLORE,
+    REPORT;
+
+    public static Set<UserView> all() {
+        return EnumSet.allOf(UserView.class);
+    }
+}
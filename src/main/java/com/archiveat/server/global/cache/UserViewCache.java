@@ -0,0 +1,164 @@
+package com.archiveat.server.global.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * 사용자별 화면 응답 캐시 (Redis, read-through)
+ *
+ * 키는 화면별 버전을 포함합니다.
+ * - 버전: view:{화면}:ver:{userId}
+ * - 응답: view:{화면}:{userId}:v{버전}[:{구분값}]
+ * 데이터가 바뀌면 커밋 후 버전만 새로 바꿔 이전 응답을 더 이상 읽지 않게 하고, 남은 키는 TTL로 정리됩니다.
+ * 버전은 DB 조회 전에 읽으므로, 조회 도중 커밋된 변경이 있으면 그 응답은 이미 지난 버전 키에 저장됩니다.
+ * 버전은 매번 새로 만드는 임의 토큰이라 키가 만료된 뒤에도 예전 값이 다시 나오지 않으므로 ETag 재료로도 씁니다.
+ * Redis 장애 시에는 캐시 없이 바로 계산합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserViewCache {
+
+    private static final String KEY_PREFIX = "view:";
+    private static final Duration VERSION_TTL = Duration.ofDays(7);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${cache.view.enabled:true}")
+    private boolean enabled;
+
+    @Value("${cache.view.ttl-seconds:600}")
+    private long ttlSeconds;
+
+    public <T> T get(UserView view, Long userId, Class<T> type, Supplier<T> loader) {
+        return get(view, userId, null, type, loader);
+    }
+
+    /**
+     * 캐시된 응답 조회, 없으면 loader로 계산해 저장
+     *
+     * @param variant 같은 화면이라도 응답이 달라지는 구분값 (예: 리포트의 주차), 없으면 null
+     */
+    public <T> T get(UserView view, Long userId, String variant, Class<T> type, Supplier<T> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        String key;
+        try {
+            key = dataKey(view, userId, currentVersion(view, userId), variant);
+            String cached = stringRedisTemplate.opsForValue().get(key);
+            if (cached != null) {
+                return objectMapper.readValue(cached, type);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to read {} view cache for user {}: {}", view, userId, e.getMessage());
+            return loader.get();
+        }
+
+        T value = loader.get();
+        try {
+            stringRedisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(value), Duration.ofSeconds(ttlSeconds));
+        } catch (Exception e) {
+            log.warn("Failed to write {} view cache for user {}: {}", view, userId, e.getMessage());
+        }
+        return value;
+    }
+
+    /**
+     * 사용자 화면의 현재 버전 (ETag 계산용), 캐시를 끄거나 Redis 장애면 null
+     */
+    public String version(UserView view, Long userId) {
+        if (!enabled) {
+            return null;
+        }
+        try {
+            return currentVersion(view, userId);
+        } catch (Exception e) {
+            log.warn("Failed to read {} view version for user {}: {}", view, userId, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 변경이 커밋된 뒤 화면 버전을 바꿈 (트랜잭션 밖에서 발행되면 바로 실행)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleInvalidated(UserViewInvalidatedEvent event) {
+        invalidate(event.userIds(), event.views());
+    }
+
+    /**
+     * 사용자들의 화면 버전을 바꿈 (이미 커밋된 변경에 대해 호출)
+     */
+    public void invalidate(Collection<Long> userIds, Set<UserView> views) {
+        if (!enabled || userIds.isEmpty() || views.isEmpty()) {
+            return;
+        }
+        try {
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection redis = (StringRedisConnection) connection;
+                for (Long userId : userIds) {
+                    for (UserView view : views) {
+                        redis.set(versionKey(view, userId), newVersion(),
+                                Expiration.from(VERSION_TTL), SetOption.upsert());
+                    }
+                }
+                return null;
+            });
+        } catch (Exception e) {
+            // 버전을 바꾸지 못하면 TTL이 지날 때까지 이전 응답이 보일 수 있음
+            log.error("Failed to invalidate {} views for users {}", views, userIds, e);
+        }
+    }
+
+    private String currentVersion(UserView view, Long userId) {
+        String versionKey = versionKey(view, userId);
+        String version = stringRedisTemplate.opsForValue().get(versionKey);
+        if (version != null) {
+            return version;
+        }
+        // 처음이거나 만료된 경우 새 버전을 심음 (동시에 심었다면 먼저 심은 값을 사용)
+        String created = newVersion();
+        if (Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(versionKey, created, VERSION_TTL))) {
+            return created;
+        }
+        version = stringRedisTemplate.opsForValue().get(versionKey);
+        return version != null ? version : created;
+    }
+
+    private String newVersion() {
+        return Long.toHexString(ThreadLocalRandom.current().nextLong());
+    }
+
+    private String versionKey(UserView view, Long userId) {
+        return KEY_PREFIX + name(view) + ":ver:" + userId;
+    }
+
+    private String dataKey(UserView view, Long userId, String version, String variant) {
+        String key = KEY_PREFIX + name(view) + ":" + userId + ":v" + version;
+        return variant != null ? key + ":" + variant : key;
+    }
+
+    private String name(UserView view) {
+        return view.name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,16 @@
+package com.archiveat.server.global.cache;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 사용자 화면 캐시 무효화 요청 (커밋 후 UserViewCache가 해당 화면의 버전을 바꿈)
+ */
+public record UserViewInvalidatedEvent(Collection<Long> userIds, Set<UserView> views) {
+
+    public static UserViewInvalidatedEvent of(Long userId, UserView view, UserView... others) {
+        return new UserViewInvalidatedEvent(List.of(userId), EnumSet.of(view, others));
+    }
+}
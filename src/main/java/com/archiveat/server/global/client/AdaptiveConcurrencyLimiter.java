@@ -0,0 +1,116 @@
+package com.archiveat.server.global.client;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 지연 시간 기반 AIMD 동시 요청 수 제한기
+ *
+ * - 요청이 기준 지연 시간(최근 최소 지연)의 latencyTolerance배 안에 끝나면 limit을 조금씩 늘림 (+1/limit)
+ * - 기준보다 크게 느려지거나 서버 장애로 실패하면 limit을 backoffRatio배로 줄임
+ * 고정된 동시 요청 수 대신 Python 서버가 실제로 감당하는 만큼만 요청을 보냅니다.
+ */
+@Slf4j
+public class AdaptiveConcurrencyLimiter {
+
+    // 기준 지연 시간이 느린 쪽으로 따라가는 비율 (빠른 응답은 즉시 반영)
+    private static final double BASELINE_DRIFT = 0.05;
+
+    private final String name;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double latencyTolerance;
+    private final double backoffRatio;
+
+    private double limit;
+    private int inFlight;
+    private double baselineLatencyNanos = -1;
+    private long lastDecreasedAt;
+
+    public AdaptiveConcurrencyLimiter(String name, int initialLimit, int minLimit, int maxLimit,
+                                      double latencyTolerance, double backoffRatio) {
+        this.name = name;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyTolerance = latencyTolerance;
+        this.backoffRatio = backoffRatio;
+        this.limit = Math.max(minLimit, Math.min(initialLimit, maxLimit));
+    }
+
+    /**
+     * 자리가 있으면 잡음 (기다리지 않음)
+     */
+    public synchronized boolean tryAcquire() {
+        if (inFlight >= getLimit()) {
+            return false;
+        }
+        inFlight++;
+        return true;
+    }
+
+    /**
+     * 지금 자리가 남아 있는지 확인 (자리를 잡지 않음)
+     */
+    public synchronized boolean hasCapacity() {
+        return inFlight < getLimit();
+    }
+
+    /**
+     * 정상 응답 - 지연 시간으로 limit 조정
+     */
+    public synchronized void onSuccess(long latencyNanos) {
+        inFlight--;
+
+        if (baselineLatencyNanos < 0 || latencyNanos < baselineLatencyNanos) {
+            baselineLatencyNanos = latencyNanos;
+        } else {
+            baselineLatencyNanos += (latencyNanos - baselineLatencyNanos) * BASELINE_DRIFT;
+        }
+
+        if (latencyNanos > baselineLatencyNanos * latencyTolerance) {
+            decrease("latency " + latencyNanos / 1_000_000 + "ms");
+        } else if (inFlight + 1 >= getLimit()) {
+            // 자리를 다 쓰고 있을 때만 늘림 (한가할 때 limit만 부풀지 않도록)
+            limit = Math.min(maxLimit, limit + 1.0 / limit);
+        }
+    }
+
+    /**
+     * 서버 과부하/장애로 실패 (타임아웃, 5xx, 연결 실패)
+     */
+    public synchronized void onDropped() {
+        inFlight--;
+        decrease("failure");
+    }
+
+    /**
+     * 서버 상태와 무관하게 끝난 요청 (4xx, 취소) - 자리만 반납
+     */
+    public synchronized void onIgnored() {
+        inFlight--;
+    }
+
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    /**
+     * 한 번의 과부하에 몰려 끝나는 응답들이 limit을 연달아 깎지 않도록, 기준 지연 시간에 한 번만 줄임
+     */
+    private void decrease(String reason) {
+        long now = System.nanoTime();
+        if (lastDecreasedAt != 0 && now - lastDecreasedAt < baselineLatencyNanos) {
+            return;
+        }
+        lastDecreasedAt = now;
+
+        int before = getLimit();
+        limit = Math.max(minLimit, limit * backoffRatio);
+        if (getLimit() < before) {
+            log.info("Concurrency limit [{}] decreased {} -> {} ({})", name, before, getLimit(), reason);
+        }
+    }
+}
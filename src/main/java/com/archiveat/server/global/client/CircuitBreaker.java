@@ -0,0 +1,112 @@
+package com.archiveat.server.global.client;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+
+/**
+ * 연속 실패 기반 서킷 브레이커
+ *
+ * - CLOSED: 정상. 연속 실패가 failureThreshold에 도달하면 OPEN
+ * - OPEN: openDuration 동안 요청을 보내지 않고 바로 거절
+ * - HALF_OPEN: 요청 1건만 보내 보고, 성공하면 CLOSED / 실패하면 다시 OPEN
+ */
+@Slf4j
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final String name;
+    private final int failureThreshold;
+    private final long openDurationNanos;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private boolean probeInFlight;
+
+    public CircuitBreaker(String name, int failureThreshold, Duration openDuration) {
+        this.name = name;
+        this.failureThreshold = failureThreshold;
+        this.openDurationNanos = openDuration.toNanos();
+    }
+
+    /**
+     * 요청을 보내도 되는지 확인 (HALF_OPEN에서는 한 요청만 허용)
+     */
+    public synchronized boolean tryAcquirePermission() {
+        if (state == State.OPEN) {
+            if (System.nanoTime() - openedAt < openDurationNanos) {
+                return false;
+            }
+            state = State.HALF_OPEN;
+            probeInFlight = false;
+            log.info("Circuit breaker [{}] half-open, sending probe request", name);
+        }
+
+        if (state == State.HALF_OPEN) {
+            if (probeInFlight) {
+                return false;
+            }
+            probeInFlight = true;
+        }
+        return true;
+    }
+
+    /**
+     * 지금 요청을 보낼 수 있는지 상태를 바꾸지 않고 확인 (HALF_OPEN 확인 요청 자리를 잡지 않음)
+     */
+    public synchronized boolean isCallPermitted() {
+        return switch (state) {
+            case CLOSED -> true;
+            case OPEN -> System.nanoTime() - openedAt >= openDurationNanos;
+            case HALF_OPEN -> !probeInFlight;
+        };
+    }
+
+    public synchronized void onSuccess() {
+        if (state != State.CLOSED) {
+            log.info("Circuit breaker [{}] closed", name);
+        }
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        probeInFlight = false;
+    }
+
+    public synchronized void onFailure() {
+        if (state == State.OPEN) {
+            return;
+        }
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openedAt = System.nanoTime();
+            probeInFlight = false;
+            log.warn("Circuit breaker [{}] opened after {} consecutive failures", name, consecutiveFailures);
+        }
+    }
+
+    /**
+     * 결과 없이 끝난 요청 (취소 등) - HALF_OPEN 확인 요청이면 다음 요청이 확인하도록 풀어 줌
+     */
+    public synchronized void onCancel() {
+        probeInFlight = false;
+    }
+
+    /**
+     * OPEN 상태가 풀리기까지 남은 시간
+     */
+    public synchronized Duration getRemainingOpenDuration() {
+        if (state != State.OPEN) {
+            return Duration.ZERO;
+        }
+        long remaining = openDurationNanos - (System.nanoTime() - openedAt);
+        return Duration.ofNanos(Math.max(remaining, 0));
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+}
@@ -0,0 +1,232 @@
+package com.archiveat.server.global.client;
+
+import io.netty.util.NetUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayOutputStream;
+import java.net.InetAddress;
+import java.net.URI;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * OpenGraph 메타데이터(제목, 썸네일) 조회
+ *
+ * LLM 요약을 기다리지 않고 인박스에 제목/썸네일을 먼저 보여주기 위한 가벼운 조회입니다.
+ * - 짧은 타임아웃, 응답은 앞부분 maxBytes까지만 읽음 (og 태그는 <head>에 있음)
+ * - HTML이 아니거나 실패하면 empty (요약 파이프라인에는 영향 없음)
+ * - 내부망 주소(루프백, 사설 대역, 링크 로컬 등)로는 요청하지 않음 (리다이렉트 대상 포함)
+ *   호스트 이름은 WebClient의 PublicAddressResolverGroup이 연결할 주소를 조회하며 검사하고, IP 리터럴은 여기서 검사
+ */
+@Slf4j
+public class OpenGraphClient {
+
+    private static final int MAX_REDIRECTS = 3;
+
+    private static final Pattern META_TAG = Pattern.compile("<meta\\s[^>]*>", Pattern.CASE_INSENSITIVE);
+    private static final Pattern ATTRIBUTE = Pattern.compile(
+            "([\\w:-]+)\\s*=\\s*(?:\"([^\"]*)\"|'([^']*)')");
+    private static final Pattern TITLE_TAG = Pattern.compile(
+            "<title[^>]*>([^<]*)</title>", Pattern.CASE_INSENSITIVE);
+    private static final Pattern CHARSET = Pattern.compile("charset=([\\w-]+)", Pattern.CASE_INSENSITIVE);
+
+    private final WebClient webClient;
+    private final int maxBytes;
+    private final Duration timeout;
+    private final boolean allowPrivateAddresses;
+
+    /**
+     * @param allowPrivateAddresses false면 webClient의 HttpClient에 PublicAddressResolverGroup을 설정해야 함
+     */
+    public OpenGraphClient(WebClient webClient, int maxBytes, Duration timeout, boolean allowPrivateAddresses) {
+        this.webClient = webClient;
+        this.maxBytes = maxBytes;
+        this.timeout = timeout;
+        this.allowPrivateAddresses = allowPrivateAddresses;
+    }
+
+    /**
+     * URL의 제목과 썸네일 조회 (둘 다 없으면 empty)
+     */
+    public Mono<OpenGraphMetadata> fetch(String url) {
+        return get(url, MAX_REDIRECTS)
+                .timeout(timeout)
+                .filter(metadata -> metadata.title() != null || metadata.imageUrl() != null)
+                .onErrorResume(e -> {
+                    log.debug("Failed to fetch OpenGraph metadata for {}: {}", url, e.toString());
+                    return Mono.empty();
+                });
+    }
+
+    /**
+     * 리다이렉트는 직접 따라감 (이동할 주소도 내부망 여부를 다시 확인)
+     */
+    private Mono<OpenGraphMetadata> get(String url, int redirectsLeft) {
+        return Mono.fromCallable(() -> isAllowed(url))
+                .filter(Boolean::booleanValue)
+                .flatMap(allowed -> webClient.get()
+                        .uri(URI.create(url))
+                        .accept(MediaType.TEXT_HTML)
+                        .exchangeToMono(response -> {
+                            if (response.statusCode().is3xxRedirection()) {
+                                String location = response.headers().asHttpHeaders().getFirst(HttpHeaders.LOCATION);
+                                Mono<OpenGraphMetadata> next = location == null || redirectsLeft <= 0
+                                        ? Mono.empty()
+                                        : get(URI.create(url).resolve(location).toString(), redirectsLeft - 1);
+                                return response.releaseBody().then(next);
+                            }
+
+                            MediaType contentType = response.headers().contentType().orElse(MediaType.TEXT_HTML);
+                            if (!response.statusCode().is2xxSuccessful()
+                                    || !contentType.isCompatibleWith(MediaType.TEXT_HTML)) {
+                                return response.releaseBody().then(Mono.empty());
+                            }
+                            Charset charset = contentType.getCharset();
+                            return readHead(response.bodyToFlux(DataBuffer.class))
+                                    .map(bytes -> parse(bytes, charset, url));
+                        }));
+    }
+
+    /**
+     * 응답 본문 앞부분 maxBytes까지만 모음 (넘으면 나머지는 받지 않고 연결 취소)
+     */
+    private Mono<byte[]> readHead(Flux<DataBuffer> body) {
+        ByteArrayOutputStream head = new ByteArrayOutputStream();
+        return body
+                .doOnNext(buffer -> {
+                    try {
+                        int length = Math.min(buffer.readableByteCount(), maxBytes - head.size());
+                        byte[] bytes = new byte[length];
+                        buffer.read(bytes);
+                        head.write(bytes, 0, length);
+                    } finally {
+                        DataBufferUtils.release(buffer);
+                    }
+                })
+                .takeUntil(buffer -> head.size() >= maxBytes)
+                .then(Mono.fromSupplier(head::toByteArray));
+    }
+
+    static OpenGraphMetadata parse(byte[] bytes, Charset headerCharset, String pageUrl) {
+        String html = new String(bytes, headerCharset != null ? headerCharset : StandardCharsets.UTF_8);
+        if (headerCharset == null) {
+            // <meta charset="euc-kr"> 등 문서에 선언된 인코딩으로 다시 디코딩
+            Charset declared = declaredCharset(html);
+            if (declared != null && !declared.equals(StandardCharsets.UTF_8)) {
+                html = new String(bytes, declared);
+            }
+        }
+
+        Map<String, String> meta = new HashMap<>();
+        Matcher tag = META_TAG.matcher(html);
+        while (tag.find()) {
+            Map<String, String> attributes = attributes(tag.group());
+            String key = attributes.getOrDefault("property", attributes.get("name"));
+            String content = attributes.get("content");
+            if (key != null && content != null && !content.isBlank()) {
+                meta.putIfAbsent(key.toLowerCase(Locale.ROOT), unescape(content.trim()));
+            }
+        }
+
+        String title = meta.getOrDefault("og:title", meta.get("twitter:title"));
+        if (title == null) {
+            Matcher titleTag = TITLE_TAG.matcher(html);
+            if (titleTag.find() && !titleTag.group(1).isBlank()) {
+                title = unescape(titleTag.group(1).trim());
+            }
+        }
+
+        String image = meta.getOrDefault("og:image", meta.get("twitter:image"));
+        return new OpenGraphMetadata(truncate(title, 255), resolve(pageUrl, image));
+    }
+
+    private static Map<String, String> attributes(String tag) {
+        Map<String, String> attributes = new HashMap<>();
+        Matcher matcher = ATTRIBUTE.matcher(tag);
+        while (matcher.find()) {
+            String value = matcher.group(2) != null ? matcher.group(2) : matcher.group(3);
+            attributes.put(matcher.group(1).toLowerCase(Locale.ROOT), value);
+        }
+        return attributes;
+    }
+
+    private static Charset declaredCharset(String html) {
+        Matcher matcher = CHARSET.matcher(html);
+        if (!matcher.find()) {
+            return null;
+        }
+        try {
+            return Charset.forName(matcher.group(1));
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private static String resolve(String pageUrl, String imageUrl) {
+        if (imageUrl == null) {
+            return null;
+        }
+        try {
+            String resolved = URI.create(pageUrl).resolve(imageUrl.replace(" ", "%20")).toString();
+            return resolved.length() <= 2000 ? resolved : null;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private static String unescape(String value) {
+        return value.replace("&quot;", "\"")
+                .replace("&#39;", "'")
+                .replace("&#x27;", "'")
+                .replace("&lt;", "<")
+                .replace("&gt;", ">")
+                .replace("&nbsp;", " ")
+                .replace("&amp;", "&");
+    }
+
+    private static String truncate(String value, int maxLength) {
+        if (value == null || value.length() <= maxLength) {
+            return value;
+        }
+        return value.substring(0, maxLength);
+    }
+
+    private boolean isAllowed(String url) {
+        try {
+            URI uri = URI.create(url);
+            String scheme = uri.getScheme();
+            if (uri.getHost() == null || !("http".equalsIgnoreCase(scheme) || "https".equalsIgnoreCase(scheme))) {
+                return false;
+            }
+            if (allowPrivateAddresses) {
+                return true;
+            }
+            // 호스트 이름은 연결 시 조회기가 검사 (IP 리터럴은 조회기를 거치지 않음)
+            String host = uri.getHost().replaceAll("^\\[|]$", "");
+            InetAddress literal = NetUtil.createInetAddressFromIpAddressString(host);
+            if (literal != null && !PublicAddressResolverGroup.isPublic(literal)) {
+                log.warn("Skipping OpenGraph fetch to internal address: {}", url);
+                return false;
+            }
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    public record OpenGraphMetadata(String title, String imageUrl) {
+    }
+}
@@ -0,0 +1,90 @@
+package com.archiveat.server.global.client;
+
+import io.netty.resolver.AddressResolver;
+import io.netty.resolver.AddressResolverGroup;
+import io.netty.resolver.InetNameResolver;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.Promise;
+import reactor.core.scheduler.Schedulers;
+
+import java.net.Inet6Address;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.UnknownHostException;
+import java.util.List;
+
+/**
+ * 공인 주소로만 연결하는 Netty 주소 조회기 (외부 URL 조회용 HttpClient에 설정)
+ *
+ * 호스트 이름을 한 번만 조회하고 검사를 통과한 그 주소로 연결하므로,
+ * 검사 후 DNS 응답을 바꿔 내부망으로 연결시키는 DNS rebinding이 통하지 않습니다.
+ * IP 리터럴은 Reactor Netty가 조회기를 거치지 않고 바로 연결하므로 호출하는 쪽에서 isPublic으로 검사해야 합니다.
+ */
+public class PublicAddressResolverGroup extends AddressResolverGroup<InetSocketAddress> {
+
+    public static final PublicAddressResolverGroup INSTANCE = new PublicAddressResolverGroup();
+
+    private PublicAddressResolverGroup() {
+    }
+
+    /**
+     * 루프백, 사설 대역, 링크 로컬, IPv6 고유 로컬(fc00::/7), CGNAT(100.64.0.0/10) 등 내부망 주소가 아니면 true
+     */
+    public static boolean isPublic(InetAddress address) {
+        if (address.isLoopbackAddress() || address.isSiteLocalAddress() || address.isLinkLocalAddress()
+                || address.isAnyLocalAddress() || address.isMulticastAddress()) {
+            return false;
+        }
+        byte[] bytes = address.getAddress();
+        if (address instanceof Inet6Address) {
+            return (bytes[0] & 0xfe) != 0xfc;
+        }
+        return !((bytes[0] & 0xff) == 100 && (bytes[1] & 0xc0) == 64);
+    }
+
+    @Override
+    protected AddressResolver<InetSocketAddress> newResolver(EventExecutor executor) {
+        return new PublicNameResolver(executor).asAddressResolver();
+    }
+
+    private static class PublicNameResolver extends InetNameResolver {
+
+        PublicNameResolver(EventExecutor executor) {
+            super(executor);
+        }
+
+        @Override
+        protected void doResolve(String inetHost, Promise<InetAddress> promise) {
+            // JDK 조회는 블로킹이므로 이벤트 루프 밖에서 실행
+            Schedulers.boundedElastic().schedule(() -> {
+                try {
+                    promise.trySuccess(resolvePublic(inetHost).get(0));
+                } catch (UnknownHostException e) {
+                    promise.tryFailure(e);
+                }
+            });
+        }
+
+        @Override
+        protected void doResolveAll(String inetHost, Promise<List<InetAddress>> promise) {
+            Schedulers.boundedElastic().schedule(() -> {
+                try {
+                    promise.trySuccess(resolvePublic(inetHost));
+                } catch (UnknownHostException e) {
+                    promise.tryFailure(e);
+                }
+            });
+        }
+
+        /**
+         * 조회된 주소 중 하나라도 내부망이면 거부 (공인 주소와 섞어 응답하는 경우 포함)
+         */
+        private static List<InetAddress> resolvePublic(String inetHost) throws UnknownHostException {
+            List<InetAddress> addresses = List.of(InetAddress.getAllByName(inetHost));
+            if (!addresses.stream().allMatch(PublicAddressResolverGroup::isPublic)) {
+                throw new UnknownHostException(inetHost + " resolves to an internal address");
+            }
+            return addresses;
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package com.archiveat.server.global.client;
+
+import com.archiveat.server.domain.newsletter.dto.response.PythonSummaryResponse;
+import com.archiveat.server.global.exception.PythonBatchFailedException;
+import com.archiveat.server.global.exception.PythonServerUnavailableException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.scheduler.Schedulers;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요약 요청 묶음 전송 (micro-batching)
+ *
+ * 같은 엔드포인트로 가는 요청을 maxWait 동안 또는 maxBatchSize개까지 모아 한 번의 POST로 보내고,
+ * 결과를 요청 순서대로 각 호출자에게 나눠 줍니다.
+ *
+ * 배치 계약: POST {path}/batch
+ * - 요청: {"items": [단건 요청 본문, ...]}
+ * - 응답: {"results": [{"result": 단건 응답} 또는 {"status": 4xx/5xx, "error": "..."}, ...]} (요청과 같은 순서)
+ * 항목별 오류는 같은 상태 코드의 WebClientResponseException으로 전달해 단건 호출과 같게 재시도/실패를 분류합니다.
+ *
+ * 서킷 브레이커는 묶음 POST 단위로 확인/기록하고(항목 N개가 실패를 N번 세지 않음), 묶음 POST에는 엔드포인트별 타임아웃을 둡니다.
+ * 묶음 전체가 실패하면 각 호출자에게 PythonBatchFailedException을 전달합니다.
+ */
+@Slf4j
+public class PythonBatchingDispatcher {
+
+    static final String BATCH_PATH_SUFFIX = "/batch";
+
+    private final WebClient webClient;
+    private final PythonReplicaPool replicaPool;
+    private final PythonEndpointGuard endpointGuard;
+    private final Map<PythonEndpoint, Duration> timeouts;
+    private final int maxBatchSize;
+    private final Duration maxWait;
+
+    // 엔드포인트별로 모으는 중인 배치 (this로 동기화)
+    private final Map<PythonEndpoint, Batch> pending = new EnumMap<>(PythonEndpoint.class);
+
+    /**
+     * @param timeouts 엔드포인트별 묶음 POST 타임아웃 (응답 없는 묶음이 레플리카 자리를 계속 차지하지 않도록)
+     */
+    public PythonBatchingDispatcher(WebClient webClient, PythonReplicaPool replicaPool,
+            PythonEndpointGuard endpointGuard, Map<PythonEndpoint, Duration> timeouts, int maxBatchSize,
+            Duration maxWait) {
+        this.webClient = webClient;
+        this.replicaPool = replicaPool;
+        this.endpointGuard = endpointGuard;
+        this.timeouts = timeouts;
+        this.maxBatchSize = maxBatchSize;
+        this.maxWait = maxWait;
+    }
+
+    /**
+     * 요청을 배치에 추가 (첫 요청이 들어온 뒤 maxWait가 지나거나 maxBatchSize개가 차면 전송)
+     */
+    public Mono<PythonSummaryResponse> submit(PythonEndpoint endpoint, Object request) {
+        return Mono.create(sink -> {
+            Item item = new Item(request, sink);
+            // 전송 전에 호출자가 취소(타임아웃 등)하면 배치에서 빠짐
+            sink.onCancel(() -> item.cancelled = true);
+
+            List<Item> ready = null;
+            synchronized (this) {
+                Batch batch = pending.get(endpoint);
+                if (batch == null) {
+                    Batch created = new Batch();
+                    created.timer = Schedulers.parallel().schedule(
+                            () -> flush(endpoint, created), maxWait.toMillis(), TimeUnit.MILLISECONDS);
+                    pending.put(endpoint, created);
+                    batch = created;
+                }
+                batch.items.add(item);
+                if (batch.items.size() >= maxBatchSize) {
+                    pending.remove(endpoint);
+                    batch.timer.dispose();
+                    ready = batch.items;
+                }
+            }
+
+            if (ready != null) {
+                send(endpoint, ready);
+            }
+        });
+    }
+
+    private void flush(PythonEndpoint endpoint, Batch batch) {
+        synchronized (this) {
+            // 크기가 차서 이미 전송된 배치
+            if (pending.get(endpoint) != batch) {
+                return;
+            }
+            pending.remove(endpoint);
+        }
+        send(endpoint, batch.items);
+    }
+
+    private void send(PythonEndpoint endpoint, List<Item> items) {
+        List<Item> live = items.stream()
+                .filter(item -> !item.cancelled)
+                .toList();
+        if (live.isEmpty()) {
+            return;
+        }
+
+        PythonReplica replica = replicaPool.choose();
+        replica.acquire(live.size());
+        log.debug("Sending batch of {} {} requests to {}", live.size(), endpoint, replica.getBaseUrl());
+
+        Mono<BatchResponse> request = webClient.post()
+                .uri(replica.getBaseUrl() + endpoint.getPath() + BATCH_PATH_SUFFIX)
+                .bodyValue(new BatchRequest(live.stream().map(Item::request).toList()))
+                .retrieve()
+                .bodyToMono(BatchResponse.class)
+                .timeout(timeouts.get(endpoint));
+
+        endpointGuard.withCircuitBreaker(endpoint, request)
+                // 결과를 나눠 주기 전에 자리를 반납 (구독을 취소하지 않으므로 종료 신호에서 한 번만 실행)
+                .doOnTerminate(() -> replica.release(live.size()))
+                .subscribe(
+                        response -> {
+                            replicaPool.onSuccess(replica);
+                            fanOut(live, response);
+                        },
+                        error -> {
+                            if (error instanceof PythonServerUnavailableException) {
+                                // 서킷 OPEN: 보내지 않았으므로 그대로 전달해 작업을 미루게 함
+                                live.forEach(item -> item.sink.error(error));
+                                return;
+                            }
+                            replicaPool.onError(replica, error);
+                            PythonBatchFailedException failure =
+                                    new PythonBatchFailedException(endpoint, live.size(), error);
+                            live.forEach(item -> item.sink.error(failure));
+                        });
+    }
+
+    /**
+     * 배치 응답을 요청 순서대로 나눠 줌
+     */
+    private void fanOut(List<Item> items, BatchResponse response) {
+        List<BatchItemResult> results = response == null || response.results() == null
+                ? List.of() : response.results();
+        if (results.size() != items.size()) {
+            IllegalStateException error = new IllegalStateException(
+                    "Batch response size mismatch: expected " + items.size() + ", got " + results.size());
+            items.forEach(item -> item.sink.error(error));
+            return;
+        }
+
+        for (int i = 0; i < items.size(); i++) {
+            BatchItemResult result = results.get(i);
+            MonoSink<PythonSummaryResponse> sink = items.get(i).sink;
+            if (result.result() != null) {
+                sink.success(result.result());
+            } else {
+                int status = result.status() != null ? result.status() : HttpStatus.INTERNAL_SERVER_ERROR.value();
+                String message = result.error() != null ? result.error() : "Batch item failed";
+                sink.error(WebClientResponseException.create(status, message, HttpHeaders.EMPTY,
+                        message.getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8));
+            }
+        }
+    }
+
+    private static class Batch {
+        private final List<Item> items = new ArrayList<>();
+        private Disposable timer;
+    }
+
+    private static class Item {
+        private final Object request;
+        private final MonoSink<PythonSummaryResponse> sink;
+        private volatile boolean cancelled;
+
+        private Item(Object request, MonoSink<PythonSummaryResponse> sink) {
+            this.request = request;
+            this.sink = sink;
+        }
+
+        private Object request() {
+            return request;
+        }
+    }
+
+    record BatchRequest(List<Object> items) {
+    }
+
+    record BatchResponse(List<BatchItemResult> results) {
+    }
+
+    record BatchItemResult(PythonSummaryResponse result, Integer status, String error) {
+    }
+}
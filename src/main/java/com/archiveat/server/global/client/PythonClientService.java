@@ -3,16 +3,29 @@ package com.archiveat.server.global.client;
 import com.archiveat.server.domain.newsletter.dto.request.SummarizeYoutubeRequest;
 import com.archiveat.server.domain.newsletter.dto.request.SummarizeNaverNewsRequest;
 import com.archiveat.server.domain.newsletter.dto.response.PythonSummaryResponse;
+import com.archiveat.server.global.exception.PythonBatchFailedException;
+import com.archiveat.server.global.exception.PythonDeadlineExceededException;
+import com.archiveat.server.global.exception.PythonServerUnavailableException;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.Exceptions;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 import reactor.util.retry.Retry;
 
 import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 @Slf4j
 @Service
@@ -20,32 +33,93 @@ import java.util.concurrent.CompletableFuture;
 public class PythonClientService {
 
         private final WebClient pythonWebClient;
+        private final PythonEndpointGuard pythonEndpointGuard;
+        private final PythonReplicaPool pythonReplicaPool;
+
+        @Value("${python.server.hedge.enabled:false}")
+        private boolean hedgeEnabled;
+
+        @Value("${python.server.hedge.delay-ms:20000}")
+        private long hedgeDelayMs;
+
+        @Value("${python.server.timeout.youtube:600000}")
+        private long youtubeTimeoutMs;
+
+        @Value("${python.server.timeout.naver-news:30000}")
+        private long naverNewsTimeoutMs;
+
+        @Value("${python.server.timeout.tistory:30000}")
+        private long tistoryTimeoutMs;
+
+        @Value("${python.server.timeout.generic:60000}")
+        private long genericTimeoutMs;
+
+        @Value("${python.server.deadline.youtube:900000}")
+        private long youtubeDeadlineMs;
+
+        @Value("${python.server.deadline.naver-news:90000}")
+        private long naverNewsDeadlineMs;
+
+        @Value("${python.server.deadline.tistory:90000}")
+        private long tistoryDeadlineMs;
+
+        @Value("${python.server.deadline.generic:180000}")
+        private long genericDeadlineMs;
+
+        private static final String STREAM_PATH_SUFFIX = "/stream";
+
+        @Value("${python.server.streaming.enabled:false}")
+        private boolean streamingEnabled;
+
+        @Value("${python.server.batching.enabled:false}")
+        private boolean batchingEnabled;
+
+        @Value("${python.server.batching.max-size:16}")
+        private int batchMaxSize;
+
+        @Value("${python.server.batching.max-wait-ms:50}")
+        private long batchMaxWaitMs;
+
+        private PythonBatchingDispatcher batchingDispatcher;
+
+        // 엔드포인트별 시도당 타임아웃과 재시도 포함 전체 시간 예산
+        private final Map<PythonEndpoint, Duration> timeouts = new EnumMap<>(PythonEndpoint.class);
+        private final Map<PythonEndpoint, Duration> deadlines = new EnumMap<>(PythonEndpoint.class);
+
+        @PostConstruct
+        void init() {
+                timeouts.put(PythonEndpoint.YOUTUBE, Duration.ofMillis(youtubeTimeoutMs));
+                timeouts.put(PythonEndpoint.NAVER_NEWS, Duration.ofMillis(naverNewsTimeoutMs));
+                timeouts.put(PythonEndpoint.TISTORY, Duration.ofMillis(tistoryTimeoutMs));
+                timeouts.put(PythonEndpoint.GENERIC, Duration.ofMillis(genericTimeoutMs));
+
+                deadlines.put(PythonEndpoint.YOUTUBE, Duration.ofMillis(youtubeDeadlineMs));
+                deadlines.put(PythonEndpoint.NAVER_NEWS, Duration.ofMillis(naverNewsDeadlineMs));
+                deadlines.put(PythonEndpoint.TISTORY, Duration.ofMillis(tistoryDeadlineMs));
+                deadlines.put(PythonEndpoint.GENERIC, Duration.ofMillis(genericDeadlineMs));
+
+                if (batchingEnabled) {
+                        batchingDispatcher = new PythonBatchingDispatcher(pythonWebClient, pythonReplicaPool,
+                                        pythonEndpointGuard, timeouts, batchMaxSize, Duration.ofMillis(batchMaxWaitMs));
+                }
+        }
 
         /**
          * YouTube URL을 Python 서버로 전송하여 요약 결과 받아오기
          * 
-         * @param url YouTube URL
+         * @param url        YouTube URL
+         * @param onProgress 스트리밍 모드에서 중간 결과를 받을 콜백 (선택사항)
          * @return CompletableFuture<PythonSummaryResponse> 비동기 응답
          * @throws RuntimeException Python 서버 호출 실패 시
          */
-        public CompletableFuture<PythonSummaryResponse> requestYouTubeSummary(String url) {
+        public CompletableFuture<PythonSummaryResponse> requestYouTubeSummary(String url,
+                        Consumer<PythonSummaryResponse> onProgress) {
                 log.info("Requesting YouTube summary from Python server: {}", url);
                 long startTime = System.currentTimeMillis();
 
                 SummarizeYoutubeRequest request = new SummarizeYoutubeRequest(url);
 
-                return pythonWebClient.post()
-                                .uri("/api/v1/summarize/youtube")
-                                .bodyValue(request)
-                                .retrieve()
-                                .bodyToMono(PythonSummaryResponse.class)
-                                .retryWhen(Retry.backoff(3, Duration.ofSeconds(1))
-                                                .maxBackoff(Duration.ofSeconds(5))
-                                                .filter(throwable -> !(throwable instanceof WebClientResponseException.BadRequest))
-                                                .doBeforeRetry(retrySignal -> log.warn(
-                                                                "Retrying Python server request (attempt {}): {}",
-                                                                retrySignal.totalRetries() + 1,
-                                                                retrySignal.failure().getMessage())))
+                return post(PythonEndpoint.YOUTUBE, request, onProgress)
                                 .doOnSuccess(response -> {
                                         long duration = System.currentTimeMillis() - startTime;
                                         log.info("Successfully received YouTube summary from Python server in {}ms: {}",
@@ -64,7 +138,7 @@ public class PythonClientService {
                                                                         + ex.getResponseBodyAsString(),
                                                         ex));
                                 })
-                                .onErrorResume(Exception.class, ex -> {
+                                .onErrorResume(ex -> !(ex instanceof PythonServerUnavailableException), ex -> {
                                         log.error("Unexpected error calling Python server", ex);
                                         return Mono.error(
                                                         new RuntimeException(
@@ -85,14 +159,7 @@ public class PythonClientService {
         public CompletableFuture<PythonSummaryResponse> requestGenericSummary(String title, String content) {
                 log.info("Requesting generic content summary from Python server: {}", title);
 
-                return pythonWebClient.post()
-                                .uri("/api/v1/summarize/generic")
-                                .bodyValue(new GenericSummaryRequest(title, content))
-                                .retrieve()
-                                .bodyToMono(PythonSummaryResponse.class)
-                                .retryWhen(Retry.backoff(3, Duration.ofSeconds(1))
-                                                .maxBackoff(Duration.ofSeconds(5))
-                                                .filter(throwable -> !(throwable instanceof WebClientResponseException.BadRequest)))
+                return post(PythonEndpoint.GENERIC, new GenericSummaryRequest(title, content), null)
                                 .doOnSuccess(response -> log
                                                 .info("Successfully received generic content summary from Python server: {}",
                                                                 title))
@@ -105,11 +172,13 @@ public class PythonClientService {
         /**
          * 네이버 뉴스 또는 일반 웹 콘텐츠 요약 요청
          * 
-         * @param url      네이버 뉴스 또는 일반 웹 URL
-         * @param userMemo 사용자 메모 (분류 우선순위에 활용, 선택사항)
+         * @param url        네이버 뉴스 또는 일반 웹 URL
+         * @param userMemo   사용자 메모 (분류 우선순위에 활용, 선택사항)
+         * @param onProgress 스트리밍 모드에서 중간 결과를 받을 콜백 (선택사항)
          * @return CompletableFuture<PythonSummaryResponse> 비동기 응답
          */
-        public CompletableFuture<PythonSummaryResponse> requestNaverNewsSummary(String url, String userMemo) {
+        public CompletableFuture<PythonSummaryResponse> requestNaverNewsSummary(String url, String userMemo,
+                        Consumer<PythonSummaryResponse> onProgress) {
                 log.info("Requesting Naver news summary from Python server: {}", url);
                 if (userMemo != null && !userMemo.isEmpty()) {
                         log.info("User memo provided: {}", userMemo);
@@ -117,14 +186,7 @@ public class PythonClientService {
 
                 SummarizeNaverNewsRequest request = new SummarizeNaverNewsRequest(url, userMemo);
 
-                return pythonWebClient.post()
-                                .uri("/api/v1/summarize/naver-news")
-                                .bodyValue(request)
-                                .retrieve()
-                                .bodyToMono(PythonSummaryResponse.class)
-                                .retryWhen(Retry.backoff(3, Duration.ofSeconds(1))
-                                                .maxBackoff(Duration.ofSeconds(5))
-                                                .filter(throwable -> !(throwable instanceof WebClientResponseException.BadRequest)))
+                return post(PythonEndpoint.NAVER_NEWS, request, onProgress)
                                 .doOnSuccess(response -> log
                                                 .info("Successfully received Naver news summary from Python server: {}",
                                                                 url))
@@ -134,37 +196,186 @@ public class PythonClientService {
                                 .toFuture();
         }
 
-    /**
-     * 네이버 뉴스 또는 일반 웹 콘텐츠 요약 요청
-     *
-     * @param url      네이버 뉴스 또는 일반 웹 URL
-     * @param userMemo 사용자 메모 (분류 우선순위에 활용, 선택사항)
-     * @return CompletableFuture<PythonSummaryResponse> 비동기 응답
-     */
-    public CompletableFuture<PythonSummaryResponse> requestTistorySummary(String url, String userMemo) {
-        log.info("Requesting Tistory summary from Python server: {}", url);
-        if (userMemo != null && !userMemo.isEmpty()) {
-            log.info("User memo provided: {}", userMemo);
+        /**
+         * 티스토리 블로그 콘텐츠 요약 요청
+         *
+         * @param url        티스토리 URL
+         * @param userMemo   사용자 메모 (분류 우선순위에 활용, 선택사항)
+         * @param onProgress 스트리밍 모드에서 중간 결과를 받을 콜백 (선택사항)
+         * @return CompletableFuture<PythonSummaryResponse> 비동기 응답
+         */
+        public CompletableFuture<PythonSummaryResponse> requestTistorySummary(String url, String userMemo,
+                        Consumer<PythonSummaryResponse> onProgress) {
+                log.info("Requesting Tistory summary from Python server: {}", url);
+                if (userMemo != null && !userMemo.isEmpty()) {
+                        log.info("User memo provided: {}", userMemo);
+                }
+
+                SummarizeNaverNewsRequest request = new SummarizeNaverNewsRequest(url, userMemo);
+
+                return post(PythonEndpoint.TISTORY, request, onProgress)
+                                .doOnSuccess(response -> log
+                                                .info("Successfully received Tistory summary from Python server: {}",
+                                                                url))
+                                .doOnError(error -> log.error("Failed to get Tistory summary from Python server: {}",
+                                                url,
+                                                error))
+                                .toFuture();
+        }
+
+        /**
+         * 엔드포인트가 지금 요청을 받을 수 있는지 미리 확인 (서킷 OPEN/격벽 초과면 PythonServerUnavailableException)
+         */
+        public void checkAvailable(PythonEndpoint endpoint) {
+                pythonEndpointGuard.checkAvailable(endpoint);
+        }
+
+        /**
+         * 엔드포인트 호출 공통 처리
+         *
+         * - 시도마다 처리 중인 요청이 가장 적은 레플리카로 전송 (재시도는 다른 레플리카로 갈 수 있음)
+         * - streaming.enabled이고 onProgress가 있으면 NDJSON 스트림으로 받아 중간 결과를 전달
+         * - batching.enabled면 YouTube를 제외한 요청은 PythonBatchingDispatcher로 모아서 전송
+         * - 시도마다 서킷 브레이커 확인 (OPEN이면 재시도 없이 즉시 거절), 묶음 요청은 dispatcher가 묶음 단위로 확인
+         * - 재시도: 3회 backoff (400 Bad Request, 서킷/격벽 거절, 묶음 전체 실패는 재시도하지 않음)
+         * - 시간 예산: 재시도를 포함한 전체 호출은 엔드포인트별 deadline 안에 끝나고,
+         *   각 시도의 타임아웃은 엔드포인트별 timeout과 남은 예산 중 작은 값
+         * - 시도마다 엔드포인트 격벽 자리를 잡고 끝나면 반납 (재시도 대기 중에는 자리를 차지하지 않음)
+         */
+        private Mono<PythonSummaryResponse> post(PythonEndpoint endpoint, Object body,
+                        Consumer<PythonSummaryResponse> onProgress) {
+                return Mono.defer(() -> {
+                        Duration budget = deadlines.get(endpoint);
+                        long deadlineNanos = System.nanoTime() + budget.toNanos();
+                        boolean streamed = streamingEnabled && onProgress != null;
+                        boolean batched = !streamed && batchingDispatcher != null && endpoint != PythonEndpoint.YOUTUBE;
+
+                        Mono<PythonSummaryResponse> attempt = Mono.defer(() -> {
+                                Duration remaining = remaining(deadlineNanos);
+                                if (remaining.isZero()) {
+                                        return Mono.error(new PythonDeadlineExceededException(endpoint, budget));
+                                }
+                                Duration attemptTimeout = min(timeouts.get(endpoint), remaining);
+
+                                Mono<PythonSummaryResponse> call;
+                                if (streamed) {
+                                        call = stream(pythonReplicaPool.choose(), endpoint, body, onProgress);
+                                } else if (batched) {
+                                        call = batchingDispatcher.submit(endpoint, body);
+                                } else {
+                                        PythonReplica primary = pythonReplicaPool.choose();
+                                        call = send(primary, endpoint, body);
+                                        if (hedgeEnabled && endpoint != PythonEndpoint.YOUTUBE) {
+                                                call = hedge(primary, call, endpoint, body);
+                                        }
+                                }
+                                return call.timeout(attemptTimeout);
+                        });
+
+                        Mono<PythonSummaryResponse> guarded = pythonEndpointGuard.withBulkhead(endpoint, attempt);
+                        if (!batched) {
+                                guarded = pythonEndpointGuard.withCircuitBreaker(endpoint, guarded);
+                        }
+
+                        return guarded
+                                        .retryWhen(Retry.backoff(3, Duration.ofSeconds(1))
+                                                        .maxBackoff(Duration.ofSeconds(5))
+                                                        .filter(throwable -> !(throwable instanceof WebClientResponseException.BadRequest)
+                                                                        && !(throwable instanceof PythonServerUnavailableException)
+                                                                        && !(throwable instanceof PythonBatchFailedException)
+                                                                        && !(throwable instanceof PythonDeadlineExceededException)
+                                                                        && !remaining(deadlineNanos).isZero())
+                                                        .doBeforeRetry(retrySignal -> log.warn(
+                                                                        "Retrying Python server request to {} (attempt {}, {}s left): {}",
+                                                                        endpoint, retrySignal.totalRetries() + 1,
+                                                                        remaining(deadlineNanos).toSeconds(),
+                                                                        retrySignal.failure().getMessage())));
+                });
+        }
+
+        private static Duration remaining(long deadlineNanos) {
+                long remaining = deadlineNanos - System.nanoTime();
+                return remaining > 0 ? Duration.ofNanos(remaining) : Duration.ZERO;
+        }
+
+        private static Duration min(Duration a, Duration b) {
+                return a.compareTo(b) <= 0 ? a : b;
         }
 
-        SummarizeNaverNewsRequest request = new SummarizeNaverNewsRequest(url, userMemo);
-
-        return pythonWebClient.post()
-                .uri("/api/v1/summarize/tistory")
-                .bodyValue(request)
-                .retrieve()
-                .bodyToMono(PythonSummaryResponse.class)
-                .retryWhen(Retry.backoff(3, Duration.ofSeconds(1))
-                        .maxBackoff(Duration.ofSeconds(5))
-                        .filter(throwable -> !(throwable instanceof WebClientResponseException.BadRequest)))
-                .doOnSuccess(response -> log
-                        .info("Successfully received Tistory summary from Python server: {}",
-                                url))
-                .doOnError(error -> log.error("Failed to get Tistory summary from Python server: {}",
-                        url,
-                        error))
-                .toFuture();
-    }
+        /**
+         * 레플리카 1곳에 요청 (처리 중 요청 수와 성공/실패를 레플리카에 반영)
+         */
+        private Mono<PythonSummaryResponse> send(PythonReplica replica, PythonEndpoint endpoint, Object body) {
+                return Mono.defer(() -> {
+                        replica.acquire();
+                        return pythonWebClient.post()
+                                        .uri(replica.getBaseUrl() + endpoint.getPath())
+                                        .bodyValue(body)
+                                        .retrieve()
+                                        .bodyToMono(PythonSummaryResponse.class)
+                                        .doOnSuccess(response -> pythonReplicaPool.onSuccess(replica))
+                                        .doOnError(error -> pythonReplicaPool.onError(replica, error))
+                                        .doFinally(signal -> replica.release());
+                });
+        }
+
+        /**
+         * 스트리밍 요청: POST {path}/stream (application/x-ndjson)
+         * 한 줄마다 단건 응답과 같은 형식의 일부 필드(video_info/article_info → 요약 → 본문 블록 순)가 오고,
+         * 지금까지 받은 내용을 합친 결과를 순서대로 onProgress에 전달합니다. (DB 저장이 가능하도록 boundedElastic에서 실행)
+         * 스트림이 끝나면 합친 전체 결과가 최종 응답입니다.
+         */
+        private Mono<PythonSummaryResponse> stream(PythonReplica replica, PythonEndpoint endpoint, Object body,
+                        Consumer<PythonSummaryResponse> onProgress) {
+                return Mono.defer(() -> {
+                        replica.acquire();
+                        return pythonWebClient.post()
+                                        .uri(replica.getBaseUrl() + endpoint.getPath() + STREAM_PATH_SUFFIX)
+                                        .accept(MediaType.APPLICATION_NDJSON)
+                                        .bodyValue(body)
+                                        .retrieve()
+                                        .bodyToFlux(PythonSummaryResponse.class)
+                                        .scan(PythonSummaryResponse::merge)
+                                        .concatMap(merged -> Mono.fromRunnable(() -> onProgress.accept(merged))
+                                                        .subscribeOn(Schedulers.boundedElastic())
+                                                        .thenReturn(merged))
+                                        .last()
+                                        .doOnSuccess(response -> pythonReplicaPool.onSuccess(replica))
+                                        .doOnError(error -> pythonReplicaPool.onError(replica, error))
+                                        .doFinally(signal -> replica.release());
+                });
+        }
+
+        /**
+         * 헤징: hedge-delay-ms 안에 응답이 없으면 다른 레플리카에도 같은 요청을 보내 먼저 온 응답을 사용
+         * (YouTube는 Whisper 비용이 커서 제외, 원래 요청은 끝까지 진행되고 늦게 온 쪽 응답은 버림)
+         * 둘 다 실패하면 원래 요청의 오류를 그대로 전달해 재시도/실패 분류가 같게 동작합니다.
+         */
+        private Mono<PythonSummaryResponse> hedge(PythonReplica primary, Mono<PythonSummaryResponse> call,
+                        PythonEndpoint endpoint, Object body) {
+                Mono<PythonSummaryResponse> shared = call.cache();
+                return shared.timeout(Duration.ofMillis(hedgeDelayMs), Mono.defer(() -> pythonReplicaPool
+                                .chooseExcluding(primary)
+                                .map(secondary -> {
+                                        log.info("Hedging slow {} request from {} to {}",
+                                                        endpoint, primary.getBaseUrl(), secondary.getBaseUrl());
+                                        return Mono.firstWithValue(shared, send(secondary, endpoint, body))
+                                                        .onErrorMap(NoSuchElementException.class,
+                                                                        PythonClientService::primaryError);
+                                })
+                                .orElse(shared)));
+        }
+
+        /**
+         * firstWithValue가 모두 실패했을 때 첫 번째(원래 요청)의 오류를 꺼냄
+         */
+        private static Throwable primaryError(NoSuchElementException error) {
+                if (error.getCause() == null) {
+                        return error;
+                }
+                List<Throwable> errors = Exceptions.unwrapMultiple(error.getCause());
+                return errors.isEmpty() ? error : errors.get(0);
+        }
 
         // 내부 DTO
         private record GenericSummaryRequest(String title, String content) {
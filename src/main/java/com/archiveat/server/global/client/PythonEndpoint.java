@@ -0,0 +1,37 @@
+package com.archiveat.server.global.client;
+
+import com.archiveat.server.global.util.DomainClassifier;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Python 서버 요약 엔드포인트
+ *
+ * 엔드포인트마다 처리 시간이 크게 다르므로(YouTube는 Whisper STT 포함)
+ * 동시 요청 수 제한과 서킷 브레이커를 엔드포인트 단위로 따로 둡니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum PythonEndpoint {
+    YOUTUBE("/api/v1/summarize/youtube"),
+    NAVER_NEWS("/api/v1/summarize/naver-news"), // 네이버 뉴스, 브런치, 일반 웹
+    TISTORY("/api/v1/summarize/tistory"),
+    GENERIC("/api/v1/summarize/generic");
+
+    private final String path;
+
+    /**
+     * 콘텐츠 URL을 요약할 엔드포인트 (지원하지 않는 URL은 GENERIC)
+     */
+    public static PythonEndpoint forUrl(String url) {
+        DomainClassifier.DomainType domainType = DomainClassifier.classify(url);
+        if (domainType.isYouTube()) {
+            return YOUTUBE;
+        } else if (domainType.isTistory()) {
+            return TISTORY;
+        } else if (domainType.needsWebCrawling()) {
+            return NAVER_NEWS;
+        }
+        return GENERIC;
+    }
+}
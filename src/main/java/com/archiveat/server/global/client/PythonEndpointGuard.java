@@ -0,0 +1,196 @@
+package com.archiveat.server.global.client;
+
+import com.archiveat.server.global.exception.PythonServerUnavailableException;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Python 서버 엔드포인트별 격벽(bulkhead)과 서킷 브레이커
+ *
+ * - 격벽: 엔드포인트마다 동시 요청 수를 따로 제한해, 느린 YouTube 요청이 기사 요약 자리를 차지하지 못하게 함
+ *   제한 값은 관측한 지연 시간에 따라 AdaptiveConcurrencyLimiter가 조정하고, bulkhead 설정값은 상한으로 사용
+ * - 서킷 브레이커: 엔드포인트가 연속으로 실패하면 한동안 요청을 보내지 않고 바로 거절
+ * 둘 다 자리가 없으면 기다리지 않고 PythonServerUnavailableException으로 즉시 거절하며,
+ * 작업 큐 워커는 이 작업을 실패 처리하지 않고 잠시 뒤로 미룹니다.
+ */
+@Slf4j
+@Component
+public class PythonEndpointGuard {
+
+    @Value("${python.server.bulkhead.youtube:8}")
+    private int youtubeMaxConcurrent;
+
+    @Value("${python.server.bulkhead.naver-news:32}")
+    private int naverNewsMaxConcurrent;
+
+    @Value("${python.server.bulkhead.tistory:32}")
+    private int tistoryMaxConcurrent;
+
+    @Value("${python.server.bulkhead.generic:16}")
+    private int genericMaxConcurrent;
+
+    @Value("${python.server.bulkhead.retry-after-ms:2000}")
+    private long bulkheadRetryAfterMs;
+
+    @Value("${python.server.concurrency.initial-limit:4}")
+    private int initialLimit;
+
+    @Value("${python.server.concurrency.min-limit:1}")
+    private int minLimit;
+
+    @Value("${python.server.concurrency.latency-tolerance:2.0}")
+    private double latencyTolerance;
+
+    @Value("${python.server.concurrency.backoff-ratio:0.9}")
+    private double backoffRatio;
+
+    @Value("${python.server.circuit-breaker.failure-threshold:5}")
+    private int failureThreshold;
+
+    @Value("${python.server.circuit-breaker.open-seconds:30}")
+    private long openSeconds;
+
+    private final Map<PythonEndpoint, AdaptiveConcurrencyLimiter> bulkheads = new EnumMap<>(PythonEndpoint.class);
+    private final Map<PythonEndpoint, CircuitBreaker> circuitBreakers = new EnumMap<>(PythonEndpoint.class);
+
+    @PostConstruct
+    void init() {
+        bulkheads.put(PythonEndpoint.YOUTUBE, createLimiter(PythonEndpoint.YOUTUBE, youtubeMaxConcurrent));
+        bulkheads.put(PythonEndpoint.NAVER_NEWS, createLimiter(PythonEndpoint.NAVER_NEWS, naverNewsMaxConcurrent));
+        bulkheads.put(PythonEndpoint.TISTORY, createLimiter(PythonEndpoint.TISTORY, tistoryMaxConcurrent));
+        bulkheads.put(PythonEndpoint.GENERIC, createLimiter(PythonEndpoint.GENERIC, genericMaxConcurrent));
+
+        for (PythonEndpoint endpoint : PythonEndpoint.values()) {
+            circuitBreakers.put(endpoint,
+                    new CircuitBreaker(endpoint.name(), failureThreshold, Duration.ofSeconds(openSeconds)));
+        }
+    }
+
+    /**
+     * 서킷과 격벽에 지금 요청을 보낼 자리가 있는지 미리 확인 (자리를 잡지 않음)
+     * 작업을 RUNNING으로 바꾸기 전에 호출해, 어차피 거절될 작업이 상태 변경과 알림을 만들지 않게 합니다.
+     *
+     * @throws PythonServerUnavailableException 서킷 OPEN 또는 격벽 초과
+     */
+    public void checkAvailable(PythonEndpoint endpoint) {
+        CircuitBreaker circuitBreaker = circuitBreakers.get(endpoint);
+        if (!circuitBreaker.isCallPermitted()) {
+            throw new PythonServerUnavailableException(endpoint,
+                    circuitBreaker.getRemainingOpenDuration(),
+                    "Circuit breaker is open for " + endpoint.getPath());
+        }
+        if (!bulkheads.get(endpoint).hasCapacity()) {
+            throw new PythonServerUnavailableException(endpoint,
+                    Duration.ofMillis(bulkheadRetryAfterMs),
+                    "Too many concurrent requests to " + endpoint.getPath());
+        }
+    }
+
+    /**
+     * 격벽 적용: 구독 시 자리를 잡고, 끝나면 결과와 지연 시간을 limiter에 반영
+     * 시도 한 번마다 감싸므로 재시도 대기 중에는 자리를 차지하지 않고, 지연 시간도 시도 단위로 측정됩니다.
+     */
+    public <T> Mono<T> withBulkhead(PythonEndpoint endpoint, Mono<T> call) {
+        AdaptiveConcurrencyLimiter limiter = bulkheads.get(endpoint);
+        return Mono.defer(() -> {
+            if (!limiter.tryAcquire()) {
+                log.warn("Bulkhead [{}] is full (limit {}), deferring request", endpoint, limiter.getLimit());
+                return Mono.error(new PythonServerUnavailableException(endpoint,
+                        Duration.ofMillis(bulkheadRetryAfterMs),
+                        "Too many concurrent requests to " + endpoint.getPath()));
+            }
+
+            long startTime = System.nanoTime();
+            AtomicBoolean succeeded = new AtomicBoolean(false);
+            AtomicReference<Throwable> failure = new AtomicReference<>();
+            return call
+                    .doOnSuccess(response -> succeeded.set(true))
+                    .doOnError(failure::set)
+                    .doFinally(signal -> {
+                        // doFinally는 한 번만 실행되므로 자리도 한 번만 반납됨
+                        if (succeeded.get()) {
+                            limiter.onSuccess(System.nanoTime() - startTime);
+                        } else if (failure.get() != null && isServerFailure(failure.get())) {
+                            limiter.onDropped();
+                        } else {
+                            limiter.onIgnored();
+                        }
+                    });
+        });
+    }
+
+    /**
+     * 서킷 브레이커 적용: 시도(재시도 포함) 한 번마다 허용 여부를 확인하고 결과를 기록
+     */
+    public <T> Mono<T> withCircuitBreaker(PythonEndpoint endpoint, Mono<T> call) {
+        CircuitBreaker circuitBreaker = circuitBreakers.get(endpoint);
+        return Mono.defer(() -> {
+            if (!circuitBreaker.tryAcquirePermission()) {
+                return Mono.error(new PythonServerUnavailableException(endpoint,
+                        circuitBreaker.getRemainingOpenDuration(),
+                        "Circuit breaker is open for " + endpoint.getPath()));
+            }
+            return call
+                    .doOnSuccess(response -> circuitBreaker.onSuccess())
+                    .doOnError(error -> {
+                        if (error instanceof PythonServerUnavailableException) {
+                            // 격벽 거절: 서버에 보내지 않았으므로 결과로 세지 않음
+                            circuitBreaker.onCancel();
+                        } else if (isServerFailure(error)) {
+                            circuitBreaker.onFailure();
+                        } else {
+                            circuitBreaker.onSuccess();
+                        }
+                    })
+                    .doOnCancel(circuitBreaker::onCancel);
+        });
+    }
+
+    /**
+     * 엔드포인트에 지금 더 보낼 수 있는 요청 수 (워커가 엔드포인트별로 가져갈 작업 수 상한)
+     * 서킷이 OPEN이면 0, 확인 요청을 보낼 차례(HALF_OPEN)면 1건만
+     *
+     * @param inFlight 호출한 쪽에서 이 엔드포인트로 이미 처리 중인 작업 수 (요청을 보내기 전 단계 포함)
+     */
+    public int getAvailableSlots(PythonEndpoint endpoint, int inFlight) {
+        CircuitBreaker circuitBreaker = circuitBreakers.get(endpoint);
+        if (!circuitBreaker.isCallPermitted()) {
+            return 0;
+        }
+        int limit = circuitBreaker.getState() == CircuitBreaker.State.CLOSED
+                ? bulkheads.get(endpoint).getLimit()
+                : 1;
+        return Math.max(limit - inFlight, 0);
+    }
+
+    public CircuitBreaker.State getState(PythonEndpoint endpoint) {
+        return circuitBreakers.get(endpoint).getState();
+    }
+
+    /**
+     * YouTube는 처리 시간이 영상 길이에 따라 크게 달라 지연 시간이 과부하 신호가 되지 않으므로,
+     * 지연 시간으로는 limit을 줄이지 않고 실패(타임아웃, 5xx, 연결 실패)로만 줄임
+     */
+    private AdaptiveConcurrencyLimiter createLimiter(PythonEndpoint endpoint, int maxLimit) {
+        double tolerance = endpoint == PythonEndpoint.YOUTUBE ? Double.POSITIVE_INFINITY : latencyTolerance;
+        return new AdaptiveConcurrencyLimiter(endpoint.name(), initialLimit, minLimit, maxLimit,
+                tolerance, backoffRatio);
+    }
+
+    /**
+     * 4xx는 요청 내용의 문제이므로 서버 장애로 세지 않음 (타임아웃, 연결 실패, 5xx만 집계)
+     */
+    private boolean isServerFailure(Throwable error) {
+        return !(error instanceof WebClientResponseException ex && ex.getStatusCode().is4xxClientError());
+    }
+}
@@ -0,0 +1,34 @@
+package com.archiveat.server.global.client;
+
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+/**
+ * 요약 실패 원인 분류
+ *
+ * - 영구 실패: 다시 보내도 같은 결과인 요청 (4xx 응답, 지원하지 않는 URL 등)
+ * - 일시적 실패: 5xx, 타임아웃, 연결 오류 등 Python 서버가 회복되면 성공할 수 있는 오류
+ */
+public class PythonFailureClassifier {
+
+    /**
+     * 예외(원인 체인 포함)가 영구 실패인지 판단
+     */
+    public static boolean isPermanent(Throwable error) {
+        Throwable current = error;
+        while (current != null) {
+            if (current instanceof WebClientResponseException ex) {
+                int status = ex.getStatusCode().value();
+                // 408(Request Timeout), 429(Too Many Requests)는 다시 보내면 성공할 수 있음
+                return ex.getStatusCode().is4xxClientError() && status != 408 && status != 429;
+            }
+            if (current instanceof IllegalArgumentException) {
+                return true;
+            }
+            if (current.getCause() == current) {
+                break;
+            }
+            current = current.getCause();
+        }
+        return false;
+    }
+}
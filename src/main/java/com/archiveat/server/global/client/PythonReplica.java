@@ -0,0 +1,80 @@
+package com.archiveat.server.global.client;
+
+import lombok.Getter;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Python 요약 서버 레플리카 1개의 상태
+ *
+ * - outstanding: 이 노드가 보내고 아직 응답받지 못한 요청 수 (least-outstanding 라우팅 기준)
+ * - healthy: 헬스 체크 또는 연속 실패로 판단한 가용 여부
+ */
+public class PythonReplica {
+
+    @Getter
+    private final String baseUrl;
+
+    private final AtomicInteger outstanding = new AtomicInteger();
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private volatile boolean healthy = true;
+
+    public PythonReplica(String baseUrl) {
+        this.baseUrl = baseUrl;
+    }
+
+    public void acquire() {
+        acquire(1);
+    }
+
+    public void release() {
+        release(1);
+    }
+
+    /**
+     * 배치 요청은 담긴 요청 수만큼 처리 중으로 셈
+     */
+    public void acquire(int requests) {
+        outstanding.addAndGet(requests);
+    }
+
+    public void release(int requests) {
+        outstanding.addAndGet(-requests);
+    }
+
+    public int getOutstanding() {
+        return outstanding.get();
+    }
+
+    public boolean isHealthy() {
+        return healthy;
+    }
+
+    /**
+     * 요청 성공 또는 헬스 체크 통과: 다시 라우팅 대상으로
+     */
+    public void markHealthy() {
+        consecutiveFailures.set(0);
+        healthy = true;
+    }
+
+    /**
+     * 헬스 체크 실패: 바로 라우팅 대상에서 제외
+     */
+    public void markUnhealthy() {
+        healthy = false;
+    }
+
+    /**
+     * 요청 실패 (연결 오류, 5xx): 연속 failureThreshold번이면 제외
+     *
+     * @return 이번 실패로 제외되었으면 true
+     */
+    public boolean recordFailure(int failureThreshold) {
+        if (consecutiveFailures.incrementAndGet() >= failureThreshold && healthy) {
+            healthy = false;
+            return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,144 @@
+package com.archiveat.server.global.client;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Python 요약 서버 레플리카 목록과 라우팅
+ *
+ * - 요청마다 처리 중인 요청이 가장 적은 레플리카를 선택 (least-outstanding)
+ *   Whisper처럼 오래 걸리는 요청이 몰린 레플리카는 자연히 덜 선택됩니다.
+ * - 연속 실패한 레플리카와 헬스 체크에 실패한 레플리카는 제외하고, 헬스 체크가 통과하면 다시 포함
+ * - 모두 제외된 상태면 전체 중에서 선택 (전면 장애는 서킷 브레이커가 처리)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PythonReplicaPool {
+
+    private final WebClient pythonWebClient;
+
+    @Value("${python.server.replicas:${python.server.base-url:http://python-server:8000}}")
+    private String replicaUrls;
+
+    @Value("${python.server.health-check.path:/health}")
+    private String healthCheckPath;
+
+    @Value("${python.server.health-check.timeout-ms:2000}")
+    private long healthCheckTimeoutMs;
+
+    @Value("${python.server.health-check.failure-threshold:3}")
+    private int failureThreshold;
+
+    private List<PythonReplica> replicas;
+
+    @PostConstruct
+    void init() {
+        replicas = Arrays.stream(replicaUrls.split(","))
+                .map(String::trim)
+                .filter(url -> !url.isEmpty())
+                .map(url -> url.endsWith("/") ? url.substring(0, url.length() - 1) : url)
+                .distinct()
+                .map(PythonReplica::new)
+                .toList();
+        if (replicas.isEmpty()) {
+            throw new IllegalStateException("No Python server replica configured");
+        }
+        log.info("Python server replicas: {}", replicas.stream().map(PythonReplica::getBaseUrl).toList());
+    }
+
+    /**
+     * 처리 중인 요청이 가장 적은 레플리카 선택 (동률이면 무작위)
+     */
+    public PythonReplica choose() {
+        return chooseExcluding(null)
+                .orElseGet(() -> leastOutstanding(null, false));
+    }
+
+    /**
+     * exclude를 제외한 정상 레플리카 중 선택 (헤징용, 없으면 empty)
+     */
+    public Optional<PythonReplica> chooseExcluding(PythonReplica exclude) {
+        return Optional.ofNullable(leastOutstanding(exclude, true));
+    }
+
+    /**
+     * 요청 결과 반영
+     * 4xx는 요청 자체의 문제이므로 레플리카 실패로 세지 않습니다.
+     */
+    public void onSuccess(PythonReplica replica) {
+        replica.markHealthy();
+    }
+
+    public void onError(PythonReplica replica, Throwable error) {
+        if (error instanceof WebClientResponseException ex && ex.getStatusCode().is4xxClientError()) {
+            return;
+        }
+        if (replica.recordFailure(failureThreshold)) {
+            log.warn("Python replica {} taken out of rotation after {} consecutive failures",
+                    replica.getBaseUrl(), failureThreshold);
+        }
+    }
+
+    /**
+     * 주기적 헬스 체크
+     * 5xx가 아닌 응답이면 살아 있는 것으로 봅니다. (헬스 경로가 없는 서버도 404로 응답하면 정상)
+     */
+    @Scheduled(fixedDelayString = "${python.server.health-check.interval-ms:10000}")
+    public void checkHealth() {
+        if (replicas.size() < 2) {
+            return;
+        }
+        for (PythonReplica replica : replicas) {
+            pythonWebClient.get()
+                    .uri(replica.getBaseUrl() + healthCheckPath)
+                    .exchangeToMono(response -> Mono.just(!response.statusCode().is5xxServerError()))
+                    .timeout(Duration.ofMillis(healthCheckTimeoutMs))
+                    .onErrorReturn(false)
+                    .subscribe(up -> {
+                        if (up && !replica.isHealthy()) {
+                            log.info("Python replica {} is back in rotation", replica.getBaseUrl());
+                            replica.markHealthy();
+                        } else if (!up && replica.isHealthy()) {
+                            log.warn("Python replica {} failed health check, taken out of rotation",
+                                    replica.getBaseUrl());
+                            replica.markUnhealthy();
+                        }
+                    });
+        }
+    }
+
+    public List<PythonReplica> getReplicas() {
+        return replicas;
+    }
+
+    private PythonReplica leastOutstanding(PythonReplica exclude, boolean healthyOnly) {
+        int size = replicas.size();
+        int offset = size > 1 ? ThreadLocalRandom.current().nextInt(size) : 0;
+
+        PythonReplica best = null;
+        for (int i = 0; i < size; i++) {
+            PythonReplica replica = replicas.get((offset + i) % size);
+            if (replica == exclude || (healthyOnly && !replica.isHealthy())) {
+                continue;
+            }
+            if (best == null || replica.getOutstanding() < best.getOutstanding()) {
+                best = replica;
+            }
+        }
+        return best;
+    }
+}
@@ -14,4 +14,14 @@ public enum HomeTabType {
 
     private final String label;
     private final String subMessage;
+
+    /**
+     * PerspectiveType과 DepthType의 조합에 따른 탭 (ALL 제외)
+     */
+    public static HomeTabType of(PerspectiveType perspectiveType, DepthType depthType) {
+        if (perspectiveType == PerspectiveType.NOW) {
+            return depthType == DepthType.LIGHT ? INSPIRATION : DEEP_DIVE;
+        }
+        return depthType == DepthType.LIGHT ? GROWTH : VIEW_EXPANSION;
+    }
 }
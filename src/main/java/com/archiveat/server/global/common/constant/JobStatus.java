@@ -0,0 +1,5 @@
+package com.archiveat.server.global.common.constant;
+
+public enum JobStatus {
+    QUEUED, RUNNING, DONE, FAILED
+}
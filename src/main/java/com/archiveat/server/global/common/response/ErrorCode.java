@@ -13,12 +13,14 @@ public enum ErrorCode {
     FORBIDDEN(HttpStatus.FORBIDDEN, 40300, "권한이 없습니다."),
     NOT_FOUND(HttpStatus.NOT_FOUND, 40400, "리소스를 찾을 수 없습니다."),
     METHOD_NOT_ALLOWED(HttpStatus.METHOD_NOT_ALLOWED, 40500, "허용되지 않은 Http 메서드입니다."),
+    TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, 42900, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요."),
 
     // [Explore & Inbox]
     USER_NEWSLETTER_NOT_FOUND(HttpStatus.NOT_FOUND, 40410, "인박스 아이템을 찾을 수 없습니다."),
     USER_NEWSLETTER_NOT_AUTHORIZED(HttpStatus.FORBIDDEN, 40310, "해당 인박스 아이템에 대한 수정 권한이 없습니다."),
     CATEGORY_NOT_FOUND(HttpStatus.NOT_FOUND, 40411, "존재하지 않는 카테고리입니다."),
     TOPIC_NOT_FOUND(HttpStatus.NOT_FOUND, 40412, "존재하지 않는 토픽입니다."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, 40011, "잘못된 페이지 커서입니다."),
 
     // Topic and Category
     INVALID_TOPIC_CATEGORY_MATCH(HttpStatus.BAD_REQUEST, 40010, "선택한 토픽이 해당 카테고리에 속하지 않습니다."),
@@ -8,7 +8,8 @@ import org.springframework.http.HttpStatus;
 @RequiredArgsConstructor
 public enum SuccessCode {
     SUCCESS(HttpStatus.OK, 20000, "Success"),
-    USER_CREATED(HttpStatus.OK, 20000, "User created");
+    USER_CREATED(HttpStatus.OK, 20000, "User created"),
+    ACCEPTED_DELAYED(HttpStatus.ACCEPTED, 20200, "Accepted, processing delayed");
 
 
     private final HttpStatus status;
@@ -16,17 +16,19 @@ public class AsyncConfig {
      * 
      * - Core Pool Size: 5 (기본적으로 유지되는 스레드 수)
      * - Max Pool Size: 10 (최대 생성 가능한 스레드 수)
-     * - Queue Capacity: 25 (대기 큐에 들어갈 수 있는 작업 수)
+     * - Queue Capacity: 500 (대기 큐에 들어갈 수 있는 작업 수)
      * 
-     * LLM 요약 작업은 5-10초 소요되므로,
-     * 동시에 많은 요청이 들어와도 순차적으로 처리됩니다.
+     * 요약 파이프라인의 DB 단계(RUNNING 표시, 결과 저장, 실패 기록)만 실행합니다.
+     * Python 서버 응답을 기다리는 동안에는 스레드를 점유하지 않으므로
+     * 적은 스레드로 newsletter.job.max-in-flight 개의 작업을 동시에 진행할 수 있고,
+     * 큐는 그 작업들의 DB 단계가 한꺼번에 몰려도 넘치지 않을 만큼 잡아 둡니다.
      */
     @Bean(name = "taskExecutor")
     public Executor taskExecutor() {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(5);
         executor.setMaxPoolSize(10);
-        executor.setQueueCapacity(25);
+        executor.setQueueCapacity(500);
         executor.setThreadNamePrefix("async-newsletter-");
         executor.setWaitForTasksToCompleteOnShutdown(true);
         executor.setAwaitTerminationSeconds(60);
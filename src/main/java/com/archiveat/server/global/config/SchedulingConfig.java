@@ -0,0 +1,15 @@
+package com.archiveat.server.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄러 설정
+ *
+ * 뉴스레터 작업 큐 폴링, 리스 하트비트 등 주기 작업을 활성화합니다.
+ * 스레드 수는 spring.task.scheduling.pool.size 로 조절합니다.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -1,11 +1,13 @@
 package com.archiveat.server.global.config;
 
+import com.archiveat.server.global.client.OpenGraphClient;
+import com.archiveat.server.global.client.PublicAddressResolverGroup;
 import io.netty.channel.ChannelOption;
-import io.netty.handler.timeout.ReadTimeoutHandler;
 import io.netty.handler.timeout.WriteTimeoutHandler;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.netty.http.client.HttpClient;
@@ -16,9 +18,6 @@ import java.util.concurrent.TimeUnit;
 @Configuration
 public class WebClientConfig {
 
-        @Value("${python.server.base-url:http://python-server:8000}")
-        private String pythonServerBaseUrl;
-
         @Value("${python.server.timeout.connect:10000}")
         private int connectTimeout;
 
@@ -29,8 +28,10 @@ public class WebClientConfig {
          * Python 서버 통신용 WebClient 설정
          * 
          * - Connection Timeout: 10초
-         * - Response Timeout: 600초 (10분 - LLM + Whisper 처리 시간)
+         * - Response Timeout: 600초 (10분 - LLM + Whisper 처리 시간), 연결 수준의 상한일 뿐이고
+         *   실제 시도별 타임아웃과 전체 시간 예산은 PythonClientService가 엔드포인트별로 적용
          * - Retry: WebClient Retry 설정으로 처리 (3회)
+         * - base URL 없음: 요청마다 PythonReplicaPool이 고른 레플리카 주소를 사용
          */
         @Bean
         public WebClient pythonWebClient() {
@@ -38,14 +39,34 @@ public class WebClientConfig {
                                 .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeout)
                                 .responseTimeout(Duration.ofMillis(responseTimeout))
                                 .doOnConnected(
-                                                conn -> conn.addHandlerLast(new ReadTimeoutHandler(responseTimeout,
-                                                                TimeUnit.MILLISECONDS))
-                                                                .addHandlerLast(new WriteTimeoutHandler(connectTimeout,
-                                                                                TimeUnit.MILLISECONDS)));
+                                                conn -> conn.addHandlerLast(new WriteTimeoutHandler(connectTimeout,
+                                                                TimeUnit.MILLISECONDS)));
 
                 return WebClient.builder()
-                                .baseUrl(pythonServerBaseUrl)
                                 .clientConnector(new ReactorClientHttpConnector(httpClient))
                                 .build();
         }
+
+        /**
+         * OpenGraph 메타데이터 조회용 클라이언트 (Python 서버와 별개의 짧은 타임아웃)
+         * 리다이렉트는 OpenGraphClient가 주소를 확인하며 직접 따라갑니다.
+         * 호스트 이름은 PublicAddressResolverGroup으로 한 번만 조회해, 검사한 공인 주소로만 연결합니다.
+         */
+        @Bean
+        public OpenGraphClient openGraphClient(
+                        @Value("${opengraph.connect-timeout-ms:1000}") int ogConnectTimeout,
+                        @Value("${opengraph.timeout-ms:3000}") long ogTimeout,
+                        @Value("${opengraph.max-bytes:65536}") int ogMaxBytes) {
+                HttpClient httpClient = HttpClient.create()
+                                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, ogConnectTimeout)
+                                .responseTimeout(Duration.ofMillis(ogTimeout))
+                                .followRedirect(false)
+                                .resolver(PublicAddressResolverGroup.INSTANCE);
+
+                WebClient webClient = WebClient.builder()
+                                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                                .defaultHeader(HttpHeaders.USER_AGENT, "Mozilla/5.0 (compatible; ArchiveatBot/1.0)")
+                                .build();
+                return new OpenGraphClient(webClient, ogMaxBytes, Duration.ofMillis(ogTimeout), false);
+        }
 }
@@ -0,0 +1,26 @@
+package com.archiveat.server.global.error;
+
+import com.archiveat.server.global.common.response.ApiResponse;
+import com.archiveat.server.global.common.response.ErrorCode;
+import com.archiveat.server.global.exception.CustomException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * CustomException을 ErrorCode의 HTTP 상태와 ApiResponse.fail 형태로 응답
+ */
+@Slf4j
+@RestControllerAdvice
+public class GlobalExceptionHandler {
+
+    @ExceptionHandler(CustomException.class)
+    public ResponseEntity<ApiResponse<Void>> handleCustomException(CustomException e) {
+        ErrorCode errorCode = e.getErrorCode();
+        log.warn("CustomException: {} - {}", errorCode, e.getMessage());
+        return ResponseEntity
+                .status(errorCode.getHttpStatus())
+                .body(ApiResponse.fail(errorCode, e.getMessage()));
+    }
+}
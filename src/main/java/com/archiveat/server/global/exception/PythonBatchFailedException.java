@@ -0,0 +1,20 @@
+package com.archiveat.server.global.exception;
+
+import com.archiveat.server.global.client.PythonEndpoint;
+import lombok.Getter;
+
+/**
+ * 묶음 요청(batch) 전체가 실패 (타임아웃, 연결 실패, 5xx 등)
+ *
+ * 서킷 브레이커에는 묶음 단위로 한 번만 기록되므로, 묶음에 들어 있던 요청들은 각자 다시 기록하거나 바로 재시도하지 않고
+ * 작업 큐의 재시도(백오프)에 맡깁니다. 원인 예외는 cause로 남아 일시적/영구 실패 분류에 그대로 사용됩니다.
+ */
+@Getter
+public class PythonBatchFailedException extends RuntimeException {
+    private final PythonEndpoint endpoint;
+
+    public PythonBatchFailedException(PythonEndpoint endpoint, int size, Throwable cause) {
+        super("Batch of " + size + " requests to " + endpoint.getPath() + " failed: " + cause.getMessage(), cause);
+        this.endpoint = endpoint;
+    }
+}
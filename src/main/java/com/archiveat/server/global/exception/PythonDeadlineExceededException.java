@@ -0,0 +1,23 @@
+package com.archiveat.server.global.exception;
+
+import com.archiveat.server.global.client.PythonEndpoint;
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * Python 서버 호출이 재시도를 포함한 전체 시간 예산(deadline)을 다 씀
+ *
+ * 호출 안에서는 더 재시도하지 않고, 일시적 실패로 분류되어 작업 재시도 일정에 맡깁니다.
+ */
+@Getter
+public class PythonDeadlineExceededException extends RuntimeException {
+    private final PythonEndpoint endpoint;
+    private final Duration deadline;
+
+    public PythonDeadlineExceededException(PythonEndpoint endpoint, Duration deadline) {
+        super("Deadline of " + deadline.toSeconds() + "s exceeded for " + endpoint.getPath());
+        this.endpoint = endpoint;
+        this.deadline = deadline;
+    }
+}
@@ -0,0 +1,23 @@
+package com.archiveat.server.global.exception;
+
+import com.archiveat.server.global.client.PythonEndpoint;
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * Python 서버 엔드포인트가 지금 요청을 받을 수 없음 (서킷 OPEN 또는 동시 요청 수 초과)
+ *
+ * 요청 자체의 실패가 아니므로 작업을 실패 처리하지 않고 retryAfter 후에 다시 시도합니다.
+ */
+@Getter
+public class PythonServerUnavailableException extends RuntimeException {
+    private final PythonEndpoint endpoint;
+    private final Duration retryAfter;
+
+    public PythonServerUnavailableException(PythonEndpoint endpoint, Duration retryAfter, String message) {
+        super(message);
+        this.endpoint = endpoint;
+        this.retryAfter = retryAfter;
+    }
+}
@@ -0,0 +1,49 @@
+package com.archiveat.server.global.util;
+
+import com.archiveat.server.global.common.response.ErrorCode;
+import com.archiveat.server.global.exception.CustomException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * (createdAt, id) 키셋 페이지네이션 커서
+ *
+ * 최신순 목록에서 마지막으로 내려준 행의 위치입니다. 다음 페이지는 이 위치보다 오래된 행부터 읽습니다.
+ * createdAt이 같은 행(일괄 저장)은 id로 순서를 정합니다.
+ * 클라이언트에는 내부 형식을 숨긴 문자열(Base64 URL)로 내려줍니다.
+ */
+public record CreatedAtCursor(LocalDateTime createdAt, Long id) {
+
+    /**
+     * 첫 페이지: 모든 행보다 뒤의 위치 (DB timestamp 범위 안의 값)
+     */
+    public static final CreatedAtCursor FIRST = new CreatedAtCursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+
+    private static final String SEPARATOR = ",";
+
+    /**
+     * 클라이언트가 보낸 커서 해석 (없으면 첫 페이지)
+     */
+    public static CreatedAtCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = decoded.lastIndexOf(SEPARATOR);
+            return new CreatedAtCursor(
+                    LocalDateTime.parse(decoded.substring(0, separator)),
+                    Long.parseLong(decoded.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new CustomException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    public String encode() {
+        String raw = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
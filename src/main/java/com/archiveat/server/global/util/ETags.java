@@ -0,0 +1,42 @@
+package com.archiveat.server.global.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 강한 ETag 생성기
+ *
+ * 응답 본문을 만들지 않고도 알 수 있는 값(엔티티 modifiedAt, 캐시 버전 등)으로 ETag를 계산합니다.
+ * 같은 값이면 같은 ETag, 하나라도 다르면 다른 ETag가 됩니다. (null도 하나의 값으로 취급)
+ */
+public final class ETags {
+
+    private static final int LENGTH_BYTES = 16;
+
+    private ETags() {
+    }
+
+    /**
+     * 구성 값들로 ETag 계산 (따옴표 없는 16진수, WebRequest.checkNotModified가 따옴표를 붙임)
+     */
+    public static String of(Object... parts) {
+        MessageDigest digest = sha256();
+        for (Object part : parts) {
+            // 구분자와 길이를 함께 넣어 ("ab", "c")와 ("a", "bc")가 같아지지 않게 함
+            String value = String.valueOf(part);
+            digest.update((value.length() + ":" + value + ";").getBytes(StandardCharsets.UTF_8));
+        }
+        byte[] hash = digest.digest();
+        return HexFormat.of().formatHex(hash, 0, LENGTH_BYTES);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package com.archiveat.server.global.util;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * URL 정규화기
+ *
+ * 같은 콘텐츠를 가리키는 서로 다른 URL을 하나의 형태로 맞춥니다.
+ * 플랫폼 판별은 {@link DomainClassifier}의 DomainType을 따르고, 플랫폼마다 규칙이 다릅니다.
+ * - YOUTUBE: youtu.be/X, youtube.com/watch?v=X&t=10 → https://www.youtube.com/watch?v=X
+ * - NAVER_NEWS: 구/신 형식 모두 → https://n.news.naver.com/mnews/article/{언론사}/{기사}
+ * - TISTORY, BRUNCH: 쿼리스트링 제거
+ * - GENERAL: 추적 파라미터(utm_* 등)와 fragment 제거, 남은 파라미터 정렬
+ */
+@Slf4j
+public class UrlCanonicalizer {
+
+    private static final Pattern YOUTUBE_ID_PATTERN = Pattern.compile("^[A-Za-z0-9_-]{11}$");
+
+    private static final Pattern NAVER_NEWS_PATH_PATTERN = Pattern.compile(
+            "^/(?:mnews/)?article/(\\d{3})/(\\d{10})/?$");
+
+    private static final Set<String> TRACKING_PARAMS = Set.of(
+            "fbclid", "gclid", "dclid", "msclkid", "igshid", "mc_cid", "mc_eid", "ref_src", "si");
+
+    /**
+     * URL을 정규화
+     *
+     * @param url 사용자가 저장한 원본 URL
+     * @return 정규화된 URL (해석할 수 없으면 앞뒤 공백만 제거한 원본)
+     */
+    public static String canonicalize(String url) {
+        if (url == null) {
+            return null;
+        }
+        String trimmed = url.trim();
+
+        DomainClassifier.DomainType domainType = DomainClassifier.classify(trimmed);
+        if (domainType == DomainClassifier.DomainType.UNKNOWN) {
+            return trimmed;
+        }
+
+        try {
+            URI uri = new URI(trimmed);
+            String canonical = switch (domainType) {
+                case YOUTUBE -> canonicalizeYouTube(uri);
+                case NAVER_NEWS -> canonicalizeNaverNews(uri);
+                case TISTORY, BRUNCH -> build(uri, null);
+                default -> build(uri, filterQuery(uri.getRawQuery()));
+            };
+            return canonical != null ? canonical : build(uri, filterQuery(uri.getRawQuery()));
+        } catch (Exception e) {
+            log.warn("Failed to canonicalize URL: {}", trimmed, e);
+            return trimmed;
+        }
+    }
+
+    /**
+     * 정규화된 URL의 SHA-256 (hex 64자) - Newsletter 조회용 고정 길이 키
+     */
+    public static String hash(String canonicalUrl) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(canonicalUrl.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static String canonicalizeYouTube(URI uri) {
+        String host = uri.getHost().toLowerCase(Locale.ROOT);
+        String videoId = null;
+
+        if (host.endsWith("youtu.be")) {
+            // https://youtu.be/{id}
+            String path = uri.getPath();
+            if (path != null && path.length() > 1) {
+                videoId = path.substring(1).split("/")[0];
+            }
+        } else {
+            // https://www.youtube.com/watch?v={id}
+            videoId = parseQuery(uri.getRawQuery()).get("v");
+        }
+
+        if (videoId == null || !YOUTUBE_ID_PATTERN.matcher(videoId).matches()) {
+            return null;
+        }
+        return "https://www.youtube.com/watch?v=" + videoId;
+    }
+
+    private static String canonicalizeNaverNews(URI uri) {
+        String oid = null;
+        String aid = null;
+
+        Matcher matcher = NAVER_NEWS_PATH_PATTERN.matcher(uri.getPath() == null ? "" : uri.getPath());
+        if (matcher.matches()) {
+            // https://n.news.naver.com/mnews/article/{oid}/{aid}, /article/{oid}/{aid}
+            oid = matcher.group(1);
+            aid = matcher.group(2);
+        } else {
+            // https://news.naver.com/main/read.nhn?oid={oid}&aid={aid}
+            Map<String, String> params = parseQuery(uri.getRawQuery());
+            oid = params.get("oid");
+            aid = params.get("aid");
+        }
+
+        if (oid == null || aid == null) {
+            return null;
+        }
+        return "https://n.news.naver.com/mnews/article/" + oid + "/" + aid;
+    }
+
+    /**
+     * scheme/host 소문자화, 기본 포트·fragment·끝 슬래시 제거
+     */
+    private static String build(URI uri, String query) {
+        String scheme = uri.getScheme() == null ? "https" : uri.getScheme().toLowerCase(Locale.ROOT);
+        String host = uri.getHost().toLowerCase(Locale.ROOT);
+        int port = uri.getPort();
+        boolean defaultPort = port == -1
+                || ("http".equals(scheme) && port == 80)
+                || ("https".equals(scheme) && port == 443);
+
+        String path = uri.getRawPath();
+        if (path == null || path.isEmpty()) {
+            path = "/";
+        } else if (path.length() > 1 && path.endsWith("/")) {
+            path = path.substring(0, path.length() - 1);
+        }
+
+        StringBuilder sb = new StringBuilder()
+                .append(scheme).append("://").append(host);
+        if (!defaultPort) {
+            sb.append(':').append(port);
+        }
+        sb.append(path);
+        if (query != null && !query.isEmpty()) {
+            sb.append('?').append(query);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 추적 파라미터를 제거하고 남은 파라미터를 이름순으로 정렬
+     */
+    private static String filterQuery(String rawQuery) {
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return null;
+        }
+
+        List<String> kept = new ArrayList<>();
+        for (String pair : rawQuery.split("&")) {
+            if (pair.isEmpty()) {
+                continue;
+            }
+            String name = pair.split("=", 2)[0].toLowerCase(Locale.ROOT);
+            if (name.startsWith("utm_") || TRACKING_PARAMS.contains(name)) {
+                continue;
+            }
+            kept.add(pair);
+        }
+        kept.sort(null);
+        return String.join("&", kept);
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> params = new LinkedHashMap<>();
+        if (rawQuery == null) {
+            return params;
+        }
+        for (String pair : rawQuery.split("&")) {
+            String[] kv = pair.split("=", 2);
+            if (kv.length == 2) {
+                params.putIfAbsent(kv[0], URLDecoder.decode(kv[1], StandardCharsets.UTF_8));
+            }
+        }
+        return params;
+    }
+}
@@ -0,0 +1,142 @@
+package com.archiveat.server.domain.explore.repository;
+
+import com.archiveat.server.support.PostgresRepositoryTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ExploreCounterRepository 테스트 (ON CONFLICT upsert 증감, 다시 계산, 백필)
+ */
+@Import(ExploreCounterRepository.class)
+class ExploreCounterRepositoryTest extends PostgresRepositoryTest {
+
+    @Autowired
+    private ExploreCounterRepository exploreCounterRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private Long userId;
+    private Long stockTopic;
+    private Long aiTopic;
+
+    @BeforeEach
+    void setUp() {
+        userId = insertUser("a@test.com");
+        Long category = insertCategory("경제");
+        stockTopic = insertTopic(category, "주식");
+        aiTopic = insertTopic(category, "AI");
+    }
+
+    @Test
+    void testTopicCountsAreUpsertedAndNeverNegative() {
+        Long first = newsletterWithTopics(stockTopic, aiTopic);
+        Long second = newsletterWithTopics(stockTopic);
+
+        exploreCounterRepository.addTopicCounts(userId, List.of(first, second), 1);
+        assertEquals(2, topicCount(stockTopic));
+        assertEquals(1, topicCount(aiTopic));
+
+        exploreCounterRepository.addTopicCounts(userId, List.of(first), -1);
+        assertEquals(1, topicCount(stockTopic));
+        assertEquals(0, topicCount(aiTopic));
+
+        exploreCounterRepository.addTopicCounts(userId, List.of(first), -1);
+        assertEquals(0, topicCount(stockTopic));
+        assertEquals(0, topicCount(aiTopic));
+    }
+
+    @Test
+    void testInboxCountIsUpsertedAndNeverNegative() {
+        exploreCounterRepository.addInboxCount(userId, 3);
+        exploreCounterRepository.addInboxCount(userId, -1);
+        assertEquals(2, inboxCount());
+
+        exploreCounterRepository.addInboxCount(userId, -5);
+        assertEquals(0, inboxCount());
+    }
+
+    @Test
+    void testRefreshRecountsTopicsOfNewsletter() {
+        Long newsletterId = newsletterWithTopics();
+        insertUserNewsletter(userId, newsletterId, false);
+        // 요약 완료 후 토픽 연결이 생김
+        linkTopic(stockTopic, newsletterId);
+
+        exploreCounterRepository.refreshTopicCounts(newsletterId);
+
+        assertEquals(1, topicCount(stockTopic));
+    }
+
+    @Test
+    void testBackfillRebuildsCountersFromSource() {
+        Long confirmed = newsletterWithTopics(stockTopic);
+        Long unconfirmed = newsletterWithTopics(stockTopic, aiTopic);
+        insertUserNewsletter(userId, confirmed, true);
+        insertUserNewsletter(userId, unconfirmed, false);
+        // 틀린 카운터: 없는 토픽 행, 어긋난 인박스 수
+        Long staleTopic = insertTopic(insertCategory("IT"), "보안");
+        jdbcTemplate.update("INSERT INTO user_topic_counts (user_id, topic_id, newsletter_count) VALUES (?, ?, 4)",
+                userId, staleTopic);
+        jdbcTemplate.update("INSERT INTO user_inbox_counts (user_id, unconfirmed_count) VALUES (?, 7)", userId);
+
+        assertTrue(exploreCounterRepository.backfill().orElseThrow() > 0);
+
+        assertEquals(2, topicCount(stockTopic));
+        assertEquals(1, topicCount(aiTopic));
+        assertEquals(0, topicCount(staleTopic));
+        assertEquals(1, inboxCount());
+        // 이미 맞으면 바꾸지 않음
+        assertEquals(Optional.of(0), exploreCounterRepository.backfill());
+    }
+
+    @Test
+    void testBackfillIsSkippedWhileAnotherNodeHoldsLock() throws SQLException {
+        insertUserNewsletter(userId, newsletterWithTopics(stockTopic), false);
+
+        // 다른 노드의 백필: 별도 커넥션이 같은 advisory lock을 잡고 있음
+        try (Connection otherNode = dataSource.getConnection();
+             Statement statement = otherNode.createStatement()) {
+            statement.execute("SELECT pg_advisory_lock(hashtext('explore_counter_backfill'))");
+            try {
+                assertEquals(Optional.empty(), exploreCounterRepository.backfill());
+                assertEquals(0, topicCount(stockTopic));
+            } finally {
+                // 풀로 돌아가는 커넥션에 세션 잠금이 남지 않도록 해제
+                statement.execute("SELECT pg_advisory_unlock(hashtext('explore_counter_backfill'))");
+            }
+        }
+    }
+
+    private Long newsletterWithTopics(Long... topicIds) {
+        Long newsletterId = insertNewsletter("https://example.com/" + System.nanoTime(), "DONE");
+        for (Long topicId : topicIds) {
+            linkTopic(topicId, newsletterId);
+        }
+        return newsletterId;
+    }
+
+    private long topicCount(Long topicId) {
+        List<Long> counts = jdbcTemplate.queryForList(
+                "SELECT newsletter_count FROM user_topic_counts WHERE user_id = ? AND topic_id = ?",
+                Long.class, userId, topicId);
+        return counts.isEmpty() ? 0 : counts.get(0);
+    }
+
+    private int inboxCount() {
+        List<Integer> counts = jdbcTemplate.queryForList(
+                "SELECT unconfirmed_count FROM user_inbox_counts WHERE user_id = ?", Integer.class, userId);
+        return counts.isEmpty() ? 0 : counts.get(0);
+    }
+}
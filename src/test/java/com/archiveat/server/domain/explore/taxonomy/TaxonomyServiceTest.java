@@ -0,0 +1,110 @@
+package com.archiveat.server.domain.explore.taxonomy;
+
+import com.archiveat.server.domain.explore.repository.CategoryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static com.archiveat.server.domain.explore.taxonomy.TaxonomyTest.category;
+import static com.archiveat.server.domain.explore.taxonomy.TaxonomyTest.topic;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * TaxonomyService 테스트 (스냅샷 갱신)
+ */
+@ExtendWith(MockitoExtension.class)
+class TaxonomyServiceTest {
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private TaxonomyService taxonomyService;
+
+    @BeforeEach
+    void setUp() {
+        taxonomyService = new TaxonomyService(categoryRepository, stringRedisTemplate, redisMessageListenerContainer);
+    }
+
+    @Test
+    void testSnapshotIsLoadedOnceAndReused() {
+        when(categoryRepository.findAll()).thenReturn(List.of(category(1L, "경제", topic(10L, "주식"))));
+
+        Taxonomy first = taxonomyService.get();
+        Taxonomy second = taxonomyService.get();
+
+        assertSame(first, second);
+        verify(categoryRepository, times(1)).findAll();
+    }
+
+    @Test
+    void testLocalChangeRefreshesAndNotifiesOtherNodes() {
+        when(categoryRepository.findAll())
+                .thenReturn(List.of(category(1L, "경제")))
+                .thenReturn(List.of(category(1L, "경제"), category(2L, "IT")));
+        String before = taxonomyService.get().getVersion();
+
+        taxonomyService.handleTaxonomyChanged(new TaxonomyChangedEvent());
+
+        assertNotEquals(before, taxonomyService.get().getVersion());
+        assertTrue(taxonomyService.get().categoryByName("IT").isPresent());
+        verify(stringRedisTemplate).convertAndSend(eq("taxonomy:changed"), anyString());
+    }
+
+    @Test
+    void testMessageFromOtherNodeRefreshes() {
+        when(categoryRepository.findAll())
+                .thenReturn(List.of(category(1L, "경제")))
+                .thenReturn(List.of(category(1L, "금융")));
+        taxonomyService.get();
+
+        taxonomyService.onMessage(message("other-node"), null);
+
+        assertTrue(taxonomyService.get().categoryByName("금융").isPresent());
+    }
+
+    @Test
+    void testOwnMessageIsIgnored() {
+        when(categoryRepository.findAll()).thenReturn(List.of(category(1L, "경제")));
+        taxonomyService.get();
+        String nodeId = (String) ReflectionTestUtils.getField(taxonomyService, "nodeId");
+
+        taxonomyService.onMessage(message(nodeId), null);
+
+        verify(categoryRepository, times(1)).findAll();
+    }
+
+    @Test
+    void testFailedRefreshKeepsCurrentSnapshot() {
+        when(categoryRepository.findAll())
+                .thenReturn(List.of(category(1L, "경제")))
+                .thenThrow(new DataAccessResourceFailureException("db down"));
+        Taxonomy current = taxonomyService.get();
+
+        taxonomyService.refreshPeriodically();
+
+        assertSame(current, taxonomyService.get());
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage("taxonomy:changed".getBytes(StandardCharsets.UTF_8), body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,79 @@
+package com.archiveat.server.domain.explore.taxonomy;
+
+import com.archiveat.server.domain.explore.entity.Category;
+import com.archiveat.server.domain.explore.entity.Topic;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.BeanUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Taxonomy 스냅샷 테스트
+ */
+class TaxonomyTest {
+
+    @Test
+    void testLookupsByIdAndName() {
+        Taxonomy taxonomy = Taxonomy.of(List.of(category(1L, "경제", topic(10L, "주식")), category(2L, "IT", topic(20L, "AI"))));
+
+        assertEquals("IT", taxonomy.category(2L).orElseThrow().name());
+        assertEquals(1L, taxonomy.categoryByName("경제").orElseThrow().id());
+        assertEquals(2L, taxonomy.topicByName("AI").orElseThrow().categoryId());
+        assertEquals("주식", taxonomy.topic(10L).orElseThrow().name());
+        assertTrue(taxonomy.topic(99L).isEmpty());
+        assertTrue(taxonomy.category(null).isEmpty());
+        assertTrue(taxonomy.topicByName(null).isEmpty());
+    }
+
+    @Test
+    void testNodesAreSortedById() {
+        Taxonomy taxonomy = Taxonomy.of(List.of(
+                category(2L, "IT", topic(22L, "보안"), topic(21L, "AI")),
+                category(1L, "경제", topic(10L, "주식"))));
+
+        assertEquals(List.of(1L, 2L), taxonomy.getCategories().stream().map(Taxonomy.CategoryNode::id).toList());
+        assertEquals(List.of(10L, 21L, 22L), taxonomy.getTopics().stream().map(Taxonomy.TopicNode::id).toList());
+    }
+
+    @Test
+    void testVersionDependsOnlyOnContent() {
+        Taxonomy first = Taxonomy.of(List.of(category(1L, "경제", topic(10L, "주식")), category(2L, "IT")));
+        Taxonomy reordered = Taxonomy.of(List.of(category(2L, "IT"), category(1L, "경제", topic(10L, "주식"))));
+        Taxonomy renamed = Taxonomy.of(List.of(category(1L, "경제", topic(10L, "채권")), category(2L, "IT")));
+
+        assertEquals(first.getVersion(), reordered.getVersion());
+        assertNotEquals(first.getVersion(), renamed.getVersion());
+    }
+
+    @Test
+    void testSnapshotListsAreImmutable() {
+        Taxonomy taxonomy = Taxonomy.of(List.of(category(1L, "경제", topic(10L, "주식"))));
+
+        assertThrows(UnsupportedOperationException.class, () -> taxonomy.getCategories().clear());
+        assertThrows(UnsupportedOperationException.class, () -> taxonomy.getTopics().clear());
+    }
+
+    static Category category(Long id, String name, Topic... topics) {
+        Category category = BeanUtils.instantiateClass(Category.class);
+        ReflectionTestUtils.setField(category, "id", id);
+        ReflectionTestUtils.setField(category, "name", name);
+        List<Topic> children = new ArrayList<>();
+        for (Topic topic : topics) {
+            ReflectionTestUtils.setField(topic, "category", category);
+            children.add(topic);
+        }
+        ReflectionTestUtils.setField(category, "topics", children);
+        return category;
+    }
+
+    static Topic topic(Long id, String name) {
+        Topic topic = BeanUtils.instantiateClass(Topic.class);
+        ReflectionTestUtils.setField(topic, "id", id);
+        ReflectionTestUtils.setField(topic, "name", name);
+        return topic;
+    }
+}
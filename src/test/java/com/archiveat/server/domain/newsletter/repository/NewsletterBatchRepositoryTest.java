@@ -0,0 +1,94 @@
+package com.archiveat.server.domain.newsletter.repository;
+
+import com.archiveat.server.domain.newsletter.entity.NewsletterJob;
+import com.archiveat.server.global.client.PythonEndpoint;
+import com.archiveat.server.support.PostgresRepositoryTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static com.archiveat.server.global.common.constant.DateTimeConstant.APP_ZONE;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * NewsletterBatchRepository 테스트 (작업 upsert, 작업 없이 남은 Newsletter 등록)
+ */
+@Import(NewsletterBatchRepository.class)
+class NewsletterBatchRepositoryTest extends PostgresRepositoryTest {
+
+    @Autowired
+    private NewsletterBatchRepository newsletterBatchRepository;
+
+    private final LocalDateTime now = LocalDateTime.now(APP_ZONE);
+
+    @Test
+    void testOrphanedNewslettersGetJobs() {
+        Long userId = insertUser("a@test.com");
+        Long orphan = insertNewsletter("https://www.youtube.com/watch?v=abc", "RUNNING");
+        insertUserNewsletter(userId, orphan, false);
+        Long done = insertNewsletter("https://example.com/done", "DONE");
+        Long queued = insertNewsletter("https://example.com/queued", "PENDING");
+        newsletterBatchRepository.enqueueJobs(Map.of(queued, PythonEndpoint.GENERIC), userId,
+                NewsletterJob.PRIORITY_INTERACTIVE, now);
+
+        int enqueued = newsletterBatchRepository.enqueueOrphanedJobs(10, now);
+
+        // DONE은 제외, 이미 대기 중인 작업은 그대로
+        assertEquals(1, enqueued);
+        assertEquals("QUEUED", jobColumn(orphan, "status"));
+        assertEquals("YOUTUBE", jobColumn(orphan, "endpoint"));
+        assertEquals(String.valueOf(userId), jobColumn(orphan, "user_id"));
+        assertEquals(String.valueOf(NewsletterJob.PRIORITY_BULK), jobColumn(orphan, "priority"));
+        assertEquals(0, jobCount(done));
+        assertEquals(String.valueOf(NewsletterJob.PRIORITY_INTERACTIVE), jobColumn(queued, "priority"));
+    }
+
+    @Test
+    void testEnqueueReopensFinishedJob() {
+        Long userId = insertUser("a@test.com");
+        Long newsletterId = insertNewsletter("https://example.com/a", "PENDING");
+        newsletterBatchRepository.enqueueJobs(Map.of(newsletterId, PythonEndpoint.GENERIC), userId,
+                NewsletterJob.PRIORITY_BULK, now);
+        jdbcTemplate.update("UPDATE newsletter_jobs SET status = 'FAILED', reclaims = 3, retries = 3, " +
+                "next_retry_at = ? WHERE newsletter_id = ?", now.plusHours(1), newsletterId);
+
+        newsletterBatchRepository.enqueueJobs(Map.of(newsletterId, PythonEndpoint.GENERIC), userId,
+                NewsletterJob.PRIORITY_BULK, now.plusMinutes(1));
+
+        assertEquals(1, jobCount(newsletterId));
+        assertEquals("QUEUED", jobColumn(newsletterId, "status"));
+        assertEquals("0", jobColumn(newsletterId, "reclaims"));
+        assertEquals("0", jobColumn(newsletterId, "retries"));
+        assertNull(jobColumn(newsletterId, "next_retry_at"));
+    }
+
+    @Test
+    void testEnqueueJoinsActiveJob() {
+        Long userId = insertUser("a@test.com");
+        Long newsletterId = insertNewsletter("https://example.com/a", "RUNNING");
+        newsletterBatchRepository.enqueueJobs(Map.of(newsletterId, PythonEndpoint.GENERIC), userId,
+                NewsletterJob.PRIORITY_BULK, now);
+        jdbcTemplate.update("UPDATE newsletter_jobs SET status = 'RUNNING', lease_owner = 'node' " +
+                "WHERE newsletter_id = ?", newsletterId);
+
+        newsletterBatchRepository.enqueueJobs(Map.of(newsletterId, PythonEndpoint.GENERIC), userId,
+                NewsletterJob.PRIORITY_BULK, now.plusMinutes(1));
+
+        // 진행 중인 작업의 리스를 빼앗지 않음
+        assertEquals("RUNNING", jobColumn(newsletterId, "status"));
+        assertEquals("node", jobColumn(newsletterId, "lease_owner"));
+    }
+
+    private String jobColumn(Long newsletterId, String column) {
+        return jdbcTemplate.queryForObject(
+                "SELECT " + column + "::text FROM newsletter_jobs WHERE newsletter_id = ?", String.class, newsletterId);
+    }
+
+    private int jobCount(Long newsletterId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM newsletter_jobs WHERE newsletter_id = ?", Integer.class, newsletterId);
+    }
+}
@@ -0,0 +1,143 @@
+package com.archiveat.server.domain.newsletter.repository;
+
+import com.archiveat.server.domain.newsletter.entity.NewsletterJob;
+import com.archiveat.server.support.PostgresRepositoryTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.archiveat.server.global.common.constant.DateTimeConstant.APP_ZONE;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * NewsletterJobRepository 네이티브 쿼리 테스트 (작업 가져가기, 공정 스케줄링, 리스 회수)
+ * 두 트랜잭션이 동시에 잠그는 경우를 확인하므로 테스트 트랜잭션 없이 실행하고, 끝나면 테이블을 비웁니다.
+ */
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class NewsletterJobRepositoryTest extends PostgresRepositoryTest {
+
+    private static final String GENERIC = "GENERIC";
+
+    @Autowired
+    private NewsletterJobRepository newsletterJobRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final LocalDateTime now = LocalDateTime.now(APP_ZONE);
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("TRUNCATE newsletter_jobs, user_newsletters, newsletters, users RESTART IDENTITY CASCADE");
+    }
+
+    @Test
+    void testConcurrentClaimsSkipLockedJobs() {
+        Long userId = insertUser("a@test.com");
+        List<Long> jobIds = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            jobIds.add(insertJob(userId, NewsletterJob.PRIORITY_BULK, GENERIC, now.minusMinutes(1)));
+        }
+
+        TransactionTemplate requiresNew = new TransactionTemplate(transactionManager);
+        requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(outer -> {
+            List<Long> first = ids(newsletterJobRepository.findClaimableForUpdate(GENERIC, now, 2));
+            // 첫 트랜잭션이 잠근 행을 잡고 있는 동안 다른 트랜잭션(다른 노드)이 가져감
+            List<Long> second = requiresNew.execute(status ->
+                    ids(newsletterJobRepository.findClaimableForUpdate(GENERIC, now, 10)));
+
+            assertEquals(jobIds.subList(0, 2), first);
+            assertEquals(jobIds.subList(2, 4), second);
+        });
+    }
+
+    @Test
+    void testClaimSkipsOtherEndpointsAndFutureJobs() {
+        Long userId = insertUser("a@test.com");
+        Long ready = insertJob(userId, NewsletterJob.PRIORITY_BULK, GENERIC, now.minusMinutes(1));
+        insertJob(userId, NewsletterJob.PRIORITY_BULK, "YOUTUBE", now.minusMinutes(1));
+        insertJob(userId, NewsletterJob.PRIORITY_BULK, GENERIC, now.plusMinutes(1));
+
+        List<Long> claimed = new TransactionTemplate(transactionManager).execute(status ->
+                ids(newsletterJobRepository.findClaimableForUpdate(GENERIC, now, 10)));
+
+        assertEquals(List.of(ready), claimed);
+    }
+
+    @Test
+    void testClaimAlternatesBetweenUsers() {
+        Long bulkUser = insertUser("bulk@test.com");
+        Long otherUser = insertUser("other@test.com");
+        List<Long> bulkJobs = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            bulkJobs.add(insertJob(bulkUser, NewsletterJob.PRIORITY_BULK, GENERIC, now.minusMinutes(10)));
+        }
+        // 대량 저장 뒤에 들어온 다른 사용자의 작업
+        Long otherJob = insertJob(otherUser, NewsletterJob.PRIORITY_BULK, GENERIC, now.minusMinutes(1));
+
+        List<Long> claimed = new TransactionTemplate(transactionManager).execute(status ->
+                ids(newsletterJobRepository.findClaimableForUpdate(GENERIC, now, 3)));
+
+        // 사용자별 순번: bulk#1, other#1, bulk#2
+        assertEquals(List.of(bulkJobs.get(0), otherJob, bulkJobs.get(1)), claimed);
+    }
+
+    @Test
+    void testPriorityLaneGoesFirst() {
+        Long bulkUser = insertUser("bulk@test.com");
+        Long interactiveUser = insertUser("interactive@test.com");
+        for (int i = 0; i < 3; i++) {
+            insertJob(bulkUser, NewsletterJob.PRIORITY_BULK, GENERIC, now.minusMinutes(10));
+        }
+        Long interactive = insertJob(interactiveUser, NewsletterJob.PRIORITY_INTERACTIVE, GENERIC, now.minusMinutes(1));
+
+        List<Long> claimed = new TransactionTemplate(transactionManager).execute(status ->
+                ids(newsletterJobRepository.findClaimableForUpdate(GENERIC, now, 1)));
+
+        assertEquals(List.of(interactive), claimed);
+    }
+
+    @Test
+    void testExpiredLeasesAreFoundOnlyAfterExpiry() {
+        Long userId = insertUser("a@test.com");
+        Long expired = insertJob(userId, NewsletterJob.PRIORITY_BULK, GENERIC, now.minusMinutes(10));
+        Long alive = insertJob(userId, NewsletterJob.PRIORITY_BULK, GENERIC, now.minusMinutes(10));
+        lease(expired, now.minusSeconds(1));
+        lease(alive, now.plusMinutes(2));
+
+        List<Long> found = new TransactionTemplate(transactionManager).execute(status ->
+                ids(newsletterJobRepository.findExpiredLeasesForUpdate(now, 10)));
+
+        assertEquals(List.of(expired), found);
+    }
+
+    private Long insertJob(Long userId, int priority, String endpoint, LocalDateTime availableAt) {
+        Long newsletterId = insertNewsletter("https://example.com/" + System.nanoTime(), "PENDING");
+        return jdbcTemplate.queryForObject(
+                "INSERT INTO newsletter_jobs (newsletter_id, user_id, priority, endpoint, status, " +
+                        "attempts, reclaims, retries, available_at) " +
+                        "VALUES (?, ?, ?, ?, 'QUEUED', 0, 0, 0, ?) RETURNING id",
+                Long.class, newsletterId, userId, priority, endpoint, availableAt);
+    }
+
+    private void lease(Long jobId, LocalDateTime leaseExpiresAt) {
+        jdbcTemplate.update(
+                "UPDATE newsletter_jobs SET status = 'RUNNING', lease_owner = 'node', lease_expires_at = ? WHERE id = ?",
+                leaseExpiresAt, jobId);
+    }
+
+    private static List<Long> ids(List<NewsletterJob> jobs) {
+        return jobs.stream().map(NewsletterJob::getId).toList();
+    }
+}
@@ -0,0 +1,91 @@
+package com.archiveat.server.domain.newsletter.repository;
+
+import com.archiveat.server.global.common.constant.DepthType;
+import com.archiveat.server.global.common.constant.HomeTabType;
+import com.archiveat.server.global.common.constant.PerspectiveType;
+import com.archiveat.server.support.PostgresRepositoryTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static com.archiveat.server.global.common.constant.DateTimeConstant.APP_ZONE;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * UserNewsletterRepository 일괄 label 계산 테스트
+ */
+class UserNewsletterRepositoryTest extends PostgresRepositoryTest {
+
+    @Autowired
+    private UserNewsletterRepository userNewsletterRepository;
+
+    private final LocalDateTime now = LocalDateTime.now(APP_ZONE);
+
+    private Long newsletterId;
+    private Long interestedSave;
+    private Long uninterestedSave;
+    private Long otherNewsletterSave;
+
+    @BeforeEach
+    void setUp() {
+        Long economy = insertCategory("경제");
+        Long stock = insertTopic(economy, "주식");
+        Long interested = insertUser("now@test.com");
+        Long uninterested = insertUser("future@test.com");
+        insertUserTopic(interested, stock, PerspectiveType.NOW);
+        insertUserTopic(uninterested, stock, PerspectiveType.FUTURE);
+
+        newsletterId = insertNewsletter("https://example.com/a", "DONE");
+        interestedSave = insertUserNewsletter(interested, newsletterId, false);
+        uninterestedSave = insertUserNewsletter(uninterested, newsletterId, false);
+        otherNewsletterSave = insertUserNewsletter(interested, insertNewsletter("https://example.com/b", "PENDING"), false);
+    }
+
+    @Test
+    void testLabelsAreComputedPerUserInOneUpdate() {
+        int updated = userNewsletterRepository.bulkUpdateLabelComponents(newsletterId, "경제", DepthType.DEEP,
+                PerspectiveType.NOW, PerspectiveType.FUTURE, HomeTabType.DEEP_DIVE, HomeTabType.VIEW_EXPANSION, now);
+
+        assertEquals(2, updated);
+        assertEquals(Map.of("depth_type", "DEEP", "perspective_type", "NOW", "tab_type", "DEEP_DIVE"),
+                labels(interestedSave));
+        assertEquals(Map.of("depth_type", "DEEP", "perspective_type", "FUTURE", "tab_type", "VIEW_EXPANSION"),
+                labels(uninterestedSave));
+        assertNull(labels(otherNewsletterSave).get("depth_type"));
+    }
+
+    @Test
+    void testUnknownCategoryFallsBackToFuture() {
+        userNewsletterRepository.bulkUpdateLabelComponents(newsletterId, "IT", DepthType.LIGHT,
+                PerspectiveType.NOW, PerspectiveType.FUTURE, HomeTabType.INSPIRATION, HomeTabType.GROWTH, now);
+
+        assertEquals("FUTURE", labels(interestedSave).get("perspective_type"));
+        assertEquals("GROWTH", labels(interestedSave).get("tab_type"));
+    }
+
+    @Test
+    void testDepthOnlyUpdateClearsPerspective() {
+        userNewsletterRepository.bulkUpdateLabelComponents(newsletterId, "경제", DepthType.DEEP,
+                PerspectiveType.NOW, PerspectiveType.FUTURE, HomeTabType.DEEP_DIVE, HomeTabType.VIEW_EXPANSION, now);
+
+        int updated = userNewsletterRepository.bulkUpdateDepthType(newsletterId, DepthType.LIGHT, HomeTabType.GROWTH, now);
+
+        assertEquals(2, updated);
+        assertNull(labels(interestedSave).get("perspective_type"));
+        assertEquals("LIGHT", labels(interestedSave).get("depth_type"));
+        assertEquals("GROWTH", labels(uninterestedSave).get("tab_type"));
+    }
+
+    private void insertUserTopic(Long userId, Long topicId, PerspectiveType perspectiveType) {
+        jdbcTemplate.update("INSERT INTO user_topics (user_id, topic_id, perspective_type) VALUES (?, ?, ?)",
+                userId, topicId, perspectiveType.name());
+    }
+
+    private Map<String, Object> labels(Long userNewsletterId) {
+        return jdbcTemplate.queryForMap(
+                "SELECT depth_type, perspective_type, tab_type FROM user_newsletters WHERE id = ?", userNewsletterId);
+    }
+}
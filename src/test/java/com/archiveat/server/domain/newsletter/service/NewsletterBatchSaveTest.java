@@ -0,0 +1,144 @@
+package com.archiveat.server.domain.newsletter.service;
+
+import com.archiveat.server.domain.explore.repository.ExploreCounterRepository;
+import com.archiveat.server.domain.newsletter.dto.request.GenerateNewsletterRequest;
+import com.archiveat.server.domain.newsletter.dto.response.GenerateNewsletterBatchResponse;
+import com.archiveat.server.domain.newsletter.dto.response.GenerateNewsletterResponse;
+import com.archiveat.server.domain.newsletter.repository.NewsletterBatchRepository;
+import com.archiveat.server.global.client.PythonClientService;
+import com.archiveat.server.global.util.UrlCanonicalizer;
+import com.archiveat.server.support.PostgresRepositoryTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * NewsletterService 일괄 저장 테스트
+ * 서비스와 JDBC batch insert를 실제 PostgreSQL에서 함께 실행하고, Python 호출과 작업 큐 상태만 목으로 둡니다.
+ */
+@Import({NewsletterService.class, NewsletterBatchRepository.class, ExploreCounterRepository.class})
+class NewsletterBatchSaveTest extends PostgresRepositoryTest {
+
+    @Autowired
+    private NewsletterService newsletterService;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @MockitoBean
+    private PythonClientService pythonClientService;
+
+    @MockitoBean
+    private NewsletterJobService newsletterJobService;
+
+    @MockitoBean
+    private NewsletterViewPayloadCache newsletterViewPayloadCache;
+
+    @MockitoBean(name = "taskExecutor")
+    private Executor taskExecutor;
+
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        userId = insertUser("batch@test.com");
+        Long economy = insertCategory("경제");
+        Long stock = insertTopic(economy, "주식");
+        jdbcTemplate.update("INSERT INTO user_topics (user_id, topic_id, perspective_type) VALUES (?, ?, 'NOW')",
+                userId, stock);
+    }
+
+    @Test
+    void testDuplicateUrlsCollapseToOneRow() {
+        GenerateNewsletterBatchResponse response = save(
+                "https://example.com/a",
+                "https://example.com/a?utm_source=newsletter",
+                "https://example.com/b");
+
+        assertEquals(2, response.newsletters().size());
+        assertEquals(2, count("SELECT COUNT(*) FROM newsletters"));
+        assertEquals(2, count("SELECT COUNT(*) FROM user_newsletters WHERE user_id = " + userId));
+        assertEquals(2, count("SELECT COUNT(*) FROM newsletter_jobs"));
+        assertEquals(2, count("SELECT unconfirmed_count FROM user_inbox_counts WHERE user_id = " + userId));
+    }
+
+    @Test
+    void testDoneNewsletterGetsLabelsWithoutJob() {
+        Long done = insertSavedNewsletter("https://example.com/done", "DONE", "경제", 15);
+
+        GenerateNewsletterResponse saved = save("https://example.com/done").newsletters().get(0);
+
+        assertEquals("DONE", saved.llmStatus());
+        assertEquals(Map.of("depth_type", "DEEP", "perspective_type", "NOW"), jdbcTemplate.queryForMap(
+                "SELECT depth_type, perspective_type FROM user_newsletters WHERE id = ?", saved.newsletterId()));
+        assertEquals(0, count("SELECT COUNT(*) FROM newsletter_jobs WHERE newsletter_id = " + done));
+    }
+
+    @Test
+    void testFailedNewsletterIsQueuedAgain() {
+        Long failed = insertSavedNewsletter("https://example.com/failed", "FAILED", null, null);
+        jdbcTemplate.update(
+                "INSERT INTO newsletter_jobs (newsletter_id, user_id, priority, endpoint, status, " +
+                        "attempts, reclaims, retries, available_at) " +
+                        "VALUES (?, ?, 1, 'GENERIC', 'FAILED', 3, 0, 0, now())",
+                failed, userId);
+
+        GenerateNewsletterResponse saved = save("https://example.com/failed").newsletters().get(0);
+        testEntityManager.flush();
+
+        assertEquals("PENDING", saved.llmStatus());
+        assertEquals("PENDING", jdbcTemplate.queryForObject(
+                "SELECT llm_status FROM newsletters WHERE id = ?", String.class, failed));
+        assertEquals("QUEUED", jdbcTemplate.queryForObject(
+                "SELECT status FROM newsletter_jobs WHERE newsletter_id = ?", String.class, failed));
+    }
+
+    @Test
+    void testReturnedIdsFollowRequestOrder() {
+        insertSavedNewsletter("https://example.com/existing", "DONE", "경제", 5);
+        List<String> urls = List.of(
+                "https://example.com/new-1", "https://example.com/existing", "https://example.com/new-2");
+
+        List<GenerateNewsletterResponse> saved = save(urls.toArray(String[]::new)).newsletters();
+
+        assertEquals(urls.size(), saved.size());
+        for (int i = 0; i < urls.size(); i++) {
+            assertEquals(UrlCanonicalizer.canonicalize(urls.get(i)), jdbcTemplate.queryForObject(
+                    "SELECT n.content_url FROM user_newsletters un JOIN newsletters n ON n.id = un.newsletter_id " +
+                            "WHERE un.id = ?", String.class, saved.get(i).newsletterId()));
+        }
+    }
+
+    private GenerateNewsletterBatchResponse save(String... urls) {
+        List<GenerateNewsletterRequest> requests = Arrays.stream(urls)
+                .map(url -> new GenerateNewsletterRequest(url, null))
+                .toList();
+        return newsletterService.generateNewsletters(userId, requests);
+    }
+
+    /**
+     * 이미 저장된 적 있는 Newsletter (서비스가 찾을 수 있도록 실제 URL 해시 사용)
+     */
+    private Long insertSavedNewsletter(String url, String llmStatus, String category, Integer consumptionTimeMin) {
+        String canonicalUrl = UrlCanonicalizer.canonicalize(url);
+        Long newsletterId = insertNewsletter(canonicalUrl, llmStatus);
+        jdbcTemplate.update(
+                "UPDATE newsletters SET content_url_hash = ?, category = ?, consumption_time_min = ? WHERE id = ?",
+                UrlCanonicalizer.hash(canonicalUrl), category, consumptionTimeMin, newsletterId);
+        return newsletterId;
+    }
+
+    private int count(String sql) {
+        return jdbcTemplate.queryForObject(sql, Integer.class);
+    }
+}
@@ -0,0 +1,223 @@
+package com.archiveat.server.domain.newsletter.service;
+
+import com.archiveat.server.domain.newsletter.entity.Newsletter;
+import com.archiveat.server.domain.newsletter.entity.NewsletterJob;
+import com.archiveat.server.domain.newsletter.event.NewsletterStatusChangedEvent;
+import com.archiveat.server.domain.newsletter.repository.NewsletterBatchRepository;
+import com.archiveat.server.domain.newsletter.repository.NewsletterJobRepository;
+import com.archiveat.server.global.common.constant.JobStatus;
+import com.archiveat.server.global.common.constant.LlmStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static com.archiveat.server.global.common.constant.DateTimeConstant.APP_ZONE;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+/**
+ * NewsletterJobService 테스트 (리스 회수, 자동 재시도)
+ */
+@ExtendWith(MockitoExtension.class)
+class NewsletterJobServiceTest {
+
+    @Mock
+    private NewsletterJobRepository newsletterJobRepository;
+
+    @Mock
+    private NewsletterBatchRepository newsletterBatchRepository;
+
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    private NewsletterJobService newsletterJobService;
+
+    @BeforeEach
+    void setUp() {
+        newsletterJobService = new NewsletterJobService(
+                newsletterJobRepository, newsletterBatchRepository, applicationEventPublisher);
+        ReflectionTestUtils.setField(newsletterJobService, "leaseSeconds", 120L);
+        ReflectionTestUtils.setField(newsletterJobService, "maxReclaims", 3);
+        ReflectionTestUtils.setField(newsletterJobService, "maxRetries", 2);
+        ReflectionTestUtils.setField(newsletterJobService, "retryBaseDelaySeconds", 30L);
+        ReflectionTestUtils.setField(newsletterJobService, "retryMaxDelaySeconds", 3600L);
+    }
+
+    @Test
+    void testReapCompletesJobOfDoneNewsletter() {
+        Newsletter newsletter = newsletter(1L, LlmStatus.DONE);
+        NewsletterJob job = leasedJob(newsletter, "dead-node");
+        when(newsletterJobRepository.findExpiredLeasesForUpdate(any(LocalDateTime.class), anyInt()))
+                .thenReturn(List.of(job));
+
+        NewsletterJobService.ReapResult result = newsletterJobService.reapExpiredLeases(100);
+
+        // 결과는 이미 저장됨: 다시 처리하지 않고 작업만 완료
+        assertEquals(new NewsletterJobService.ReapResult(0, 0, 1), result);
+        assertEquals(JobStatus.DONE, job.getStatus());
+        assertEquals(LlmStatus.DONE, newsletter.getLlmStatus());
+        assertEquals(0, job.getReclaims());
+        verifyNoInteractions(applicationEventPublisher);
+    }
+
+    @Test
+    void testReapRequeuesUnfinishedNewsletter() {
+        Newsletter newsletter = newsletter(1L, LlmStatus.RUNNING);
+        NewsletterJob job = leasedJob(newsletter, "dead-node");
+        when(newsletterJobRepository.findExpiredLeasesForUpdate(any(LocalDateTime.class), anyInt()))
+                .thenReturn(List.of(job));
+
+        NewsletterJobService.ReapResult result = newsletterJobService.reapExpiredLeases(100);
+
+        assertEquals(new NewsletterJobService.ReapResult(1, 0, 0), result);
+        assertEquals(JobStatus.QUEUED, job.getStatus());
+        assertNull(job.getLeaseOwner());
+        assertEquals(1, job.getReclaims());
+        assertEquals(LlmStatus.PENDING, newsletter.getLlmStatus());
+        verify(applicationEventPublisher).publishEvent(new NewsletterStatusChangedEvent(1L, LlmStatus.PENDING));
+    }
+
+    @Test
+    void testReapFailsJobThatKeepsLosingItsLease() {
+        Newsletter newsletter = newsletter(1L, LlmStatus.RUNNING);
+        NewsletterJob job = leasedJob(newsletter, "dead-node");
+        for (int i = 0; i < 2; i++) {
+            job.reclaim(LocalDateTime.now(APP_ZONE));
+            job.claim("dead-node", LocalDateTime.now(APP_ZONE).minusMinutes(10), Duration.ofMinutes(2));
+        }
+        when(newsletterJobRepository.findExpiredLeasesForUpdate(any(LocalDateTime.class), anyInt()))
+                .thenReturn(List.of(job));
+
+        NewsletterJobService.ReapResult result = newsletterJobService.reapExpiredLeases(100);
+
+        assertEquals(new NewsletterJobService.ReapResult(0, 1, 0), result);
+        assertEquals(JobStatus.FAILED, job.getStatus());
+        assertEquals(LlmStatus.FAILED, newsletter.getLlmStatus());
+        verify(applicationEventPublisher).publishEvent(new NewsletterStatusChangedEvent(1L, LlmStatus.FAILED));
+    }
+
+    @Test
+    void testTransientFailureSchedulesJitteredRetry() {
+        NewsletterJob job = leasedJob(newsletter(1L, LlmStatus.RUNNING), newsletterJobService.getNodeId());
+        when(newsletterJobRepository.findById(1L)).thenReturn(Optional.of(job));
+
+        LocalDateTime before = LocalDateTime.now(APP_ZONE);
+        newsletterJobService.fail(1L, serverError());
+
+        // 첫 재시도: base(30s)의 절반 고정 + 절반 무작위 → 15~30초 뒤
+        assertEquals(JobStatus.FAILED, job.getStatus());
+        assertNotNull(job.getNextRetryAt());
+        assertFalse(job.getNextRetryAt().isBefore(before.plusSeconds(15)));
+        assertFalse(job.getNextRetryAt().isAfter(LocalDateTime.now(APP_ZONE).plusSeconds(30)));
+    }
+
+    @Test
+    void testPermanentFailureIsNotRetried() {
+        NewsletterJob job = leasedJob(newsletter(1L, LlmStatus.RUNNING), newsletterJobService.getNodeId());
+        when(newsletterJobRepository.findById(1L)).thenReturn(Optional.of(job));
+
+        newsletterJobService.fail(1L, WebClientResponseException.create(
+                400, "Bad Request", HttpHeaders.EMPTY, new byte[0], null));
+
+        assertEquals(JobStatus.FAILED, job.getStatus());
+        assertNull(job.getNextRetryAt());
+    }
+
+    @Test
+    void testRetriesStopAtMaxRetries() {
+        NewsletterJob job = leasedJob(newsletter(1L, LlmStatus.RUNNING), newsletterJobService.getNodeId());
+        for (int i = 0; i < 2; i++) {
+            job.retry(LocalDateTime.now(APP_ZONE));
+            job.claim(newsletterJobService.getNodeId(), LocalDateTime.now(APP_ZONE), Duration.ofMinutes(2));
+        }
+        when(newsletterJobRepository.findById(1L)).thenReturn(Optional.of(job));
+
+        newsletterJobService.fail(1L, serverError());
+
+        assertEquals(JobStatus.FAILED, job.getStatus());
+        assertNull(job.getNextRetryAt());
+    }
+
+    @Test
+    void testFailureFromOtherNodeLeaseIsIgnored() {
+        NewsletterJob job = leasedJob(newsletter(1L, LlmStatus.RUNNING), "other-node");
+        when(newsletterJobRepository.findById(1L)).thenReturn(Optional.of(job));
+
+        newsletterJobService.fail(1L, serverError());
+
+        assertEquals(JobStatus.RUNNING, job.getStatus());
+    }
+
+    @Test
+    void testRedriveRequeuesFailedJob() {
+        Newsletter newsletter = newsletter(1L, LlmStatus.FAILED);
+        NewsletterJob job = failedForRetry(newsletter);
+        when(newsletterJobRepository.findRetryableForUpdate(any(LocalDateTime.class), anyInt()))
+                .thenReturn(List.of(job));
+
+        assertEquals(1, newsletterJobService.redriveFailed(50));
+
+        assertEquals(JobStatus.QUEUED, job.getStatus());
+        assertEquals(1, job.getRetries());
+        assertNull(job.getNextRetryAt());
+        assertEquals(LlmStatus.PENDING, newsletter.getLlmStatus());
+        verify(applicationEventPublisher).publishEvent(new NewsletterStatusChangedEvent(1L, LlmStatus.PENDING));
+    }
+
+    @Test
+    void testRedriveCompletesJobOfDoneNewsletter() {
+        Newsletter newsletter = newsletter(1L, LlmStatus.DONE);
+        NewsletterJob job = failedForRetry(newsletter);
+        when(newsletterJobRepository.findRetryableForUpdate(any(LocalDateTime.class), anyInt()))
+                .thenReturn(List.of(job));
+
+        newsletterJobService.redriveFailed(50);
+
+        assertEquals(JobStatus.DONE, job.getStatus());
+        assertEquals(0, job.getRetries());
+        verifyNoInteractions(applicationEventPublisher);
+    }
+
+    private static Newsletter newsletter(Long id, LlmStatus llmStatus) {
+        Newsletter newsletter = Newsletter.createPending(null, "https://example.com/posts/" + id);
+        ReflectionTestUtils.setField(newsletter, "id", id);
+        newsletter.updateLlmStatus(llmStatus);
+        return newsletter;
+    }
+
+    /**
+     * owner가 가져갔다가 리스가 만료된 작업
+     */
+    private static NewsletterJob leasedJob(Newsletter newsletter, String owner) {
+        NewsletterJob job = NewsletterJob.queue(newsletter, null, NewsletterJob.PRIORITY_INTERACTIVE);
+        ReflectionTestUtils.setField(job, "id", newsletter.getId());
+        job.claim(owner, LocalDateTime.now(APP_ZONE).minusMinutes(10), Duration.ofMinutes(2));
+        return job;
+    }
+
+    /**
+     * 일시적 오류로 실패해 재시도 시각이 지난 작업
+     */
+    private static NewsletterJob failedForRetry(Newsletter newsletter) {
+        NewsletterJob job = leasedJob(newsletter, "some-node");
+        job.failForRetry("503 Service Unavailable", LocalDateTime.now(APP_ZONE).minusSeconds(1));
+        return job;
+    }
+
+    private static WebClientResponseException serverError() {
+        return WebClientResponseException.create(503, "Service Unavailable", HttpHeaders.EMPTY, new byte[0], null);
+    }
+}
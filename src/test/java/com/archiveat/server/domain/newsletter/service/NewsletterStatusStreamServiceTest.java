@@ -0,0 +1,138 @@
+package com.archiveat.server.domain.newsletter.service;
+
+import com.archiveat.server.domain.newsletter.dto.response.NewsletterStatusResponse;
+import com.archiveat.server.domain.newsletter.event.NewsletterStatusChangedEvent;
+import com.archiveat.server.domain.newsletter.repository.UserNewsletterRepository;
+import com.archiveat.server.global.common.constant.LlmStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.Disposable;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * NewsletterStatusStreamService 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class NewsletterStatusStreamServiceTest {
+
+    @Mock
+    private UserNewsletterRepository userNewsletterRepository;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private NewsletterStatusStreamService streamService;
+
+    @BeforeEach
+    void setUp() {
+        streamService = new NewsletterStatusStreamService(
+                userNewsletterRepository, stringRedisTemplate, redisMessageListenerContainer, objectMapper);
+    }
+
+    @Test
+    void testStreamStartsWithInProgressSnapshot() {
+        when(userNewsletterRepository.findInboxStatusesByUserId(eq(1L), anyList()))
+                .thenReturn(List.<Object[]>of(new Object[]{10L, 100L, LlmStatus.RUNNING}));
+
+        ServerSentEvent<NewsletterStatusResponse> first = streamService.subscribe(1L)
+                .next()
+                .block(Duration.ofSeconds(5));
+
+        assertEquals("llm-status", first.event());
+        assertEquals(new NewsletterStatusResponse(10L, 100L, LlmStatus.RUNNING), first.data());
+    }
+
+    @Test
+    void testMessageIsDeliveredOnlyToItsUser() throws Exception {
+        List<NewsletterStatusResponse> user1 = new CopyOnWriteArrayList<>();
+        List<NewsletterStatusResponse> user2 = new CopyOnWriteArrayList<>();
+        Disposable first = collect(1L, user1);
+        Disposable second = collect(2L, user2);
+
+        NewsletterStatusResponse done = new NewsletterStatusResponse(10L, 100L, LlmStatus.DONE);
+        streamService.onMessage(message(List.of(new NewsletterStatusStreamService.UserStatus(1L, done))), null);
+
+        assertEquals(List.of(done), user1);
+        assertTrue(user2.isEmpty());
+        first.dispose();
+        second.dispose();
+    }
+
+    @Test
+    void testStatusChangeIsPublishedOncePerNewsletter() throws Exception {
+        when(userNewsletterRepository.findUserIdsByNewsletterId(100L))
+                .thenReturn(List.of(new Object[]{10L, 1L}, new Object[]{20L, 2L}));
+
+        streamService.handleStatusChanged(new NewsletterStatusChangedEvent(100L, LlmStatus.DONE));
+
+        ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+        verify(stringRedisTemplate).convertAndSend(eq("newsletter:status"), payload.capture());
+        assertEquals(objectMapper.writeValueAsString(List.of(
+                        new NewsletterStatusStreamService.UserStatus(1L, new NewsletterStatusResponse(10L, 100L, LlmStatus.DONE)),
+                        new NewsletterStatusStreamService.UserStatus(2L, new NewsletterStatusResponse(20L, 100L, LlmStatus.DONE)))),
+                payload.getValue());
+    }
+
+    @Test
+    void testRedisFailureDeliversLocally() {
+        when(userNewsletterRepository.findUserIdsByNewsletterId(100L))
+                .thenReturn(List.<Object[]>of(new Object[]{10L, 1L}));
+        when(stringRedisTemplate.convertAndSend(anyString(), anyString()))
+                .thenThrow(new RedisConnectionFailureException("down"));
+        List<NewsletterStatusResponse> received = new CopyOnWriteArrayList<>();
+        Disposable subscription = collect(1L, received);
+
+        streamService.handleStatusChanged(new NewsletterStatusChangedEvent(100L, LlmStatus.FAILED));
+
+        assertEquals(List.of(new NewsletterStatusResponse(10L, 100L, LlmStatus.FAILED)), received);
+        subscription.dispose();
+    }
+
+    @Test
+    void testDisconnectRemovesSubscriber() {
+        Disposable subscription = collect(1L, new CopyOnWriteArrayList<>());
+
+        subscription.dispose();
+
+        assertTrue(((Map<?, ?>) ReflectionTestUtils.getField(streamService, "subscribers")).isEmpty());
+    }
+
+    /**
+     * 스트림을 구독해 데이터 이벤트만 모음 (keep-alive 주석 제외)
+     */
+    private Disposable collect(Long userId, List<NewsletterStatusResponse> received) {
+        return streamService.subscribe(userId)
+                .filter(event -> event.data() != null)
+                .subscribe(event -> received.add(event.data()));
+    }
+
+    private DefaultMessage message(List<NewsletterStatusStreamService.UserStatus> statuses) throws Exception {
+        return new DefaultMessage("newsletter:status".getBytes(StandardCharsets.UTF_8),
+                objectMapper.writeValueAsBytes(statuses));
+    }
+}
@@ -0,0 +1,92 @@
+package com.archiveat.server.domain.newsletter.service;
+
+import com.archiveat.server.domain.newsletter.entity.Newsletter;
+import com.archiveat.server.global.common.constant.LlmStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * NewsletterViewPayloadCache 테스트
+ */
+class NewsletterViewPayloadCacheTest {
+
+    private static final LocalDateTime MODIFIED_AT = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    private NewsletterViewPayloadCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new NewsletterViewPayloadCache(new ObjectMapper());
+        ReflectionTestUtils.setField(cache, "maxEntries", 2);
+    }
+
+    @Test
+    void testDoneNewsletterIsCachedByVersion() {
+        Newsletter newsletter = newsletter(1L, LlmStatus.DONE, MODIFIED_AT);
+
+        NewsletterViewPayload loaded = cache.load(newsletter);
+
+        assertEquals(loaded, cache.get(1L, MODIFIED_AT).orElseThrow());
+        // 행이 바뀌면(modifiedAt) 이전 항목을 쓰지 않음
+        assertTrue(cache.get(1L, MODIFIED_AT.plusSeconds(1)).isEmpty());
+    }
+
+    @Test
+    void testUnfinishedNewsletterIsNotCached() {
+        for (LlmStatus status : new LlmStatus[]{LlmStatus.PENDING, LlmStatus.RUNNING, LlmStatus.FAILED}) {
+            Newsletter newsletter = newsletter(1L, status, MODIFIED_AT);
+
+            assertNotNull(cache.load(newsletter));
+            assertTrue(cache.get(1L, MODIFIED_AT).isEmpty(), status.name());
+        }
+    }
+
+    @Test
+    void testLeastRecentlyUsedEntryIsEvicted() {
+        cache.load(newsletter(1L, LlmStatus.DONE, MODIFIED_AT));
+        cache.load(newsletter(2L, LlmStatus.DONE, MODIFIED_AT));
+        // 1을 읽어 최근 사용으로 만든 뒤 3을 넣으면 2가 밀려남
+        assertTrue(cache.get(1L, MODIFIED_AT).isPresent());
+
+        cache.load(newsletter(3L, LlmStatus.DONE, MODIFIED_AT));
+
+        assertTrue(cache.get(1L, MODIFIED_AT).isPresent());
+        assertTrue(cache.get(2L, MODIFIED_AT).isEmpty());
+        assertTrue(cache.get(3L, MODIFIED_AT).isPresent());
+    }
+
+    @Test
+    void testSummaryIsNormalizedOnce() {
+        Newsletter newsletter = newsletter(1L, LlmStatus.DONE, MODIFIED_AT);
+        ReflectionTestUtils.setField(newsletter, "newsletterSummary",
+                "[ {\"title\": \"요약\",\n \"content\": \"본문\"} ]");
+
+        NewsletterViewPayload payload = cache.load(newsletter);
+
+        assertEquals("[{\"title\":\"요약\",\"content\":\"본문\"}]", payload.newsletterSummary());
+    }
+
+    @Test
+    void testMissingOrBrokenSummaryBecomesEmptyArray() {
+        Newsletter missing = newsletter(1L, LlmStatus.DONE, MODIFIED_AT);
+        Newsletter broken = newsletter(2L, LlmStatus.DONE, MODIFIED_AT);
+        ReflectionTestUtils.setField(broken, "newsletterSummary", "{not json");
+
+        assertEquals("[]", cache.load(missing).newsletterSummary());
+        assertEquals("[]", cache.load(broken).newsletterSummary());
+    }
+
+    private static Newsletter newsletter(Long id, LlmStatus llmStatus, LocalDateTime modifiedAt) {
+        Newsletter newsletter = Newsletter.createPending(null, "https://example.com/posts/" + id);
+        ReflectionTestUtils.setField(newsletter, "id", id);
+        ReflectionTestUtils.setField(newsletter, "modifiedAt", modifiedAt);
+        newsletter.updateLlmStatus(llmStatus);
+        return newsletter;
+    }
+}
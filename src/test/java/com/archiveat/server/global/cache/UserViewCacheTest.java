@@ -0,0 +1,152 @@
+package com.archiveat.server.global.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * UserViewCache 테스트
+ * Redis는 메모리 Map으로 흉내 냅니다. (GET/SET/SETNX와 파이프라인 SET만 사용)
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class UserViewCacheTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private StringRedisConnection connection;
+
+    private final Map<String, String> redis = new ConcurrentHashMap<>();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private UserViewCache userViewCache;
+
+    @BeforeEach
+    void setUp() {
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get(anyString())).thenAnswer(invocation -> redis.get(invocation.<String>getArgument(0)));
+        doAnswer(invocation -> redis.put(invocation.getArgument(0), invocation.getArgument(1)))
+                .when(valueOperations).set(anyString(), anyString(), any(Duration.class));
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+                .thenAnswer(invocation -> redis.putIfAbsent(invocation.getArgument(0), invocation.getArgument(1)) == null);
+        when(connection.set(anyString(), anyString(), any(Expiration.class), any(SetOption.class)))
+                .thenAnswer(invocation -> redis.put(invocation.getArgument(0), invocation.getArgument(1)) != null);
+        when(stringRedisTemplate.executePipelined(any(RedisCallback.class))).thenAnswer(invocation -> {
+            invocation.<RedisCallback<?>>getArgument(0).doInRedis(connection);
+            return List.of();
+        });
+
+        userViewCache = new UserViewCache(stringRedisTemplate, new ObjectMapper());
+        ReflectionTestUtils.setField(userViewCache, "enabled", true);
+        ReflectionTestUtils.setField(userViewCache, "ttlSeconds", 600L);
+    }
+
+    @Test
+    void testSecondReadIsServedFromCache() {
+        assertEquals("home-1", userViewCache.get(UserView.HOME, 1L, String.class, loader("home-1")));
+        assertEquals("home-1", userViewCache.get(UserView.HOME, 1L, String.class, loader("home-2")));
+
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void testInvalidateBumpsVersionAndSkipsOldEntry() {
+        userViewCache.get(UserView.HOME, 1L, String.class, loader("before"));
+        String versionBefore = userViewCache.version(UserView.HOME, 1L);
+
+        userViewCache.invalidate(List.of(1L), Set.of(UserView.HOME));
+
+        assertNotEquals(versionBefore, userViewCache.version(UserView.HOME, 1L));
+        assertEquals("after", userViewCache.get(UserView.HOME, 1L, String.class, loader("after")));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void testInvalidateOnlyTouchesGivenUsersAndViews() {
+        userViewCache.get(UserView.HOME, 1L, String.class, loader("home-1"));
+        userViewCache.get(UserView.EXPLORE, 1L, String.class, loader("explore-1"));
+        userViewCache.get(UserView.HOME, 2L, String.class, loader("home-2"));
+
+        userViewCache.invalidate(List.of(1L), Set.of(UserView.HOME));
+
+        assertEquals("explore-1", userViewCache.get(UserView.EXPLORE, 1L, String.class, loader("unexpected")));
+        assertEquals("home-2", userViewCache.get(UserView.HOME, 2L, String.class, loader("unexpected")));
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void testVariantsAreCachedSeparately() {
+        userViewCache.get(UserView.REPORT, 1L, "2025-W01", String.class, loader("week-1"));
+
+        assertEquals("week-2", userViewCache.get(UserView.REPORT, 1L, "2025-W02", String.class, loader("week-2")));
+        assertEquals("week-1", userViewCache.get(UserView.REPORT, 1L, "2025-W01", String.class, loader("unexpected")));
+    }
+
+    @Test
+    void testVersionIsStableUntilInvalidated() {
+        String version = userViewCache.version(UserView.EXPLORE, 1L);
+
+        assertNotNull(version);
+        assertEquals(version, userViewCache.version(UserView.EXPLORE, 1L));
+    }
+
+    @Test
+    void testRedisFailureFallsBackToLoader() {
+        doThrow(new RedisConnectionFailureException("down")).when(valueOperations).get(anyString());
+        doThrow(new RedisConnectionFailureException("down"))
+                .when(stringRedisTemplate).executePipelined(any(RedisCallback.class));
+
+        assertEquals("fresh", userViewCache.get(UserView.HOME, 1L, String.class, loader("fresh")));
+        assertNull(userViewCache.version(UserView.HOME, 1L));
+        assertDoesNotThrow(() -> userViewCache.invalidate(List.of(1L), UserView.all()));
+    }
+
+    @Test
+    void testDisabledCacheAlwaysLoads() {
+        ReflectionTestUtils.setField(userViewCache, "enabled", false);
+
+        userViewCache.get(UserView.HOME, 1L, String.class, loader("a"));
+        userViewCache.get(UserView.HOME, 1L, String.class, loader("b"));
+
+        assertEquals(2, loads.get());
+        assertNull(userViewCache.version(UserView.HOME, 1L));
+        verify(stringRedisTemplate, never()).opsForValue();
+    }
+
+    private Supplier<String> loader(String value) {
+        return () -> {
+            loads.incrementAndGet();
+            return value;
+        };
+    }
+}
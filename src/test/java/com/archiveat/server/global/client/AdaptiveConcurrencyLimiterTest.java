@@ -0,0 +1,121 @@
+package com.archiveat.server.global.client;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * AdaptiveConcurrencyLimiter 테스트
+ */
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long FAST = 10_000_000L;
+    private static final long SLOW = 100_000_000L;
+
+    @Test
+    void testRejectsBeyondLimit() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 2, 1, 10, 2.0, 0.5);
+
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.hasCapacity());
+        assertFalse(limiter.tryAcquire());
+        assertEquals(2, limiter.getInFlight());
+
+        limiter.onIgnored();
+        assertTrue(limiter.hasCapacity());
+    }
+
+    @Test
+    void testIncreasesWhenSaturatedAndFast() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 1, 1, 10, 2.0, 0.5);
+
+        // limit 1에서 자리를 다 쓰는 빠른 응답 → +1/limit
+        for (int i = 0; i < 3; i++) {
+            assertTrue(limiter.tryAcquire());
+            limiter.onSuccess(FAST);
+        }
+
+        assertTrue(limiter.getLimit() > 1);
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    void testDoesNotIncreaseWhenIdle() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 4, 1, 10, 2.0, 0.5);
+
+        for (int i = 0; i < 20; i++) {
+            assertTrue(limiter.tryAcquire());
+            limiter.onSuccess(FAST);
+        }
+
+        assertEquals(4, limiter.getLimit());
+    }
+
+    @Test
+    void testNeverExceedsMaxLimit() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 2, 1, 2, 2.0, 0.5);
+
+        for (int i = 0; i < 20; i++) {
+            assertTrue(limiter.tryAcquire());
+            assertTrue(limiter.tryAcquire());
+            limiter.onSuccess(FAST);
+            limiter.onSuccess(FAST);
+        }
+
+        assertEquals(2, limiter.getLimit());
+    }
+
+    @Test
+    void testDecreasesOnSlowResponse() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 8, 1, 10, 2.0, 0.5);
+        assertTrue(limiter.tryAcquire());
+        limiter.onSuccess(FAST);
+
+        assertTrue(limiter.tryAcquire());
+        limiter.onSuccess(SLOW);
+
+        assertEquals(4, limiter.getLimit());
+    }
+
+    @Test
+    void testDecreasesOnDropButNotBelowMin() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 2, 2, 10, 2.0, 0.5);
+
+        assertTrue(limiter.tryAcquire());
+        limiter.onDropped();
+
+        assertEquals(2, limiter.getLimit());
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    void testBurstOfDropsDecreasesOnce() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 8, 1, 10, 2.0, 0.5);
+        // 기준 지연 시간을 길게 잡아 둠 (이 시간 안의 실패는 한 번만 반영)
+        assertTrue(limiter.tryAcquire());
+        limiter.onSuccess(60_000_000_000L);
+
+        for (int i = 0; i < 4; i++) {
+            assertTrue(limiter.tryAcquire());
+        }
+        for (int i = 0; i < 4; i++) {
+            limiter.onDropped();
+        }
+
+        assertEquals(4, limiter.getLimit());
+    }
+
+    @Test
+    void testInfiniteToleranceIgnoresLatency() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(
+                "test", 4, 1, 10, Double.POSITIVE_INFINITY, 0.5);
+        assertTrue(limiter.tryAcquire());
+        limiter.onSuccess(FAST);
+
+        assertTrue(limiter.tryAcquire());
+        limiter.onSuccess(SLOW * 100);
+
+        assertEquals(4, limiter.getLimit());
+    }
+}
@@ -0,0 +1,108 @@
+package com.archiveat.server.global.client;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CircuitBreaker 테스트
+ */
+class CircuitBreakerTest {
+
+    @Test
+    void testOpensAfterConsecutiveFailures() {
+        CircuitBreaker breaker = new CircuitBreaker("test", 3, Duration.ofSeconds(30));
+
+        breaker.onFailure();
+        breaker.onFailure();
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+
+        breaker.onFailure();
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquirePermission());
+        assertFalse(breaker.isCallPermitted());
+        assertTrue(breaker.getRemainingOpenDuration().compareTo(Duration.ZERO) > 0);
+    }
+
+    @Test
+    void testSuccessResetsConsecutiveFailures() {
+        CircuitBreaker breaker = new CircuitBreaker("test", 2, Duration.ofSeconds(30));
+
+        breaker.onFailure();
+        breaker.onSuccess();
+        breaker.onFailure();
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    void testHalfOpenAllowsSingleProbe() {
+        CircuitBreaker breaker = openedBreaker();
+
+        // openDuration이 지나면 확인 요청 1건만 허용
+        assertTrue(breaker.isCallPermitted());
+        assertTrue(breaker.tryAcquirePermission());
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        assertFalse(breaker.isCallPermitted());
+        assertFalse(breaker.tryAcquirePermission());
+    }
+
+    @Test
+    void testProbeSuccessCloses() {
+        CircuitBreaker breaker = openedBreaker();
+        assertTrue(breaker.tryAcquirePermission());
+
+        breaker.onSuccess();
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertTrue(breaker.tryAcquirePermission());
+        assertTrue(breaker.tryAcquirePermission());
+    }
+
+    @Test
+    void testProbeFailureReopens() {
+        CircuitBreaker breaker = new CircuitBreaker("test", 3, Duration.ZERO);
+        breaker.onFailure();
+        breaker.onFailure();
+        breaker.onFailure();
+        assertTrue(breaker.tryAcquirePermission());
+
+        // HALF_OPEN에서는 한 번의 실패로 다시 OPEN
+        breaker.onFailure();
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+    }
+
+    @Test
+    void testCancelledProbeReleasesSlot() {
+        CircuitBreaker breaker = openedBreaker();
+        assertTrue(breaker.tryAcquirePermission());
+
+        breaker.onCancel();
+
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        assertTrue(breaker.tryAcquirePermission());
+    }
+
+    @Test
+    void testIsCallPermittedDoesNotTakeProbeSlot() {
+        CircuitBreaker breaker = openedBreaker();
+
+        assertTrue(breaker.isCallPermitted());
+        assertTrue(breaker.isCallPermitted());
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertTrue(breaker.tryAcquirePermission());
+    }
+
+    /**
+     * openDuration 0으로 열어, 바로 HALF_OPEN 확인 요청을 보낼 수 있는 브레이커
+     */
+    private static CircuitBreaker openedBreaker() {
+        CircuitBreaker breaker = new CircuitBreaker("test", 1, Duration.ZERO);
+        breaker.onFailure();
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        return breaker;
+    }
+}
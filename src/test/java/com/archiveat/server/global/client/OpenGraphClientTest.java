@@ -0,0 +1,155 @@
+package com.archiveat.server.global.client;
+
+import com.archiveat.server.global.client.OpenGraphClient.OpenGraphMetadata;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * OpenGraphClient 테스트
+ * 로컬 스텁 서버(JDK HttpServer)로 파싱, 크기 제한, 타임아웃, 리다이렉트, 내부망 차단을 확인합니다.
+ */
+class OpenGraphClientTest {
+
+    private static final int MAX_BYTES = 4096;
+
+    private final AtomicInteger requests = new AtomicInteger();
+
+    private HttpServer server;
+    private String baseUrl;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/article", exchange -> respond(exchange, 200, "text/html; charset=utf-8", """
+                <html><head>
+                <meta property="og:title" content="Spring &amp; Reactor 정리">
+                <meta content="/images/thumb.png" property="og:image">
+                <title>Fallback</title>
+                </head><body>...</body></html>
+                """));
+        server.createContext("/plain", exchange -> respond(exchange, 200, "text/html", """
+                <html><head><title> 제목만 있는 글 </title></head></html>
+                """));
+        server.createContext("/large", exchange -> respond(exchange, 200, "text/html",
+                "<html><head>" + "<!-- padding -->".repeat(MAX_BYTES / 8)
+                        + "<meta property=\"og:title\" content=\"Too late\"></head></html>"));
+        server.createContext("/slow", exchange -> {
+            try {
+                Thread.sleep(2000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            respond(exchange, 200, "text/html", "<title>Slow</title>");
+        });
+        server.createContext("/moved", exchange -> {
+            exchange.getResponseHeaders().add("Location", "/article");
+            respond(exchange, 301, "text/html", "");
+        });
+        server.createContext("/image", exchange -> respond(exchange, 200, "image/png", "not html"));
+        server.start();
+
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void testOpenGraphTags() {
+        OpenGraphMetadata metadata = client(true).fetch(baseUrl + "/article").block(Duration.ofSeconds(5));
+
+        assertNotNull(metadata);
+        assertEquals("Spring & Reactor 정리", metadata.title());
+        // 상대 경로 이미지는 페이지 주소 기준으로
+        assertEquals(baseUrl + "/images/thumb.png", metadata.imageUrl());
+    }
+
+    @Test
+    void testTitleTagFallback() {
+        OpenGraphMetadata metadata = client(true).fetch(baseUrl + "/plain").block(Duration.ofSeconds(5));
+
+        assertNotNull(metadata);
+        assertEquals("제목만 있는 글", metadata.title());
+        assertNull(metadata.imageUrl());
+    }
+
+    @Test
+    void testReadsOnlyUpToMaxBytes() {
+        assertNull(client(true).fetch(baseUrl + "/large").block(Duration.ofSeconds(5)));
+    }
+
+    @Test
+    void testTimeout() {
+        long start = System.nanoTime();
+        OpenGraphMetadata metadata = new OpenGraphClient(WebClient.create(), MAX_BYTES, Duration.ofMillis(300), true)
+                .fetch(baseUrl + "/slow")
+                .block(Duration.ofSeconds(5));
+
+        assertNull(metadata);
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).compareTo(Duration.ofSeconds(1)) < 0);
+    }
+
+    @Test
+    void testFollowsRedirect() {
+        OpenGraphMetadata metadata = client(true).fetch(baseUrl + "/moved").block(Duration.ofSeconds(5));
+
+        assertNotNull(metadata);
+        assertEquals("Spring & Reactor 정리", metadata.title());
+    }
+
+    @Test
+    void testIgnoresNonHtml() {
+        assertNull(client(true).fetch(baseUrl + "/image").block(Duration.ofSeconds(5)));
+    }
+
+    @Test
+    void testRejectsPrivateAddress() {
+        assertNull(client(false).fetch(baseUrl + "/article").block(Duration.ofSeconds(5)));
+        assertEquals(0, requests.get());
+    }
+
+    @Test
+    void testRejectsHostNameResolvingToPrivateAddress() {
+        // 설정과 같은 조회기: 호스트 이름은 연결할 때 조회한 주소로 검사
+        HttpClient httpClient = HttpClient.create().resolver(PublicAddressResolverGroup.INSTANCE);
+        WebClient webClient = WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+        OpenGraphClient client = new OpenGraphClient(webClient, MAX_BYTES, Duration.ofSeconds(2), false);
+
+        String url = "http://localhost:" + server.getAddress().getPort() + "/article";
+        assertNull(client.fetch(url).block(Duration.ofSeconds(5)));
+        assertEquals(0, requests.get());
+    }
+
+    private OpenGraphClient client(boolean allowPrivateAddresses) {
+        return new OpenGraphClient(WebClient.create(), MAX_BYTES, Duration.ofSeconds(2), allowPrivateAddresses);
+    }
+
+    private void respond(HttpExchange exchange, int status, String contentType, String body) throws IOException {
+        requests.incrementAndGet();
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", contentType);
+        exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
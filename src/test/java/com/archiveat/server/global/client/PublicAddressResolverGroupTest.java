@@ -0,0 +1,47 @@
+package com.archiveat.server.global.client;
+
+import org.junit.jupiter.api.Test;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * PublicAddressResolverGroup 테스트 (내부망 주소 판별)
+ */
+class PublicAddressResolverGroupTest {
+
+    @Test
+    void testPrivateIpv4RangesAreRejected() throws UnknownHostException {
+        for (String address : new String[]{"127.0.0.1", "10.0.0.1", "172.16.0.1", "192.168.1.1", "169.254.169.254",
+                "0.0.0.0", "224.0.0.1"}) {
+            assertFalse(PublicAddressResolverGroup.isPublic(InetAddress.getByName(address)), address);
+        }
+    }
+
+    @Test
+    void testCarrierGradeNatRangeIsRejected() throws UnknownHostException {
+        assertFalse(PublicAddressResolverGroup.isPublic(InetAddress.getByName("100.64.0.1")));
+        assertFalse(PublicAddressResolverGroup.isPublic(InetAddress.getByName("100.127.255.254")));
+        // 100.64.0.0/10 바깥
+        assertTrue(PublicAddressResolverGroup.isPublic(InetAddress.getByName("100.63.255.255")));
+        assertTrue(PublicAddressResolverGroup.isPublic(InetAddress.getByName("100.128.0.1")));
+    }
+
+    @Test
+    void testIpv6UniqueLocalRangeIsRejected() throws UnknownHostException {
+        assertFalse(PublicAddressResolverGroup.isPublic(InetAddress.getByName("fc00::1")));
+        assertFalse(PublicAddressResolverGroup.isPublic(InetAddress.getByName("fd12:3456::1")));
+        assertFalse(PublicAddressResolverGroup.isPublic(InetAddress.getByName("::1")));
+        assertFalse(PublicAddressResolverGroup.isPublic(InetAddress.getByName("fe80::1")));
+        // IPv4 매핑 주소는 IPv4로 판별
+        assertFalse(PublicAddressResolverGroup.isPublic(InetAddress.getByName("::ffff:10.0.0.1")));
+    }
+
+    @Test
+    void testPublicAddressesAreAllowed() throws UnknownHostException {
+        assertTrue(PublicAddressResolverGroup.isPublic(InetAddress.getByName("8.8.8.8")));
+        assertTrue(PublicAddressResolverGroup.isPublic(InetAddress.getByName("2001:4860:4860::8888")));
+    }
+}
@@ -0,0 +1,206 @@
+package com.archiveat.server.global.client;
+
+import com.archiveat.server.domain.newsletter.dto.request.SummarizeNaverNewsRequest;
+import com.archiveat.server.domain.newsletter.dto.response.PythonSummaryResponse;
+import com.archiveat.server.global.exception.PythonBatchFailedException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * PythonBatchingDispatcher 테스트
+ * 로컬 스텁 서버(JDK HttpServer)로 배치 계약(/batch 요청/응답 형식)을 확인합니다.
+ */
+class PythonBatchingDispatcherTest {
+
+    private static final String BATCH_PATH = PythonEndpoint.NAVER_NEWS.getPath() + "/batch";
+    // 응답하지 않는 묶음 엔드포인트
+    private static final String HANGING_BATCH_PATH = PythonEndpoint.TISTORY.getPath() + "/batch";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicInteger batchRequests = new AtomicInteger();
+    private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+
+    private HttpServer server;
+    private PythonReplicaPool replicaPool;
+    private PythonEndpointGuard endpointGuard;
+    private WebClient webClient;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext(BATCH_PATH, this::handleBatch);
+        server.createContext(HANGING_BATCH_PATH, this::hang);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+
+        webClient = WebClient.create();
+        replicaPool = new PythonReplicaPool(webClient);
+        ReflectionTestUtils.setField(replicaPool, "replicaUrls",
+                "http://127.0.0.1:" + server.getAddress().getPort());
+        ReflectionTestUtils.setField(replicaPool, "failureThreshold", 3);
+        replicaPool.init();
+
+        endpointGuard = new PythonEndpointGuard();
+        ReflectionTestUtils.setField(endpointGuard, "failureThreshold", 2);
+        ReflectionTestUtils.setField(endpointGuard, "openSeconds", 30L);
+        endpointGuard.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void testRequestsWithinWindowAreSentAsOneBatch() {
+        PythonBatchingDispatcher dispatcher = dispatcher(16, Duration.ofMillis(200));
+
+        List<PythonSummaryResponse> responses = Mono.zip(
+                        dispatcher.submit(PythonEndpoint.NAVER_NEWS, request("https://a.com")),
+                        dispatcher.submit(PythonEndpoint.NAVER_NEWS, request("https://b.com")),
+                        dispatcher.submit(PythonEndpoint.NAVER_NEWS, request("https://c.com")))
+                .map(tuple -> List.of(tuple.getT1(), tuple.getT2(), tuple.getT3()))
+                .block(Duration.ofSeconds(5));
+
+        assertEquals(1, batchRequests.get());
+        assertEquals(List.of(3), batchSizes);
+        // 결과는 요청 순서대로 각 호출자에게
+        assertEquals("https://a.com", responses.get(0).getArticleInfo().getContentUrl());
+        assertEquals("https://b.com", responses.get(1).getArticleInfo().getContentUrl());
+        assertEquals("https://c.com", responses.get(2).getArticleInfo().getContentUrl());
+        assertEquals(0, replicaPool.getReplicas().get(0).getOutstanding());
+    }
+
+    @Test
+    void testFullBatchIsSentWithoutWaitingForWindow() {
+        PythonBatchingDispatcher dispatcher = dispatcher(2, Duration.ofSeconds(30));
+
+        long start = System.nanoTime();
+        Mono.zip(
+                        dispatcher.submit(PythonEndpoint.NAVER_NEWS, request("https://a.com")),
+                        dispatcher.submit(PythonEndpoint.NAVER_NEWS, request("https://b.com")))
+                .block(Duration.ofSeconds(5));
+
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).compareTo(Duration.ofSeconds(5)) < 0);
+        assertEquals(List.of(2), batchSizes);
+    }
+
+    @Test
+    void testItemErrorIsDeliveredOnlyToItsCaller() {
+        PythonBatchingDispatcher dispatcher = dispatcher(16, Duration.ofMillis(100));
+
+        Mono<PythonSummaryResponse> ok = dispatcher.submit(PythonEndpoint.NAVER_NEWS, request("https://a.com"));
+        Mono<PythonSummaryResponse> bad = dispatcher.submit(PythonEndpoint.NAVER_NEWS, request("invalid"));
+
+        Mono.zip(
+                        ok.map(response -> response.getArticleInfo().getContentUrl()),
+                        bad.map(response -> "unexpected").onErrorResume(e -> Mono.just(e.getClass().getSimpleName())))
+                .doOnNext(tuple -> {
+                    assertEquals("https://a.com", tuple.getT1());
+                    // 단건 호출과 같은 예외 타입이라 재시도/실패 분류가 그대로 동작
+                    assertEquals(WebClientResponseException.BadRequest.class.getSimpleName(), tuple.getT2());
+                })
+                .block(Duration.ofSeconds(5));
+
+        assertEquals(1, batchRequests.get());
+    }
+
+    @Test
+    void testHangingBatchTimesOutAndCountsOneBreakerFailure() {
+        PythonBatchingDispatcher dispatcher = dispatcher(16, Duration.ofMillis(50));
+
+        List<Throwable> errors = Mono.zip(
+                        failure(dispatcher.submit(PythonEndpoint.TISTORY, request("https://a.com"))),
+                        failure(dispatcher.submit(PythonEndpoint.TISTORY, request("https://b.com"))),
+                        failure(dispatcher.submit(PythonEndpoint.TISTORY, request("https://c.com"))))
+                .map(tuple -> List.of(tuple.getT1(), tuple.getT2(), tuple.getT3()))
+                .block(Duration.ofSeconds(5));
+
+        // 묶음 타임아웃이 모든 호출자에게 전달되고 레플리카 자리도 반납됨
+        errors.forEach(error -> assertInstanceOf(PythonBatchFailedException.class, error));
+        assertEquals(0, replicaPool.getReplicas().get(0).getOutstanding());
+        // 항목 3개가 실패했지만 묶음 한 번의 실패로만 기록 (threshold 2에 도달하지 않음)
+        assertEquals(CircuitBreaker.State.CLOSED, endpointGuard.getState(PythonEndpoint.TISTORY));
+    }
+
+    /**
+     * 스텁 배치 엔드포인트: URL이 http로 시작하지 않으면 그 항목만 400
+     */
+    private void handleBatch(HttpExchange exchange) throws IOException {
+        batchRequests.incrementAndGet();
+        JsonNode body = objectMapper.readTree(exchange.getRequestBody());
+        JsonNode items = body.get("items");
+        batchSizes.add(items.size());
+
+        ObjectNode response = objectMapper.createObjectNode();
+        ArrayNode results = response.putArray("results");
+        for (JsonNode item : items) {
+            String url = item.get("url").asText();
+            ObjectNode result = results.addObject();
+            if (!url.startsWith("http")) {
+                result.put("status", 400);
+                result.put("error", "Invalid URL: " + url);
+                continue;
+            }
+            ObjectNode articleInfo = result.putObject("result").putObject("article_info");
+            articleInfo.put("title", "Title of " + url);
+            articleInfo.put("content_url", url);
+        }
+
+        byte[] bytes = objectMapper.writeValueAsString(response).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private void hang(HttpExchange exchange) {
+        try {
+            Thread.sleep(5_000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private PythonBatchingDispatcher dispatcher(int maxBatchSize, Duration maxWait) {
+        Map<PythonEndpoint, Duration> timeouts = new EnumMap<>(PythonEndpoint.class);
+        timeouts.put(PythonEndpoint.NAVER_NEWS, Duration.ofSeconds(5));
+        timeouts.put(PythonEndpoint.TISTORY, Duration.ofMillis(300));
+        return new PythonBatchingDispatcher(webClient, replicaPool, endpointGuard, timeouts, maxBatchSize, maxWait);
+    }
+
+    private static Mono<Throwable> failure(Mono<PythonSummaryResponse> call) {
+        return call.<Throwable>map(response -> new AssertionError("expected failure"))
+                .onErrorResume(Mono::just);
+    }
+
+    private SummarizeNaverNewsRequest request(String url) {
+        return new SummarizeNaverNewsRequest(url, null);
+    }
+}
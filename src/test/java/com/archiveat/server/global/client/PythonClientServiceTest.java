@@ -0,0 +1,213 @@
+package com.archiveat.server.global.client;
+
+import com.archiveat.server.domain.newsletter.dto.response.PythonSummaryResponse;
+import com.archiveat.server.global.exception.PythonDeadlineExceededException;
+import com.archiveat.server.global.exception.PythonServerUnavailableException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * PythonClientService 테스트
+ * WebClient에 요청 순서대로 미리 정한 응답을 돌려주는 ExchangeFunction을 넣어 실제 네트워크 없이 확인합니다.
+ */
+class PythonClientServiceTest {
+
+    private final Queue<Mono<ClientResponse>> responses = new ConcurrentLinkedQueue<>();
+    private final List<String> requestedHosts = new CopyOnWriteArrayList<>();
+
+    private PythonEndpointGuard guard;
+    private PythonClientService pythonClientService;
+
+    @BeforeEach
+    void setUp() {
+        WebClient webClient = WebClient.builder()
+                .exchangeFunction(request -> {
+                    requestedHosts.add(request.url().getHost());
+                    Mono<ClientResponse> response = responses.poll();
+                    return response != null ? response : Mono.error(new IllegalStateException("Unexpected request"));
+                })
+                .build();
+
+        PythonReplicaPool pool = new PythonReplicaPool(webClient);
+        ReflectionTestUtils.setField(pool, "replicaUrls", "http://a:8000,http://b:8000");
+        ReflectionTestUtils.setField(pool, "failureThreshold", 3);
+        pool.init();
+
+        guard = new PythonEndpointGuard();
+        ReflectionTestUtils.setField(guard, "youtubeMaxConcurrent", 4);
+        ReflectionTestUtils.setField(guard, "naverNewsMaxConcurrent", 4);
+        ReflectionTestUtils.setField(guard, "tistoryMaxConcurrent", 4);
+        ReflectionTestUtils.setField(guard, "genericMaxConcurrent", 4);
+        ReflectionTestUtils.setField(guard, "bulkheadRetryAfterMs", 2000L);
+        ReflectionTestUtils.setField(guard, "initialLimit", 4);
+        ReflectionTestUtils.setField(guard, "minLimit", 1);
+        ReflectionTestUtils.setField(guard, "latencyTolerance", 2.0);
+        ReflectionTestUtils.setField(guard, "backoffRatio", 0.9);
+        ReflectionTestUtils.setField(guard, "failureThreshold", 5);
+        ReflectionTestUtils.setField(guard, "openSeconds", 30L);
+        guard.init();
+
+        pythonClientService = new PythonClientService(webClient, guard, pool);
+        ReflectionTestUtils.setField(pythonClientService, "hedgeEnabled", true);
+        ReflectionTestUtils.setField(pythonClientService, "hedgeDelayMs", 50L);
+        for (String endpoint : List.of("youtube", "naverNews", "tistory", "generic")) {
+            ReflectionTestUtils.setField(pythonClientService, endpoint + "TimeoutMs", 5000L);
+            ReflectionTestUtils.setField(pythonClientService, endpoint + "DeadlineMs", 30000L);
+        }
+        pythonClientService.init();
+    }
+
+    @Test
+    void testSlowRequestIsHedgedToOtherReplica() {
+        responses.add(summary("primary").delayElement(Duration.ofMillis(500)));
+        responses.add(summary("secondary"));
+
+        PythonSummaryResponse response = requestNaverNews();
+
+        assertEquals("secondary", response.getArticleInfo().getTitle());
+        assertEquals(2, requestedHosts.size());
+        assertNotEquals(requestedHosts.get(0), requestedHosts.get(1));
+    }
+
+    @Test
+    void testFastRequestIsNotHedged() {
+        responses.add(summary("primary"));
+
+        PythonSummaryResponse response = requestNaverNews();
+
+        assertEquals("primary", response.getArticleInfo().getTitle());
+        assertEquals(1, requestedHosts.size());
+    }
+
+    @Test
+    void testBothFailingSurfacesPrimaryError() {
+        // 원래 요청은 400(재시도하지 않음), 헤지 요청은 500으로 실패
+        responses.add(error(HttpStatus.BAD_REQUEST).delayElement(Duration.ofMillis(200)));
+        responses.add(error(HttpStatus.INTERNAL_SERVER_ERROR));
+
+        CompletionException thrown = assertThrows(CompletionException.class, this::requestNaverNews);
+
+        // firstWithValue의 NoSuchElementException이 아니라 원래 요청의 오류
+        WebClientResponseException cause = assertInstanceOf(WebClientResponseException.class, thrown.getCause());
+        assertEquals(HttpStatus.BAD_REQUEST, cause.getStatusCode());
+        assertEquals(2, requestedHosts.size());
+    }
+
+    @Test
+    void testYoutubeIsNotHedged() {
+        responses.add(summary("primary").delayElement(Duration.ofMillis(200)));
+
+        pythonClientService.requestYouTubeSummary("https://www.youtube.com/watch?v=abc", null).join();
+
+        assertEquals(1, requestedHosts.size());
+    }
+
+    @Test
+    void testAttemptTimeoutIsCappedByRemainingBudget() {
+        // 시도당 타임아웃(10초)보다 남은 예산(300ms)이 짧으면 예산에 맞춰 끊고, 남은 예산이 없으니 재시도하지 않음
+        budget(10_000L, 300L);
+        responses.add(Mono.never());
+
+        long startTime = System.nanoTime();
+        CompletionException thrown = assertThrows(CompletionException.class, this::requestNaverNews);
+
+        assertInstanceOf(TimeoutException.class, thrown.getCause());
+        assertTrue(Duration.ofNanos(System.nanoTime() - startTime).compareTo(Duration.ofSeconds(3)) < 0);
+        assertEquals(1, requestedHosts.size());
+    }
+
+    @Test
+    void testEndpointTimeoutAppliesWhenBudgetRemains() {
+        // 예산이 넉넉하면 시도마다 엔드포인트 타임아웃(100ms)으로 끊고 재시도
+        budget(100L, 30_000L);
+        responses.add(Mono.never());
+        responses.add(summary("retried"));
+
+        PythonSummaryResponse response = requestNaverNews();
+
+        assertEquals("retried", response.getArticleInfo().getTitle());
+        assertEquals(2, requestedHosts.size());
+    }
+
+    @Test
+    void testNoRetryStartsAfterBudgetIsSpent() {
+        // 첫 시도가 200ms에 끊긴 뒤 재시도 대기(최소 1초) 중에 예산(600ms)이 끝남
+        budget(200L, 600L);
+        responses.add(Mono.never());
+        responses.add(summary("too late"));
+
+        CompletionException thrown = assertThrows(CompletionException.class, this::requestNaverNews);
+
+        assertInstanceOf(PythonDeadlineExceededException.class, thrown.getCause());
+        assertEquals(1, requestedHosts.size());
+    }
+
+    @Test
+    void testBadRequestIsNotRetried() {
+        responses.add(error(HttpStatus.BAD_REQUEST));
+        responses.add(summary("retried"));
+
+        CompletionException thrown = assertThrows(CompletionException.class, this::requestNaverNews);
+
+        assertInstanceOf(WebClientResponseException.BadRequest.class, thrown.getCause());
+        assertEquals(1, requestedHosts.size());
+    }
+
+    @Test
+    void testUnavailableEndpointIsNotRetried() {
+        for (int i = 0; i < 5; i++) {
+            guard.withCircuitBreaker(PythonEndpoint.NAVER_NEWS, Mono.error(new TimeoutException()))
+                    .onErrorResume(error -> Mono.empty())
+                    .block();
+        }
+        responses.add(summary("retried"));
+
+        CompletionException thrown = assertThrows(CompletionException.class, this::requestNaverNews);
+
+        assertInstanceOf(PythonServerUnavailableException.class, thrown.getCause());
+        assertTrue(requestedHosts.isEmpty());
+    }
+
+    /**
+     * 네이버 뉴스 엔드포인트의 시도당 타임아웃과 전체 예산 (헤징은 끔)
+     */
+    private void budget(long timeoutMs, long deadlineMs) {
+        ReflectionTestUtils.setField(pythonClientService, "hedgeEnabled", false);
+        ReflectionTestUtils.setField(pythonClientService, "naverNewsTimeoutMs", timeoutMs);
+        ReflectionTestUtils.setField(pythonClientService, "naverNewsDeadlineMs", deadlineMs);
+        pythonClientService.init();
+    }
+
+    private PythonSummaryResponse requestNaverNews() {
+        return pythonClientService.requestNaverNewsSummary("https://n.news.naver.com/a", null, null).join();
+    }
+
+    private static Mono<ClientResponse> summary(String title) {
+        return Mono.just(ClientResponse.create(HttpStatus.OK)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body("{\"article_info\":{\"title\":\"" + title + "\"}}")
+                .build());
+    }
+
+    private static Mono<ClientResponse> error(HttpStatus status) {
+        return Mono.just(ClientResponse.create(status).build());
+    }
+}
@@ -0,0 +1,118 @@
+package com.archiveat.server.global.client;
+
+import com.archiveat.server.global.exception.PythonServerUnavailableException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * PythonEndpointGuard 테스트
+ */
+class PythonEndpointGuardTest {
+
+    private PythonEndpointGuard guard;
+
+    @BeforeEach
+    void setUp() {
+        guard = new PythonEndpointGuard();
+        ReflectionTestUtils.setField(guard, "youtubeMaxConcurrent", 2);
+        ReflectionTestUtils.setField(guard, "naverNewsMaxConcurrent", 2);
+        ReflectionTestUtils.setField(guard, "tistoryMaxConcurrent", 2);
+        ReflectionTestUtils.setField(guard, "genericMaxConcurrent", 2);
+        ReflectionTestUtils.setField(guard, "bulkheadRetryAfterMs", 2000L);
+        ReflectionTestUtils.setField(guard, "initialLimit", 1);
+        ReflectionTestUtils.setField(guard, "minLimit", 1);
+        ReflectionTestUtils.setField(guard, "latencyTolerance", 2.0);
+        ReflectionTestUtils.setField(guard, "backoffRatio", 0.9);
+        ReflectionTestUtils.setField(guard, "failureThreshold", 2);
+        ReflectionTestUtils.setField(guard, "openSeconds", 30L);
+        guard.init();
+    }
+
+    @Test
+    void testServerFailuresOpenOnlyThatEndpoint() {
+        for (int i = 0; i < 2; i++) {
+            call(guard.withCircuitBreaker(PythonEndpoint.YOUTUBE, Mono.error(serverError())));
+        }
+
+        assertEquals(CircuitBreaker.State.OPEN, guard.getState(PythonEndpoint.YOUTUBE));
+        assertEquals(CircuitBreaker.State.CLOSED, guard.getState(PythonEndpoint.NAVER_NEWS));
+        assertThrows(PythonServerUnavailableException.class, () -> guard.checkAvailable(PythonEndpoint.YOUTUBE));
+        assertDoesNotThrow(() -> guard.checkAvailable(PythonEndpoint.NAVER_NEWS));
+        assertEquals(0, guard.getAvailableSlots(PythonEndpoint.YOUTUBE, 0));
+
+        // OPEN이면 보내지 않고 바로 거절
+        assertInstanceOf(PythonServerUnavailableException.class,
+                call(guard.withCircuitBreaker(PythonEndpoint.YOUTUBE, Mono.just("ok"))));
+    }
+
+    @Test
+    void testClientErrorsDoNotOpenCircuit() {
+        for (int i = 0; i < 5; i++) {
+            call(guard.withCircuitBreaker(PythonEndpoint.GENERIC, Mono.error(clientError())));
+        }
+
+        assertEquals(CircuitBreaker.State.CLOSED, guard.getState(PythonEndpoint.GENERIC));
+    }
+
+    @Test
+    void testFullBulkheadRejectsWithoutWaiting() {
+        Sinks.One<String> pending = Sinks.one();
+        Disposable first = guard.withBulkhead(PythonEndpoint.TISTORY, pending.asMono()).subscribe();
+
+        assertThrows(PythonServerUnavailableException.class, () -> guard.checkAvailable(PythonEndpoint.TISTORY));
+        assertInstanceOf(PythonServerUnavailableException.class,
+                call(guard.withBulkhead(PythonEndpoint.TISTORY, Mono.just("ok"))));
+
+        // 취소되면 자리 반납
+        first.dispose();
+        assertDoesNotThrow(() -> guard.checkAvailable(PythonEndpoint.TISTORY));
+    }
+
+    @Test
+    void testBulkheadRejectionIsNotCountedAsFailure() {
+        Sinks.One<String> pending = Sinks.one();
+        Disposable first = guard.withBulkhead(PythonEndpoint.TISTORY, pending.asMono()).subscribe();
+
+        for (int i = 0; i < 3; i++) {
+            call(guard.withCircuitBreaker(PythonEndpoint.TISTORY,
+                    guard.withBulkhead(PythonEndpoint.TISTORY, Mono.just("ok"))));
+        }
+
+        assertEquals(CircuitBreaker.State.CLOSED, guard.getState(PythonEndpoint.TISTORY));
+        first.dispose();
+    }
+
+    @Test
+    void testAvailableSlotsSubtractInFlight() {
+        assertEquals(1, guard.getAvailableSlots(PythonEndpoint.NAVER_NEWS, 0));
+        assertEquals(0, guard.getAvailableSlots(PythonEndpoint.NAVER_NEWS, 1));
+        assertEquals(0, guard.getAvailableSlots(PythonEndpoint.NAVER_NEWS, 5));
+    }
+
+    private static Throwable call(Mono<?> mono) {
+        try {
+            mono.block(Duration.ofSeconds(5));
+            return null;
+        } catch (RuntimeException e) {
+            return e;
+        }
+    }
+
+    private static WebClientResponseException serverError() {
+        return WebClientResponseException.create(503, "Service Unavailable", HttpHeaders.EMPTY, new byte[0], null);
+    }
+
+    private static WebClientResponseException clientError() {
+        return WebClientResponseException.create(400, "Bad Request", HttpHeaders.EMPTY, new byte[0], null);
+    }
+}
@@ -0,0 +1,131 @@
+package com.archiveat.server.global.client;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * PythonReplicaPool 테스트
+ * 헬스 체크는 WebClient에 레플리카별 응답 상태를 돌려주는 ExchangeFunction을 넣어 확인합니다.
+ */
+class PythonReplicaPoolTest {
+
+    private final Map<String, HttpStatus> healthStatuses = new ConcurrentHashMap<>();
+
+    private PythonReplicaPool pool;
+    private PythonReplica a;
+    private PythonReplica b;
+    private PythonReplica c;
+
+    @BeforeEach
+    void setUp() {
+        WebClient webClient = WebClient.builder()
+                .exchangeFunction(request -> Mono.just(ClientResponse.create(
+                        healthStatuses.getOrDefault(request.url().getHost(), HttpStatus.OK)).build()))
+                .build();
+        pool = new PythonReplicaPool(webClient);
+        ReflectionTestUtils.setField(pool, "replicaUrls", "http://a:8000, http://b:8000/, http://c:8000");
+        ReflectionTestUtils.setField(pool, "healthCheckPath", "/health");
+        ReflectionTestUtils.setField(pool, "healthCheckTimeoutMs", 2000L);
+        ReflectionTestUtils.setField(pool, "failureThreshold", 3);
+        pool.init();
+
+        a = pool.getReplicas().get(0);
+        b = pool.getReplicas().get(1);
+        c = pool.getReplicas().get(2);
+    }
+
+    @Test
+    void testChoosesLeastOutstandingReplica() {
+        a.acquire();
+        a.acquire();
+        b.acquire();
+
+        for (int i = 0; i < 20; i++) {
+            assertSame(c, pool.choose());
+        }
+
+        c.acquire();
+        c.acquire();
+        assertSame(b, pool.choose());
+        assertEquals("http://b:8000", b.getBaseUrl());
+    }
+
+    @Test
+    void testConsecutiveFailuresTakeReplicaOutOfRotation() {
+        for (int i = 0; i < 2; i++) {
+            pool.onError(c, serverError());
+        }
+        assertTrue(c.isHealthy());
+
+        pool.onError(c, serverError());
+
+        assertFalse(c.isHealthy());
+        a.acquire();
+        b.acquire();
+        // 처리 중인 요청이 없어도 제외된 레플리카는 고르지 않음
+        for (int i = 0; i < 20; i++) {
+            assertNotSame(c, pool.choose());
+        }
+        assertTrue(pool.chooseExcluding(a).filter(replica -> replica == c).isEmpty());
+    }
+
+    @Test
+    void testClientErrorsAndSuccessResetDoNotRemoveReplica() {
+        pool.onError(c, serverError());
+        pool.onError(c, serverError());
+        pool.onSuccess(c);
+        pool.onError(c, serverError());
+        for (int i = 0; i < 5; i++) {
+            pool.onError(c, clientError());
+        }
+
+        assertTrue(c.isHealthy());
+    }
+
+    @Test
+    void testHealthCheckRestoresAndRemovesReplicas() {
+        for (int i = 0; i < 3; i++) {
+            pool.onError(c, serverError());
+        }
+        healthStatuses.put("b", HttpStatus.SERVICE_UNAVAILABLE);
+
+        pool.checkHealth();
+
+        // 헬스 체크가 통과하면 다시 포함, 5xx면 제외
+        assertTrue(c.isHealthy());
+        assertFalse(b.isHealthy());
+        assertTrue(a.isHealthy());
+    }
+
+    @Test
+    void testAllReplicasDownFallsBackToWholePool() {
+        for (PythonReplica replica : pool.getReplicas()) {
+            replica.markUnhealthy();
+        }
+        a.acquire();
+        b.acquire();
+
+        assertSame(c, pool.choose());
+        assertTrue(pool.chooseExcluding(c).isEmpty());
+    }
+
+    private static WebClientResponseException serverError() {
+        return WebClientResponseException.create(503, "Service Unavailable", HttpHeaders.EMPTY, new byte[0], null);
+    }
+
+    private static WebClientResponseException clientError() {
+        return WebClientResponseException.create(400, "Bad Request", HttpHeaders.EMPTY, new byte[0], null);
+    }
+}
@@ -0,0 +1,33 @@
+package com.archiveat.server.global.util;
+
+import com.archiveat.server.global.exception.CustomException;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CreatedAtCursor 테스트 (키셋 페이지네이션 커서 인코딩/디코딩)
+ */
+class CreatedAtCursorTest {
+
+    @Test
+    void testEncodeThenDecodeReturnsSamePosition() {
+        CreatedAtCursor cursor = new CreatedAtCursor(LocalDateTime.of(2025, 3, 1, 9, 30, 15, 123_456_000), 42L);
+
+        assertEquals(cursor, CreatedAtCursor.decode(cursor.encode()));
+    }
+
+    @Test
+    void testEmptyCursorIsFirstPage() {
+        assertEquals(CreatedAtCursor.FIRST, CreatedAtCursor.decode(null));
+        assertEquals(CreatedAtCursor.FIRST, CreatedAtCursor.decode(""));
+    }
+
+    @Test
+    void testMalformedCursorIsRejected() {
+        assertThrows(CustomException.class, () -> CreatedAtCursor.decode("not-a-cursor"));
+        assertThrows(CustomException.class, () -> CreatedAtCursor.decode("%%%"));
+    }
+}
@@ -0,0 +1,38 @@
+package com.archiveat.server.global.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ETags 테스트 (조건부 GET용 강한 ETag 생성)
+ */
+class ETagsTest {
+
+    @Test
+    void testSamePartsProduceSameTag() {
+        LocalDateTime modifiedAt = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+        assertEquals(ETags.of(1L, modifiedAt, "memo"), ETags.of(1L, modifiedAt, "memo"));
+    }
+
+    @Test
+    void testDifferentPartsProduceDifferentTag() {
+        LocalDateTime modifiedAt = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+        assertNotEquals(ETags.of(1L, modifiedAt, "memo"), ETags.of(1L, modifiedAt.plusNanos(1000), "memo"));
+        assertNotEquals(ETags.of(1L, modifiedAt, "memo"), ETags.of(1L, modifiedAt, null));
+    }
+
+    @Test
+    void testPartBoundariesAreNotAmbiguous() {
+        assertNotEquals(ETags.of("ab", "c"), ETags.of("a", "bc"));
+    }
+
+    @Test
+    void testTagIsUnquotedHex() {
+        assertTrue(ETags.of("x").matches("[0-9a-f]{32}"));
+    }
+}
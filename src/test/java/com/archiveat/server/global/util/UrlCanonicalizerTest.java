@@ -0,0 +1,65 @@
+package com.archiveat.server.global.util;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * UrlCanonicalizer 테스트
+ */
+class UrlCanonicalizerTest {
+
+    @Test
+    void testYouTubeUrls() {
+        String canonical = "https://www.youtube.com/watch?v=4I8fWk0k7Y8";
+
+        // 단축 URL, 재생 위치/추적 파라미터가 붙은 URL 모두 같은 형태로
+        assertEquals(canonical, UrlCanonicalizer.canonicalize("https://youtu.be/4I8fWk0k7Y8"));
+        assertEquals(canonical, UrlCanonicalizer.canonicalize("https://youtu.be/4I8fWk0k7Y8?si=abc&t=10"));
+        assertEquals(canonical, UrlCanonicalizer.canonicalize("https://www.youtube.com/watch?v=4I8fWk0k7Y8&t=10"));
+        assertEquals(canonical, UrlCanonicalizer.canonicalize("http://m.youtube.com/watch?feature=share&v=4I8fWk0k7Y8"));
+    }
+
+    @Test
+    void testNaverNewsUrls() {
+        String canonical = "https://n.news.naver.com/mnews/article/001/0012345678";
+
+        assertEquals(canonical, UrlCanonicalizer.canonicalize(
+                "https://news.naver.com/main/read.nhn?mode=LSD&mid=sec&sid1=105&oid=001&aid=0012345678"));
+        assertEquals(canonical, UrlCanonicalizer.canonicalize(
+                "https://n.news.naver.com/mnews/article/001/0012345678?sid=105"));
+        assertEquals(canonical, UrlCanonicalizer.canonicalize(
+                "https://n.news.naver.com/article/001/0012345678"));
+    }
+
+    @Test
+    void testBlogUrls() {
+        assertEquals("https://example.tistory.com/123",
+                UrlCanonicalizer.canonicalize("https://Example.tistory.com/123/?category=1#comment"));
+
+        assertEquals("https://brunch.co.kr/@username/123",
+                UrlCanonicalizer.canonicalize("https://brunch.co.kr/@username/123?utm_source=kakao"));
+    }
+
+    @Test
+    void testGeneralUrls() {
+        // 추적 파라미터 제거, 나머지 파라미터 정렬, fragment/기본 포트 제거
+        assertEquals("https://www.example.com/article?id=1&page=2",
+                UrlCanonicalizer.canonicalize(
+                        "https://WWW.example.com:443/article/?utm_source=x&page=2&fbclid=abc&id=1#top"));
+    }
+
+    @Test
+    void testInvalidUrls() {
+        assertEquals("invalid-url", UrlCanonicalizer.canonicalize(" invalid-url "));
+        assertNull(UrlCanonicalizer.canonicalize(null));
+    }
+
+    @Test
+    void testHash() {
+        String hash = UrlCanonicalizer.hash("https://www.youtube.com/watch?v=4I8fWk0k7Y8");
+
+        assertEquals(64, hash.length());
+        assertEquals(hash, UrlCanonicalizer.hash("https://www.youtube.com/watch?v=4I8fWk0k7Y8"));
+        assertNotEquals(hash, UrlCanonicalizer.hash("https://www.youtube.com/watch?v=XXXXXXXXXXX"));
+    }
+}
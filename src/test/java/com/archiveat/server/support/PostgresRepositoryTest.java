@@ -0,0 +1,66 @@
+package com.archiveat.server.support;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+
+import static com.archiveat.server.global.common.constant.DateTimeConstant.APP_ZONE;
+
+/**
+ * 네이티브 SQL 리포지토리 테스트 기반 클래스
+ *
+ * SKIP LOCKED, ON CONFLICT 등 PostgreSQL 문법을 그대로 확인하도록 실제 PostgreSQL 컨테이너에서 실행합니다.
+ * 스키마는 운영과 같이 엔티티로 생성(ddl-auto)하고, 픽스처는 JdbcTemplate으로 필요한 컬럼만 넣습니다.
+ * Docker가 없는 환경에서는 건너뜁니다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+public abstract class PostgresRepositoryTest {
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    protected JdbcTemplate jdbcTemplate;
+
+    protected Long insertUser(String email) {
+        return jdbcTemplate.queryForObject(
+                "INSERT INTO users (email, nickname) VALUES (?, ?) RETURNING id", Long.class, email, email);
+    }
+
+    protected Long insertNewsletter(String contentUrl, String llmStatus) {
+        return jdbcTemplate.queryForObject(
+                "INSERT INTO newsletters (content_url, content_url_hash, llm_status) VALUES (?, md5(?), ?) RETURNING id",
+                Long.class, contentUrl, contentUrl, llmStatus);
+    }
+
+    protected Long insertUserNewsletter(Long userId, Long newsletterId, boolean confirmed) {
+        return jdbcTemplate.queryForObject(
+                "INSERT INTO user_newsletters (user_id, newsletter_id, is_read, is_confirmed, created_at) " +
+                        "VALUES (?, ?, false, ?, ?) RETURNING id",
+                Long.class, userId, newsletterId, confirmed, LocalDateTime.now(APP_ZONE));
+    }
+
+    protected Long insertCategory(String name) {
+        return jdbcTemplate.queryForObject(
+                "INSERT INTO categories (name) VALUES (?) RETURNING id", Long.class, name);
+    }
+
+    protected Long insertTopic(Long categoryId, String name) {
+        return jdbcTemplate.queryForObject(
+                "INSERT INTO topics (category_id, name) VALUES (?, ?) RETURNING id", Long.class, categoryId, name);
+    }
+
+    protected void linkTopic(Long topicId, Long newsletterId) {
+        jdbcTemplate.update("INSERT INTO topic_newsletters (topic_id, newsletter_id) VALUES (?, ?)", topicId, newsletterId);
+    }
+}